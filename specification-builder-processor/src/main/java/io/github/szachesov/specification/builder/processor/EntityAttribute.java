@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.processor;
+
+import java.util.Locale;
+
+/**
+ * An attribute of an entity in a generated builder.
+ *
+ * @param name name of the attribute.
+ * @param typeFormat format of the type returned by the path method, the argument is the type of
+ *     the root.
+ * @param path the expression of the path, {@code parent} is the path of the owner.
+ */
+record EntityAttribute(String name, String typeFormat, String path) {
+
+  /** Returns the type returned by the path method from the given root. */
+  String type(final String root) {
+    return String.format(Locale.ROOT, typeFormat, root);
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/** Finds the persistent attributes of an entity and their kinds. */
+class EntityAttributes {
+
+  static final String ENTITY = "jakarta.persistence.Entity";
+
+  private static final String PERSISTENCE = "jakarta.persistence.";
+  private static final String MAPPED_SUPERCLASS = PERSISTENCE + "MappedSuperclass";
+  private static final Set<String> ASSOCIATIONS =
+      Set.of(
+          PERSISTENCE + "OneToOne",
+          PERSISTENCE + "ManyToOne",
+          PERSISTENCE + "OneToMany",
+          PERSISTENCE + "ManyToMany");
+  private static final String ELEMENT_COLLECTION = PERSISTENCE + "ElementCollection";
+
+  /** Attributes the specifications cannot traverse. */
+  private static final Set<String> SKIPPED =
+      Set.of(PERSISTENCE + "Transient", PERSISTENCE + "Embedded", PERSISTENCE + "EmbeddedId");
+
+  private static final String ACCESS = PERSISTENCE + "Access";
+  private static final Set<String> IDS = Set.of(PERSISTENCE + "Id", PERSISTENCE + "EmbeddedId");
+  private static final String PROPERTY = "PROPERTY";
+  private static final String FIELD = "FIELD";
+
+  private final Types types;
+  private final TypeElement comparableElement;
+
+  EntityAttributes(final ProcessingEnvironment environment) {
+    this.types = environment.getTypeUtils();
+    this.comparableElement =
+        environment.getElementUtils().getTypeElement(Comparable.class.getName());
+  }
+
+  /**
+   * Returns the attributes of the entity and its mapped superclasses, an attribute of a subclass
+   * hides the same one of a superclass.
+   *
+   * <p>The attributes are read from the fields or from the getters by the access type of JPA: the
+   * {@code @Access} of the class, otherwise the placement of the {@code @Id} in the hierarchy. An
+   * attribute with its own {@code @Access} is read from the other member kind too.
+   */
+  List<EntityAttribute> of(final TypeElement entity) {
+    final boolean propertyAccess = isPropertyAccess(entity);
+    final Map<String, EntityAttribute> attributes = new LinkedHashMap<>();
+    for (Optional<TypeElement> type = Optional.of(entity);
+        type.isPresent();
+        type = getPersistentSuperclass(type.get())) {
+      final boolean property = getAccess(type.get()).map(PROPERTY::equals).orElse(propertyAccess);
+      for (final Element member : type.get().getEnclosedElements()) {
+        getAttributeName(member, property)
+            .filter(name -> !attributes.containsKey(name))
+            .ifPresent(name -> toAttribute(member, name).ifPresent(a -> attributes.put(name, a)));
+      }
+    }
+    return new ArrayList<>(attributes.values());
+  }
+
+  /** Whether the {@code @Id} of the hierarchy is on a getter, by default it is on a field. */
+  private boolean isPropertyAccess(final TypeElement entity) {
+    for (Optional<TypeElement> type = Optional.of(entity);
+        type.isPresent();
+        type = getPersistentSuperclass(type.get())) {
+      for (final Element member : type.get().getEnclosedElements()) {
+        if (IDS.stream().anyMatch(a -> hasAnnotation(member, a))) {
+          return member.getKind() == ElementKind.METHOD;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the name of the attribute of a field or a getter, empty if the member is not read by
+   * the access type of its class.
+   *
+   * @param property whether the class has the property access.
+   */
+  private static Optional<String> getAttributeName(final Element member, final boolean property) {
+    final Optional<String> access = getAccess(member);
+    if (member instanceof VariableElement field && field.getKind() == ElementKind.FIELD) {
+      return property && !access.filter(FIELD::equals).isPresent()
+          ? Optional.empty()
+          : Optional.of(field.getSimpleName().toString());
+    }
+    if (member instanceof ExecutableElement method
+        && (property || access.filter(PROPERTY::equals).isPresent())) {
+      return getPropertyName(method);
+    }
+    return Optional.empty();
+  }
+
+  /** Returns the property of a getter, e.g. {@code firstName} of {@code getFirstName()}. */
+  private static Optional<String> getPropertyName(final ExecutableElement method) {
+    final String name = method.getSimpleName().toString();
+    final TypeKind type = method.getReturnType().getKind();
+    if (!method.getParameters().isEmpty() || type == TypeKind.VOID) return Optional.empty();
+
+    final int prefix;
+    if (name.startsWith("get") && name.length() > 3) {
+      prefix = 3;
+    } else if (name.startsWith("is") && name.length() > 2 && type == TypeKind.BOOLEAN) {
+      prefix = 2;
+    } else {
+      return Optional.empty();
+    }
+    return Optional.of(decapitalize(name.substring(prefix)));
+  }
+
+  /** Decapitalizes as JavaBeans: {@code Name} is {@code name}, {@code URL} stays {@code URL}. */
+  private static String decapitalize(final String name) {
+    if (name.length() > 1 && Character.isUpperCase(name.charAt(1))) return name;
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  /** Returns the value of {@code @Access} of the element, e.g. {@code PROPERTY}. */
+  private static Optional<String> getAccess(final Element element) {
+    return element.getAnnotationMirrors().stream()
+        .filter(m -> isAnnotation(m, ACCESS))
+        .flatMap(m -> m.getElementValues().values().stream())
+        .map(v -> v.getValue().toString())
+        .findFirst();
+  }
+
+  private Optional<TypeElement> getPersistentSuperclass(final TypeElement type) {
+    return Optional.of(type.getSuperclass())
+        .filter(DeclaredType.class::isInstance)
+        .map(t -> (TypeElement) types.asElement(t))
+        .filter(t -> hasAnnotation(t, ENTITY) || hasAnnotation(t, MAPPED_SUPERCLASS));
+  }
+
+  private Optional<EntityAttribute> toAttribute(final Element member, final String name) {
+    final Set<Modifier> modifiers = member.getModifiers();
+    if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+      return Optional.empty();
+    }
+    if (SKIPPED.stream().anyMatch(a -> hasAnnotation(member, a))) return Optional.empty();
+
+    final TypeMirror type =
+        member instanceof ExecutableElement getter ? getter.getReturnType() : member.asType();
+    if (ASSOCIATIONS.stream().anyMatch(a -> hasAnnotation(member, a))) {
+      return toAssociation(name, getElementType(type));
+    }
+    if (hasAnnotation(member, ELEMENT_COLLECTION)) {
+      return Optional.of(toBasic(name, getElementType(type), "ELEMENT_COLLECTION"));
+    }
+    return Optional.of(toBasic(name, type, "BASIC"));
+  }
+
+  private Optional<EntityAttribute> toAssociation(final String name, final TypeMirror target) {
+    final Element element = types.asElement(target);
+    if (!(element instanceof TypeElement entity) || !hasAnnotation(entity, ENTITY)) {
+      return Optional.empty();
+    }
+    final String specs = EntitySpecsWriter.getPathName(entity);
+    final String path =
+        "new " + specs + "<>(parent.attribute(\"" + name + "\", AttributeKind.ASSOCIATION))";
+    return Optional.of(new EntityAttribute(name, specs + "<%s>", path));
+  }
+
+  private EntityAttribute toBasic(final String name, final TypeMirror type, final String kind) {
+    final TypeMirror value =
+        type instanceof PrimitiveType primitive ? types.boxedClass(primitive).asType() : type;
+    final String rendered = render(value);
+    final String arguments = "(\"" + name + "\", AttributeKind." + kind + ")";
+    if (String.class.getName().equals(rendered)) {
+      return new EntityAttribute(name, "StringAttributePath<%s>", "parent.string" + arguments);
+    }
+    // The value must be Comparable<? super V> to be the type of ComparableAttributePath<R, V>.
+    final DeclaredType comparable =
+        types.getDeclaredType(comparableElement, types.getWildcardType(null, value));
+    if (types.isAssignable(value, comparable)) {
+      return new EntityAttribute(
+          name, "ComparableAttributePath<%s, " + rendered + ">", "parent.comparable" + arguments);
+    }
+    return new EntityAttribute(
+        name, "AttributePath<%s, " + rendered + ">", "parent.attribute" + arguments);
+  }
+
+  /** Returns the type of the elements of a collection, the type itself if it is not generic. */
+  private static TypeMirror getElementType(final TypeMirror type) {
+    if (type instanceof DeclaredType declared && !declared.getTypeArguments().isEmpty()) {
+      final List<? extends TypeMirror> arguments = declared.getTypeArguments();
+      return arguments.get(arguments.size() - 1);
+    }
+    return type;
+  }
+
+  /** Renders the type as source code, without type annotations. */
+  private String render(final TypeMirror type) {
+    if (type instanceof PrimitiveType primitive) {
+      return types.boxedClass(primitive).getQualifiedName().toString();
+    }
+    if (type instanceof ArrayType array) {
+      return render(array.getComponentType()) + "[]";
+    }
+    if (type instanceof DeclaredType declared) {
+      final String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+      final List<? extends TypeMirror> arguments = declared.getTypeArguments();
+      if (arguments.isEmpty()) return name;
+      return arguments.stream()
+          .map(this::render)
+          .collect(Collectors.joining(", ", name + "<", ">"));
+    }
+    return "?";
+  }
+
+  private static boolean hasAnnotation(final Element element, final String annotation) {
+    for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (isAnnotation(mirror, annotation)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isAnnotation(final AnnotationMirror mirror, final String annotation) {
+    final Element type = mirror.getAnnotationType().asElement();
+    return ((TypeElement) type).getQualifiedName().contentEquals(annotation);
+  }
+}
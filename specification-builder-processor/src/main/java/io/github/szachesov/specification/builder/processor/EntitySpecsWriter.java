@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.processor;
+
+import java.util.List;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Writes the source of the typed builder of an entity.
+ *
+ * <p>Example of the source for {@code User}:
+ *
+ * <pre>{@code
+ * public final class UserSpecs {
+ *   public static StringAttributePath<User> username() {...}
+ *   public static PostSpecs.Path<User> posts() {...}
+ *
+ *   public static final class Path<R> {
+ *     public StringAttributePath<R> username() {...}
+ *     public PostSpecs.Path<R> posts() {...}
+ *   }
+ * }
+ * }</pre>
+ */
+class EntitySpecsWriter {
+
+  private static final String SUFFIX = "Specs";
+  private static final String RUNTIME = "io.github.szachesov.specification.builder.";
+  private static final List<String> RUNTIME_CLASSES =
+      List.of("AttributeKind", "AttributePath", "ComparableAttributePath", "StringAttributePath");
+
+  private static final String HEADER =
+      """
+      import javax.annotation.processing.Generated;
+
+      /** Typed specification paths of {@link %1$s}. */
+      @Generated("%2$s")
+      public final class %3$s {
+
+        private static final Path<%1$s> ROOT = new Path<>(AttributePath.root());
+
+        private %3$s() {}
+      """;
+
+  private static final String ROOT_METHOD =
+      """
+
+        /** Path of {@code %1$s}. */
+        public static %2$s %1$s() {
+          return ROOT.%1$s();
+        }
+      """;
+
+  private static final String PATH_HEADER =
+      """
+
+        /**
+         * Paths of {@link %s} from the root {@code R}.
+         *
+         * @param <R> the type of the root.
+         */
+        public static final class Path<R> {
+
+          private final AttributePath<R, ?> parent;
+
+          /** Creates the paths of the attributes of the given path. */
+          public Path(final AttributePath<R, ?> parent) {
+            this.parent = parent;
+          }
+      """;
+
+  private static final String PATH_METHOD =
+      """
+
+          /** Path of {@code %1$s}. */
+          public %2$s %1$s() {
+            return %3$s;
+          }
+      """;
+
+  private final TypeElement entity;
+  private final List<EntityAttribute> attributes;
+
+  EntitySpecsWriter(final TypeElement entity, final List<EntityAttribute> attributes) {
+    this.entity = entity;
+    this.attributes = attributes;
+  }
+
+  /** Returns the qualified name of the path class of the builder of the entity. */
+  static String getPathName(final TypeElement entity) {
+    return getSpecsName(entity) + ".Path";
+  }
+
+  /** Returns the entity of the builder. */
+  TypeElement getEntity() {
+    return entity;
+  }
+
+  /** Returns the qualified name of the builder. */
+  String getQualifiedName() {
+    return getSpecsName(entity);
+  }
+
+  /** Returns the source of the builder. */
+  String write() {
+    final String type = entity.getQualifiedName().toString();
+    final StringBuilder source = new StringBuilder(4096);
+    final String packageName = getPackage(entity).getQualifiedName().toString();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    for (final String runtimeClass : RUNTIME_CLASSES) {
+      source.append("import ").append(RUNTIME).append(runtimeClass).append(";\n");
+    }
+    source.append(
+        HEADER.formatted(
+            type, SpecificationBuilderProcessor.class.getName(), entity.getSimpleName() + SUFFIX));
+    for (final EntityAttribute attribute : attributes) {
+      source.append(ROOT_METHOD.formatted(attribute.name(), attribute.type(type)));
+    }
+    source.append(PATH_HEADER.formatted(type));
+    for (final EntityAttribute attribute : attributes) {
+      source.append(PATH_METHOD.formatted(attribute.name(), attribute.type("R"), attribute.path()));
+    }
+    return source.append("  }\n}\n").toString();
+  }
+
+  private static String getSpecsName(final TypeElement entity) {
+    final String packageName = getPackage(entity).getQualifiedName().toString();
+    final String name = entity.getSimpleName() + SUFFIX;
+    return packageName.isEmpty() ? name : packageName + "." + name;
+  }
+
+  private static PackageElement getPackage(final Element element) {
+    Element current = element;
+    while (!(current instanceof PackageElement)) {
+      current = current.getEnclosingElement();
+    }
+    return (PackageElement) current;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a typed specification builder per JPA entity, e.g. {@code UserSpecs} for {@code
+ * User}, next to the JPA static metamodel.
+ *
+ * <p>Example: {@code builder.add(UserSpecs.posts().rating().min(3))}
+ *
+ * <p>The generated paths carry the names and kinds of the traversed attributes, so the
+ * specifications neither parse column names nor inspect the entity classes by reflection.
+ */
+@SupportedAnnotationTypes(EntityAttributes.ENTITY)
+public class SpecificationBuilderProcessor extends AbstractProcessor {
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    final EntityAttributes attributes = new EntityAttributes(processingEnv);
+    for (final TypeElement annotation : annotations) {
+      for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element instanceof TypeElement entity) {
+          write(entity, attributes.of(entity));
+        }
+      }
+    }
+    // The entities are left to the other processors, e.g. the JPA metamodel generator.
+    return false;
+  }
+
+  private void write(final TypeElement entity, final List<EntityAttribute> attributes) {
+    final EntitySpecsWriter writer = new EntitySpecsWriter(entity, attributes);
+    try {
+      final JavaFileObject file =
+          processingEnv.getFiler().createSourceFile(writer.getQualifiedName(), writer.getEntity());
+      try (Writer out = file.openWriter()) {
+        out.write(writer.write());
+      }
+    } catch (final IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Diagnostic.Kind.ERROR, e.getMessage(), writer.getEntity());
+    }
+  }
+}
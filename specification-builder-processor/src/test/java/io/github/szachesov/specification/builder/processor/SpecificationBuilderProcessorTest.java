@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpecificationBuilderProcessorTest {
+
+  private static final String OWNER =
+      """
+      package sample;
+
+      import jakarta.persistence.*;
+
+      @Entity
+      public class Owner {
+        @Id private Long id;
+        private String name;
+
+        public String getAlias() {
+          return name;
+        }
+
+        @Access(AccessType.PROPERTY)
+        public String getCode() {
+          return name;
+        }
+      }
+      """;
+
+  private static final String ACCOUNT =
+      """
+      package sample;
+
+      import jakarta.persistence.*;
+
+      @Entity
+      public class Account {
+        private Long id;
+        private String fullName;
+        private boolean active;
+        private Owner owner;
+        @Access(AccessType.FIELD) private Integer version;
+
+        @Id
+        public Long getId() {
+          return id;
+        }
+
+        public String getFullName() {
+          return fullName;
+        }
+
+        public boolean isActive() {
+          return active;
+        }
+
+        @ManyToOne
+        public Owner getOwner() {
+          return owner;
+        }
+
+        @Transient
+        public String getDisplayName() {
+          return fullName;
+        }
+
+        public String getURL() {
+          return fullName;
+        }
+
+        public void setFullName(final String fullName) {
+          this.fullName = fullName;
+        }
+      }
+      """;
+
+  @TempDir private Path directory;
+
+  @Test
+  void process_readGetters_byIdOnGetter() throws IOException {
+    final String source = generate("AccountSpecs");
+
+    assertThat(source)
+        .contains("public static ComparableAttributePath<sample.Account, java.lang.Long> id()")
+        .contains("public static StringAttributePath<sample.Account> fullName()")
+        .contains("ComparableAttributePath<sample.Account, java.lang.Boolean> active()")
+        .contains("public static sample.OwnerSpecs.Path<sample.Account> owner()")
+        .contains("public static StringAttributePath<sample.Account> URL()")
+        .contains("ComparableAttributePath<sample.Account, java.lang.Integer> version()")
+        .doesNotContain("displayName()");
+  }
+
+  @Test
+  void process_readFieldsAndAnnotatedGetters_byIdOnField() throws IOException {
+    final String source = generate("OwnerSpecs");
+
+    assertThat(source)
+        .contains("public static StringAttributePath<sample.Owner> name()")
+        .contains("public static StringAttributePath<sample.Owner> code()")
+        .doesNotContain("alias()");
+  }
+
+  /** Runs the processor on the sample entities and returns the source of the given builder. */
+  private String generate(final String specs) throws IOException {
+    final Path sources = Files.createDirectories(directory.resolve("sample"));
+    Files.writeString(sources.resolve("Owner.java"), OWNER);
+    Files.writeString(sources.resolve("Account.java"), ACCOUNT);
+    final Path generated = Files.createDirectories(directory.resolve("generated"));
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager files =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      final List<String> options =
+          List.of(
+              "-proc:only",
+              "-processor",
+              SpecificationBuilderProcessor.class.getName(),
+              "-s",
+              generated.toString(),
+              "-classpath",
+              System.getProperty("java.class.path"));
+      // The generated sources reference the runtime of the library, which is not on the classpath,
+      // so the errors of their compilation are collected and ignored.
+      compiler
+          .getTask(
+              null,
+              files,
+              new DiagnosticCollector<>(),
+              options,
+              null,
+              files.getJavaFileObjects(
+                  sources.resolve("Owner.java"), sources.resolve("Account.java")))
+          .call();
+    }
+    return Files.readString(generated.resolve("sample").resolve(specs + ".java"));
+  }
+}
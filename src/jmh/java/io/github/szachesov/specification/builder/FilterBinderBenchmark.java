@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Binding of a filter object to {@link SpecificationBuilder}: handwritten builder calls, {@link
+ * FilterBinder} with the accessors compiled once per filter class and a naive binder reading the
+ * annotations and the fields through reflection on each call.
+ *
+ * <p>Run with the GC profiler to track the allocation per operation: {@code ./gradlew jmh
+ * -PjmhIncludes=FilterBinderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBinderBenchmark {
+
+  private final PostFilter filter = new PostFilter("user42@user.com", "Post 42", 10, 100);
+  private final FilterBinder<PostFilter> binder = FilterBinder.of(PostFilter.class);
+
+  @Benchmark
+  public SpecificationBuilder<Post> handwritten() {
+    return SpecificationBuilder.<Post>builder()
+        .equal(List.of(Post_.AUTHOR, User_.USERNAME), filter.author())
+        .like(List.of(Post_.TITLE), filter.title(), b -> b.wildcard(Wildcard.MULTIPLE))
+        .min(List.of(Post_.WORD_COUNT), filter.minWords(), b -> b.minBound(Bound.INCLUSIVE))
+        .max(List.of(Post_.WORD_COUNT), filter.maxWords(), b -> b.maxBound(Bound.INCLUSIVE));
+  }
+
+  @Benchmark
+  public SpecificationBuilder<Post> compiled() {
+    return binder.bind(SpecificationBuilder.builder(), filter);
+  }
+
+  @Benchmark
+  public SpecificationBuilder<Post> reflective() throws IllegalAccessException {
+    return ReflectiveBinder.bind(SpecificationBuilder.builder(), filter);
+  }
+
+  record PostFilter(
+      @Equal("author.username") String author,
+      @Like(wildcard = Wildcard.MULTIPLE) String title,
+      @Range(column = "wordCount") Integer minWords,
+      @Range(column = "wordCount", end = Range.End.MAX) Integer maxWords) {}
+
+  /** Binder looking up the annotations and reading the fields reflectively per filter. */
+  static final class ReflectiveBinder {
+
+    private ReflectiveBinder() {}
+
+    static <T> SpecificationBuilder<T> bind(
+        final SpecificationBuilder<T> builder, final Object filter)
+        throws IllegalAccessException {
+      for (final Field field : filter.getClass().getDeclaredFields()) {
+        field.setAccessible(true);
+        final Object value = field.get(filter);
+        final Equal equal = field.getAnnotation(Equal.class);
+        if (equal != null) {
+          builder.equal(columns(equal.value(), field), value);
+        }
+        final Like like = field.getAnnotation(Like.class);
+        if (like != null) {
+          builder.like(
+              columns(like.value(), field), (String) value, b -> b.wildcard(like.wildcard()));
+        }
+        final Range range = field.getAnnotation(Range.class);
+        // The benchmark filter has Integer ranges only.
+        if (range != null && range.end() == Range.End.MIN) {
+          builder.min(
+              columns(range.column(), field), (Integer) value, b -> b.minBound(range.bound()));
+        } else if (range != null) {
+          builder.max(
+              columns(range.column(), field), (Integer) value, b -> b.maxBound(range.bound()));
+        }
+      }
+      return builder;
+    }
+
+    private static List<String> columns(final String path, final Field field) {
+      return List.of((path.isEmpty() ? field.getName() : path).split("\\."));
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.benchutils.CriteriaBuilderState;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import jakarta.persistence.criteria.Predicate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link InSpecification} with 10 to 10 000 values: the construction of the builder, {@link
+ * SpecificationBuilder#build()} and {@link BuiltSpecification#toPredicate} against the criteria
+ * builder of Hibernate.
+ *
+ * <p>Run with the GC profiler to track the allocation per operation: {@code ./gradlew jmh
+ * -PjmhIncludes=InSpecificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InSpecificationBenchmark {
+
+  @Param({"10", "100", "1000", "10000"})
+  private int values;
+
+  private List<Integer> wordCounts;
+  private BuiltSpecification<Post> spec;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    wordCounts = IntStream.range(0, values).boxed().toList();
+    spec = build();
+  }
+
+  @Benchmark
+  public BuiltSpecification<Post> build() {
+    return SpecificationBuilder.<Post>builder().in(Post_.WORD_COUNT, wordCounts).build();
+  }
+
+  @Benchmark
+  public Predicate toPredicate(final CriteriaBuilderState criteria) {
+    return criteria.toPredicate(spec, Post.class);
+  }
+}
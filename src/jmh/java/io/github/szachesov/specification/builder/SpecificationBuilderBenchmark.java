@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of a {@link SpecificationBuilder} with a number of predicates of one type and
+ * {@link SpecificationBuilder#build()} of it, without a database.
+ *
+ * <p>Run with the GC profiler to track the allocation per operation: {@code ./gradlew jmh
+ * -PjmhIncludes=SpecificationBuilderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBuilderBenchmark {
+
+  private static final List<String> ROLES = List.of("ADMIN", "USER", "GUEST");
+  private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+  private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+
+  @Param({"1", "10", "100"})
+  private int predicates;
+
+  @Param({"EQUAL", "IN", "LIKE", "BETWEEN", "IS_NULL"})
+  private PredicateType type;
+
+  private SpecificationBuilder<User> builder;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    builder = construct();
+  }
+
+  @Benchmark
+  public SpecificationBuilder<User> construct() {
+    final SpecificationBuilder<User> result = SpecificationBuilder.builder();
+    for (int i = 0; i < predicates; i++) {
+      type.add(result);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public BuiltSpecification<User> build() {
+    return builder.build();
+  }
+
+  /** The type of the added predicates. */
+  public enum PredicateType {
+    EQUAL {
+      @Override
+      void add(final SpecificationBuilder<User> builder) {
+        builder.equal(User_.USERNAME, "user");
+      }
+    },
+    IN {
+      @Override
+      void add(final SpecificationBuilder<User> builder) {
+        builder.in(User_.USERNAME, ROLES);
+      }
+    },
+    LIKE {
+      @Override
+      void add(final SpecificationBuilder<User> builder) {
+        builder.like(User_.PHONE, "+7912");
+      }
+    },
+    BETWEEN {
+      @Override
+      void add(final SpecificationBuilder<User> builder) {
+        builder.between(User_.REGISTRATION_DATE, FROM, TO);
+      }
+    },
+    IS_NULL {
+      @Override
+      void add(final SpecificationBuilder<User> builder) {
+        builder.isNull(User_.PHONE);
+      }
+    };
+
+    abstract void add(SpecificationBuilder<User> builder);
+  }
+}
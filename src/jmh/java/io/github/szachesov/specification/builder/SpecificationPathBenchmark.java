@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.benchutils.CriteriaBuilderState;
+import io.github.szachesov.specification.builder.sample.entity.Comment;
+import io.github.szachesov.specification.builder.sample.entity.Comment_;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.Profile_;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import jakarta.persistence.criteria.Predicate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BuiltSpecification#toPredicate} against the criteria builder of Hibernate for a path of
+ * 0, 1 and 3 joins, i.e. the cost of {@code getPath}. Each operation creates a query and its root.
+ *
+ * <p>Run with the GC profiler to track the allocation per operation: {@code ./gradlew jmh
+ * -PjmhIncludes=SpecificationPathBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationPathBenchmark {
+
+  private static final Map<Integer, List<String>> PATHS =
+      Map.of(
+          0, List.of(Comment_.TEXT),
+          1, List.of(Comment_.POST, Post_.TITLE),
+          3, List.of(Comment_.POST, Post_.AUTHOR, User_.PROFILE, Profile_.BIO));
+
+  @Param({"0", "1", "3"})
+  private int joins;
+
+  private BuiltSpecification<Comment> spec;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    spec = SpecificationBuilder.<Comment>builder().equal(PATHS.get(joins), "text").build();
+  }
+
+  @Benchmark
+  public Predicate toPredicate(final CriteriaBuilderState criteria) {
+    return criteria.toPredicate(spec, Comment.class);
+  }
+}
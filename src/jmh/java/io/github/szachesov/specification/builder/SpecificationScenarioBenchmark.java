@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.benchutils.BenchmarkDatabase;
+import io.github.szachesov.specification.builder.benchutils.DataGenerator;
+import io.github.szachesov.specification.builder.benchutils.JdbcRowCounter;
+import io.github.szachesov.specification.builder.benchutils.QueryCounters;
+import io.github.szachesov.specification.builder.sample.entity.Group_;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * End-to-end scenarios of specifications on the data of {@link DataGenerator} at 10 thousand, 1
+ * million and 10 million posts in an embedded H2 database.
+ *
+ * <p>Reports the throughput, the latency percentiles ({@code p0.50}, {@code p0.99}) and, as
+ * secondary results, the SQL statements and the JDBC rows per operation, see {@link
+ * QueryCounters}. The database of a scale is generated once into {@code build/jmh-data}, the 10
+ * million scale takes several gigabytes and minutes: {@code ./gradlew jmh
+ * -PjmhIncludes=SpecificationScenarioBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SpecificationScenarioBenchmark {
+
+  private static final int LIMIT = 100;
+  private static final int PAGE_SIZE = 20;
+  private static final int IN_VALUES = 200;
+
+  @Param({"10000", "1000000", "10000000"})
+  private int scale;
+
+  private SessionFactory sessionFactory;
+  private Statistics statistics;
+  private StatelessSpecificationExecutor<Post> executor;
+  private BuiltSpecification<Post> join;
+  private BuiltSpecification<Post> like;
+  private BuiltSpecification<Post> in;
+  private BuiltSpecification<Post> page;
+  private PageRequest pageRequest;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    sessionFactory = BenchmarkDatabase.open("scenario", scale);
+    statistics = sessionFactory.getStatistics();
+    executor = new StatelessSpecificationExecutor<>(sessionFactory, Post.class);
+    join =
+        SpecificationBuilder.<Post>builder()
+            .equal(List.of(Post_.AUTHOR, User_.GROUPS, Group_.NAME), DataGenerator.group(7))
+            .equal(List.of(Post_.AUTHOR, User_.IS_ACTIVE), true)
+            .build();
+    like =
+        SpecificationBuilder.<Post>builder()
+            .like(Post_.TITLE, "42", b -> b.wildcard(Wildcard.MULTIPLE))
+            .like(Post_.CONTENT, "Content 1", b -> b.wildcard(Wildcard.ENDING))
+            .build();
+    final int users = DataGenerator.users(scale);
+    in =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, IntStream.range(0, IN_VALUES).boxed().toList())
+            .in(
+                List.of(Post_.AUTHOR, User_.USERNAME),
+                IntStream.range(0, IN_VALUES)
+                    .map(i -> i * users / IN_VALUES)
+                    .mapToObj(DataGenerator::username)
+                    .toList())
+            .build();
+    page =
+        SpecificationBuilder.<Post>builder()
+            .isNull(List.of(Post_.TAGS), true, b -> b.not().fetch())
+            .min(Post_.WORD_COUNT, 1000)
+            .build();
+    pageRequest = PageRequest.of(50, PAGE_SIZE, Sort.by(Sort.Direction.DESC, Post_.CREATED_AT));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  /** Posts of the active users of a group: posts, users, user_group and groups are joined. */
+  @Benchmark
+  public List<Post> join(final QueryCounters counters) {
+    return findAll(join, counters);
+  }
+
+  /** Posts by a substring of the title and a prefix of the content. */
+  @Benchmark
+  public List<Post> like(final QueryCounters counters) {
+    return findAll(like, counters);
+  }
+
+  /** Posts by {@value #IN_VALUES} word counts and {@value #IN_VALUES} authors. */
+  @Benchmark
+  public List<Post> in(final QueryCounters counters) {
+    return findAll(in, counters);
+  }
+
+  /** A deep page of posts with the fetched tags and the total count. */
+  @Benchmark
+  public Page<Post> pagination(final QueryCounters counters) {
+    final long statementsBefore = statistics.getPrepareStatementCount();
+    final long rowsBefore = JdbcRowCounter.getRowCount();
+    try (EntityManager entityManager = sessionFactory.createEntityManager()) {
+      final Page<Post> result =
+          new SpecificationExecutor<>(entityManager, Post.class).findAll(page, pageRequest);
+      counters.record(statistics, statementsBefore, rowsBefore);
+      return result;
+    }
+  }
+
+  private List<Post> findAll(final BuiltSpecification<Post> spec, final QueryCounters counters) {
+    final long statementsBefore = statistics.getPrepareStatementCount();
+    final long rowsBefore = JdbcRowCounter.getRowCount();
+    final List<Post> result =
+        executor.findAll(spec, Sort.by(Post_.CREATED_AT), Limit.of(LIMIT));
+    counters.record(statistics, statementsBefore, rowsBefore);
+    return result;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.benchutils.BenchmarkDatabase;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+/**
+ * Reading of large results: {@link StatelessSpecificationExecutor} against {@link
+ * org.springframework.data.jpa.repository.JpaSpecificationExecutor#findAll(Specification)}.
+ *
+ * <p>Run with the GC profiler to compare the allocation rate: {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatelessSpecificationExecutorBenchmark {
+
+  @Param({"10000", "100000"})
+  private int rows;
+
+  private SessionFactory sessionFactory;
+  private StatelessSpecificationExecutor<Post> executor;
+  private Specification<Post> spec;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    sessionFactory = BenchmarkDatabase.create("stateless" + rows);
+    BenchmarkDatabase.insertPosts(sessionFactory, rows);
+    executor = new StatelessSpecificationExecutor<>(sessionFactory, Post.class);
+    spec =
+        SpecificationBuilder.<Post>builder()
+            .min(Post_.RATING, BigDecimal.ONE)
+            .like(Post_.TITLE, "post", b -> b.wildcard(Wildcard.ENDING))
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public List<Post> statelessFindAll() {
+    return executor.findAll(spec);
+  }
+
+  @Benchmark
+  public List<Post> repositoryFindAll() {
+    try (EntityManager entityManager = sessionFactory.createEntityManager()) {
+      return new SimpleJpaRepository<>(Post.class, entityManager).findAll(spec);
+    }
+  }
+}
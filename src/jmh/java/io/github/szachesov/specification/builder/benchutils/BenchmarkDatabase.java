@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.benchutils;
+
+import io.github.szachesov.specification.builder.sample.entity.Comment;
+import io.github.szachesov.specification.builder.sample.entity.Group;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Profile;
+import io.github.szachesov.specification.builder.sample.entity.Tag;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import lombok.experimental.UtilityClass;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+/** In-memory H2 database with the sample model, so the benchmarks run offline. */
+@UtilityClass
+public class BenchmarkDatabase {
+
+  private static final String USER = "sa";
+  private static final String DB_OPTIONS = ";DB_CLOSE_DELAY=-1";
+  private static final Path DATA_DIRECTORY = Path.of("build", "jmh-data");
+
+  public static SessionFactory create(final String name) {
+    return configure("jdbc:h2:mem:" + name + DB_OPTIONS, "create-drop").buildSessionFactory();
+  }
+
+  /**
+   * Opens an embedded file database of the scale in {@code build/jmh-data}. The data is generated
+   * by {@link DataGenerator} on the first run and reused by the next runs. Hibernate statistics
+   * are enabled, and the rows read from JDBC are counted by {@link JdbcRowCounter}.
+   *
+   * @param name name of the database.
+   * @param scale the number of posts.
+   */
+  public static SessionFactory open(final String name, final int scale) {
+    final Path file = DATA_DIRECTORY.resolve(name + "-" + scale).toAbsolutePath();
+    final Path generated = Path.of(file + ".generated");
+    final boolean isGenerated = Files.exists(generated);
+    final JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:file:" + file);
+    dataSource.setUser(USER);
+    final Configuration configuration =
+        configure(dataSource.getURL(), isGenerated ? "none" : "create")
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+    configuration
+        .getProperties()
+        .put(AvailableSettings.DATASOURCE, JdbcRowCounter.wrap(dataSource));
+    final SessionFactory sessionFactory = configuration.buildSessionFactory();
+    if (!isGenerated) {
+      DataGenerator.generate(sessionFactory, scale);
+      try {
+        Files.createFile(generated);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return sessionFactory;
+  }
+
+  private static Configuration configure(final String url, final String ddl) {
+    return new Configuration()
+        .addAnnotatedClass(User.class)
+        .addAnnotatedClass(Profile.class)
+        .addAnnotatedClass(Post.class)
+        .addAnnotatedClass(Comment.class)
+        .addAnnotatedClass(Group.class)
+        .addAnnotatedClass(Tag.class)
+        .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+        .setProperty(AvailableSettings.JAKARTA_JDBC_USER, USER)
+        .setProperty(AvailableSettings.HBM2DDL_AUTO, ddl)
+        // The column names of the Spring Boot schema of the tests, e.g. comments.created_at
+        .setProperty(
+            AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+            CamelCaseToUnderscoresNamingStrategy.class.getName())
+        .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "1000");
+  }
+
+  public static void insertPosts(final SessionFactory sessionFactory, final int count) {
+    try (StatelessSession session = sessionFactory.openStatelessSession()) {
+      final Transaction transaction = session.beginTransaction();
+      for (int i = 0; i < count; i++) {
+        session.insert(
+            Post.builder()
+                .title("Post " + i)
+                .content("Content of the post " + i)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i))
+                .rating(BigDecimal.valueOf(i % 100, 1))
+                .wordCount(i % 500)
+                .build());
+      }
+      transaction.commit();
+    }
+  }
+}
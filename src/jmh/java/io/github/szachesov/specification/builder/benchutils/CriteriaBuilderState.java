@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.benchutils;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.domain.Specification;
+
+/** The criteria builder of Hibernate over the sample model, shared by the benchmarks. */
+@State(Scope.Benchmark)
+public class CriteriaBuilderState {
+
+  private final SessionFactory sessionFactory = BenchmarkDatabase.create("criteria");
+  private final CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  /** Applies the specification to a new query of the given root. */
+  public <T> Predicate toPredicate(final Specification<T> spec, final Class<T> domainClass) {
+    final CriteriaQuery<T> query = builder.createQuery(domainClass);
+    final Root<T> root = query.from(domainClass);
+    return spec.toPredicate(root, query, builder);
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.benchutils;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import lombok.experimental.UtilityClass;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+/**
+ * Seeded generator of the sample model: the same scale produces the same rows.
+ *
+ * <p>The scale is the number of posts. There are 100 posts per user, one profile per user, two
+ * of the {@value #GROUPS} groups per user, two of the {@value #TAGS} tags per post and one comment
+ * per post. Rows are written with JDBC batches, so 10 million posts are generated in minutes.
+ */
+@UtilityClass
+public class DataGenerator {
+
+  public static final long SEED = 20_260_101L;
+  public static final int POSTS_PER_USER = 100;
+  public static final int GROUPS = 100;
+  public static final int TAGS = 50;
+
+  private static final int BATCH_SIZE = 1000;
+  private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+  private static final LocalDateTime FIRST_POST = FIRST_DAY.atStartOfDay();
+
+  /** Returns the number of users of the scale. */
+  public static int users(final int scale) {
+    return Math.max(scale / POSTS_PER_USER, 1);
+  }
+
+  /** Returns the username of the user with the given identifier. */
+  public static String username(final int id) {
+    return "user" + id + "@example.com";
+  }
+
+  /** Returns the name of the group with the given identifier. */
+  public static String group(final int id) {
+    return "Group " + id;
+  }
+
+  /** Returns the name of the tag with the given identifier. */
+  public static String tag(final int id) {
+    return "tag" + id;
+  }
+
+  /**
+   * Inserts the rows of the scale into the empty schema of the sample model.
+   *
+   * @param sessionFactory factory of the database.
+   * @param scale the number of posts.
+   */
+  public static void generate(final SessionFactory sessionFactory, final int scale) {
+    try (StatelessSession session = sessionFactory.openStatelessSession()) {
+      final Transaction transaction = session.beginTransaction();
+      session.doWork(connection -> insertAll(connection, scale));
+      transaction.commit();
+    }
+  }
+
+  private static void insertAll(final Connection connection, final int scale)
+      throws SQLException {
+    final Random random = new Random(SEED);
+    final int users = users(scale);
+    insert(
+        connection,
+        "insert into groups (id, name) values (?, ?)",
+        GROUPS,
+        (s, i) -> {
+          s.setInt(1, i);
+          s.setString(2, group(i));
+        });
+    insert(
+        connection,
+        "insert into tags (id, name) values (?, ?)",
+        TAGS,
+        (s, i) -> {
+          s.setInt(1, i);
+          s.setString(2, tag(i));
+        });
+    insert(
+        connection,
+        "insert into users (id, username, is_active, registration_date, phone)"
+            + " values (?, ?, ?, ?, ?)",
+        users,
+        (s, i) -> user(s, i, random));
+    insert(
+        connection,
+        "insert into profiles (id, bio, user_id) values (?, ?, ?)",
+        users,
+        (s, i) -> {
+          s.setInt(1, i);
+          s.setString(2, "Bio of the user " + i);
+          s.setInt(3, i);
+        });
+    insert(
+        connection,
+        "insert into user_group (user_id, group_id) values (?, ?)",
+        users * 2,
+        (s, i) -> {
+          s.setInt(1, i / 2);
+          s.setInt(2, pair(i, GROUPS));
+        });
+    insert(
+        connection,
+        "insert into posts (id, title, content, created_at, rating, word_count, author_id)"
+            + " values (?, ?, ?, ?, ?, ?, ?)",
+        scale,
+        (s, i) -> post(s, i, random));
+    insert(
+        connection,
+        "insert into post_tags (post_id, tag) values (?, ?)",
+        scale * 2,
+        (s, i) -> {
+          s.setInt(1, i / 2);
+          s.setString(2, tag(pair(i, TAGS)));
+        });
+    insert(
+        connection,
+        "insert into comments (id, text, created_at, post_id, author_id) values (?, ?, ?, ?, ?)",
+        scale,
+        (s, i) -> {
+          s.setInt(1, i);
+          s.setString(2, "Comment " + i);
+          s.setTimestamp(3, Timestamp.valueOf(FIRST_POST.plusMinutes(i + 1L)));
+          s.setInt(4, random.nextInt(scale));
+          s.setInt(5, random.nextInt(users));
+        });
+  }
+
+  /** Returns one of the two distinct values of the owner of the row of a pair of rows. */
+  private static int pair(final int row, final int values) {
+    final int offset = row % 2 == 0 ? 0 : values / 2;
+    return (row / 2 + offset) % values;
+  }
+
+  private static void user(final PreparedStatement statement, final int id, final Random random)
+      throws SQLException {
+    statement.setInt(1, id);
+    statement.setString(2, username(id));
+    statement.setBoolean(3, random.nextInt(10) > 0);
+    statement.setDate(4, Date.valueOf(FIRST_DAY.plusDays(random.nextInt(2000))));
+    statement.setString(5, "+79" + (100_000_000 + random.nextInt(900_000_000)));
+  }
+
+  private static void post(final PreparedStatement statement, final int id, final Random random)
+      throws SQLException {
+    statement.setInt(1, id);
+    statement.setString(2, "Post " + id);
+    statement.setString(3, "Content " + random.nextInt(1_000_000) + " of the post " + id);
+    statement.setTimestamp(4, Timestamp.valueOf(FIRST_POST.plusMinutes(id)));
+    statement.setBigDecimal(5, BigDecimal.valueOf(random.nextInt(100), 1));
+    statement.setInt(6, random.nextInt(5000));
+    statement.setInt(7, id / POSTS_PER_USER);
+  }
+
+  private static void insert(
+      final Connection connection, final String sql, final int count, final RowWriter writer)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (int i = 0; i < count; i++) {
+        writer.write(statement, i);
+        statement.addBatch();
+        if ((i + 1) % BATCH_SIZE == 0) {
+          statement.executeBatch();
+        }
+      }
+      statement.executeBatch();
+    }
+  }
+
+  @FunctionalInterface
+  private interface RowWriter {
+
+    void write(PreparedStatement statement, int index) throws SQLException;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.benchutils;
+
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary results of a benchmark: SQL statements prepared by Hibernate and rows read from JDBC
+ * per operation, see {@link JdbcRowCounter}.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class QueryCounters {
+
+  private long operations;
+  private long statementCount;
+  private long rowCount;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    operations = 0;
+    statementCount = 0;
+    rowCount = 0;
+  }
+
+  /** The average number of SQL statements per operation. */
+  public double statements() {
+    return operations == 0 ? 0 : (double) statementCount / operations;
+  }
+
+  /** The average number of rows read from the JDBC result sets per operation. */
+  public double rows() {
+    return operations == 0 ? 0 : (double) rowCount / operations;
+  }
+
+  /**
+   * Records an operation.
+   *
+   * @param statistics statistics of the session factory.
+   * @param statementsBefore {@link Statistics#getPrepareStatementCount()} before the operation.
+   * @param rowsBefore {@link JdbcRowCounter#getRowCount()} before the operation.
+   */
+  public void record(
+      final Statistics statistics, final long statementsBefore, final long rowsBefore) {
+    operations++;
+    statementCount += statistics.getPrepareStatementCount() - statementsBefore;
+    rowCount += JdbcRowCounter.getRowCount() - rowsBefore;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+
+/** Enumeration of the aggregate functions of an {@link Aggregation}. */
+@SuppressWarnings({"unchecked", "rawtypes"}) // the type of the column is checked by the database
+public enum AggregateFunction {
+  /** {@code count(column)}, the number of rows with a value. */
+  COUNT {
+    @Override
+    Expression<?> apply(final CriteriaBuilder builder, final Expression<?> expression) {
+      return builder.count(expression);
+    }
+  },
+  /** {@code count(distinct column)}, the number of different values. */
+  COUNT_DISTINCT {
+    @Override
+    Expression<?> apply(final CriteriaBuilder builder, final Expression<?> expression) {
+      return builder.countDistinct(expression);
+    }
+  },
+  /** {@code sum(column)} of a numeric column. */
+  SUM {
+    @Override
+    Expression<?> apply(final CriteriaBuilder builder, final Expression<?> expression) {
+      return builder.sum((Expression<Number>) expression);
+    }
+  },
+  /** {@code avg(column)} of a numeric column. */
+  AVG {
+    @Override
+    Expression<?> apply(final CriteriaBuilder builder, final Expression<?> expression) {
+      return builder.avg((Expression<Number>) expression);
+    }
+  },
+  /** {@code min(column)} of a comparable column, e.g. a number, a string or a date. */
+  MIN {
+    @Override
+    Expression<?> apply(final CriteriaBuilder builder, final Expression<?> expression) {
+      return builder.least((Expression<Comparable>) expression);
+    }
+  },
+  /** {@code max(column)} of a comparable column, e.g. a number, a string or a date. */
+  MAX {
+    @Override
+    Expression<?> apply(final CriteriaBuilder builder, final Expression<?> expression) {
+      return builder.greatest((Expression<Comparable>) expression);
+    }
+  };
+
+  abstract Expression<?> apply(CriteriaBuilder builder, Expression<?> expression);
+}
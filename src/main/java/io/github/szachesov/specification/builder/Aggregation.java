@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Groups and aggregate functions of a query of {@link AggregationExecutor}.
+ *
+ * <p>The groups and the aggregates are selected in the order of addition under their aliases, a
+ * group under its column. The {@code HAVING} predicates compare the aliases with the operators of
+ * {@link SpecificationBuilder}.
+ *
+ * <p>Example, posts per author:
+ *
+ * <pre>{@code
+ * Aggregation aggregation =
+ *     Aggregation.builder()
+ *         .groupBy("author.username")
+ *         .count("posts")
+ *         .aggregate("words", AggregateFunction.SUM, "wordCount")
+ *         .having(h -> h.min("posts", 2L))
+ *         .build();
+ * }</pre>
+ *
+ * <p>The aggregation is immutable and can be applied to any number of queries.
+ */
+public final class Aggregation {
+
+  private final List<String> groups;
+  private final List<Aggregate> aggregates;
+  private final List<HavingPredicate> having;
+
+  private Aggregation(final Builder builder) {
+    this.groups = List.copyOf(builder.groups);
+    this.aggregates = List.copyOf(builder.aggregates);
+    this.having = List.copyOf(builder.having.predicates);
+  }
+
+  /** Creates a builder. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Returns the grouped columns, joins separated by a dot. */
+  List<String> getGroups() {
+    return groups;
+  }
+
+  /** Returns the aggregate functions. */
+  List<Aggregate> getAggregates() {
+    return aggregates;
+  }
+
+  /** Returns the predicates of {@code HAVING}, connected with AND. */
+  List<HavingPredicate> getHaving() {
+    return having;
+  }
+
+  /**
+   * Aggregate function of a column.
+   *
+   * @param alias alias of the result.
+   * @param function aggregate function.
+   * @param column property path, joins separated by a dot, {@literal null} for the root.
+   */
+  record Aggregate(String alias, AggregateFunction function, @Nullable String column) {}
+
+  /**
+   * Predicate of {@code HAVING}.
+   *
+   * @param alias alias of the compared group or aggregate.
+   * @param condition creates the predicate of the selected expression.
+   */
+  record HavingPredicate(String alias, Condition condition) {}
+
+  /** Creates the predicate of a selected expression. */
+  @FunctionalInterface
+  interface Condition {
+    Predicate toPredicate(CriteriaBuilder builder, Expression<?> expression);
+  }
+
+  /** Builder for {@link Aggregation}. */
+  public static final class Builder implements ObjectBuilder<Aggregation> {
+
+    private final List<String> groups = new ArrayList<>();
+    private final List<Aggregate> aggregates = new ArrayList<>();
+    private final Having having = new Having();
+
+    private Builder() {}
+
+    /**
+     * Groups by a column, selected under the column as the alias.
+     *
+     * <p>Example: {@code SELECT table_join.column ... GROUP BY table_join.column}
+     *
+     * @param column property path, joins separated by a dot.
+     */
+    public Builder groupBy(final String column) {
+      groups.add(column);
+      return this;
+    }
+
+    /**
+     * Counts the rows of each group.
+     *
+     * <p>Example: {@code SELECT count(id) ...}
+     *
+     * @param alias alias of the result.
+     */
+    public Builder count(final String alias) {
+      aggregates.add(new Aggregate(alias, AggregateFunction.COUNT, null));
+      return this;
+    }
+
+    /**
+     * Applies an aggregate function to a column of each group.
+     *
+     * <p>Example: {@code SELECT sum(column) ...}
+     *
+     * @param alias alias of the result.
+     * @param function aggregate function.
+     * @param column property path, joins separated by a dot.
+     */
+    public Builder aggregate(
+        final String alias, final AggregateFunction function, final String column) {
+      aggregates.add(new Aggregate(alias, function, column));
+      return this;
+    }
+
+    /**
+     * Adds predicates of the groups, connected with AND.
+     *
+     * <p>Example: {@code ... GROUP BY ... HAVING count(id) >= 2}
+     *
+     * @param fn function of the builder of the predicates, e.g. {@code h -> h.min("posts", 2L)}.
+     */
+    public Builder having(final UnaryOperator<Having> fn) {
+      fn.apply(having);
+      return this;
+    }
+
+    @Override
+    public Aggregation build() {
+      if (groups.isEmpty() && aggregates.isEmpty()) {
+        throw new IllegalArgumentException("An aggregation requires a group or an aggregate");
+      }
+      return new Aggregation(this);
+    }
+  }
+
+  /**
+   * Builder of the {@code HAVING} predicates, a {@literal null} value adds no predicate as in
+   * {@link SpecificationBuilder}.
+   */
+  public static final class Having {
+
+    private final List<HavingPredicate> predicates = new ArrayList<>();
+
+    private Having() {}
+
+    /**
+     * Equal to.
+     *
+     * <p>Example: {@code ... HAVING count(id) = 1}
+     *
+     * @param alias alias of the group or the aggregate.
+     * @param value value of predicate.
+     */
+    public Having equal(final String alias, @Nullable final Object value) {
+      return add(alias, value, (b, e) -> b.equal(e, value));
+    }
+
+    /**
+     * Not equal to.
+     *
+     * <p>Example: {@code ... HAVING count(id) != 1}
+     *
+     * @param alias alias of the group or the aggregate.
+     * @param value value of predicate.
+     */
+    public Having notEqual(final String alias, @Nullable final Object value) {
+      return add(alias, value, (b, e) -> b.notEqual(e, value));
+    }
+
+    /**
+     * Equal to one of multiple possible values.
+     *
+     * <p>Example: {@code ... HAVING count(id) IN (1, 2)}
+     *
+     * @param alias alias of the group or the aggregate.
+     * @param values values of predicate, empty values add no predicate.
+     */
+    public Having in(final String alias, @Nullable final Collection<?> values) {
+      return add(alias, values == null || values.isEmpty() ? null : values, (b, e) -> e.in(values));
+    }
+
+    /**
+     * Greater than or equal to.
+     *
+     * <p>Example: {@code ... HAVING count(id) >= 2}
+     *
+     * @param alias alias of the group or the aggregate.
+     * @param min minimum value.
+     */
+    public <P extends Comparable<? super P>> Having min(
+        final String alias, @Nullable final P min) {
+      return min(alias, min, Bound.INCLUSIVE);
+    }
+
+    /**
+     * Greater than (or equal to).
+     *
+     * <p>Example: {@code ... HAVING count(id) > 2}
+     *
+     * @param alias alias of the group or the aggregate.
+     * @param min minimum value.
+     * @param bound the type of the minimum value boundary.
+     */
+    @SuppressWarnings("unchecked") // the type of the value is checked by the database
+    public <P extends Comparable<? super P>> Having min(
+        final String alias, @Nullable final P min, final Bound bound) {
+      return add(
+          alias,
+          min,
+          (b, e) ->
+              bound == Bound.INCLUSIVE
+                  ? b.greaterThanOrEqualTo((Expression<P>) e, min)
+                  : b.greaterThan((Expression<P>) e, min));
+    }
+
+    /**
+     * Less than or equal to.
+     *
+     * <p>Example: {@code ... HAVING avg(rating) <= 5}
+     *
+     * @param alias alias of the group or the aggregate.
+     * @param max maximum value.
+     */
+    public <P extends Comparable<? super P>> Having max(
+        final String alias, @Nullable final P max) {
+      return max(alias, max, Bound.INCLUSIVE);
+    }
+
+    /**
+     * Less than (or equal to).
+     *
+     * <p>Example: {@code ... HAVING avg(rating) < 5}
+     *
+     * @param alias alias of the group or the aggregate.
+     * @param max maximum value.
+     * @param bound the type of the maximum value boundary.
+     */
+    @SuppressWarnings("unchecked") // the type of the value is checked by the database
+    public <P extends Comparable<? super P>> Having max(
+        final String alias, @Nullable final P max, final Bound bound) {
+      return add(
+          alias,
+          max,
+          (b, e) ->
+              bound == Bound.INCLUSIVE
+                  ? b.lessThanOrEqualTo((Expression<P>) e, max)
+                  : b.lessThan((Expression<P>) e, max));
+    }
+
+    /**
+     * Between the values inclusive.
+     *
+     * <p>Example: {@code ... HAVING count(id) >= 1 AND count(id) <= 5}
+     *
+     * @param alias alias of the group or the aggregate.
+     * @param min minimum value.
+     * @param max maximum value.
+     */
+    public <P extends Comparable<? super P>> Having between(
+        final String alias, @Nullable final P min, @Nullable final P max) {
+      return min(alias, min).max(alias, max);
+    }
+
+    private Having add(
+        final String alias, @Nullable final Object value, final Condition condition) {
+      if (value != null) {
+        predicates.add(new HavingPredicate(alias, condition));
+      }
+      return this;
+    }
+  }
+}
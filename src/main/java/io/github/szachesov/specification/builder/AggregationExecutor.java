@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.Aggregation.Aggregate;
+import io.github.szachesov.specification.builder.Aggregation.HavingPredicate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
+
+/**
+ * Executor of grouped queries of an {@link Aggregation} filtered by a {@link Specification}, so
+ * only the aggregated rows are transferred instead of the entities.
+ *
+ * <p>Example: {@code SELECT a.username, count(p.id) FROM posts p LEFT JOIN users a ... WHERE
+ * p.rating >= ? GROUP BY a.username HAVING count(p.id) >= ?}
+ *
+ * <p>The predicates of the specification are applied without fetch joins and DISTINCT. A join of
+ * a predicate across a collection multiplies the aggregated rows, such a predicate can be
+ * compared in a subquery, see {@link InSpecification.Builder#exists()} and {@link
+ * SpecificationBuilder#existsIn}, or counted with {@link AggregateFunction#COUNT_DISTINCT}.
+ *
+ * <p>The queries of a {@link BuiltSpecification} carry its {@link BuiltSpecification#getLabel()}
+ * as an SQL comment, written to the SQL with {@code hibernate.use_sql_comments=true}.
+ *
+ * @param <T> the type of the {@link Root} the {@literal Specification} operates on.
+ */
+public class AggregationExecutor<T> {
+
+  private final EntityManager entityManager;
+  private final Class<T> domainClass;
+
+  /**
+   * Creates an executor.
+   *
+   * @param entityManager entity manager of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   */
+  public AggregationExecutor(final EntityManager entityManager, final Class<T> domainClass) {
+    this.entityManager = entityManager;
+    this.domainClass = domainClass;
+  }
+
+  /**
+   * Returns a row of each group of the entities matching the given {@link Specification}, the
+   * values are available by the aliases of the aggregation: {@code tuple.get("posts",
+   * Long.class)}.
+   *
+   * @param spec can be {@literal null}.
+   * @param aggregation groups, aggregate functions and predicates of the groups.
+   * @throws IllegalArgumentException if a predicate of the groups refers to an unknown alias.
+   */
+  public List<Tuple> aggregate(
+      @Nullable final Specification<T> spec, final Aggregation aggregation) {
+    final long start = SpecificationObservers.start();
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    final Root<T> root =
+        SpecificationQueryUtils.applySpecification(spec, domainClass, query, builder);
+    query.distinct(false);
+
+    final Map<String, Expression<?>> selections = new LinkedHashMap<>();
+    for (final String column : aggregation.getGroups()) {
+      selections.put(column, getPath(root, column));
+    }
+    query.groupBy(List.copyOf(selections.values()));
+    for (final Aggregate aggregate : aggregation.getAggregates()) {
+      final Expression<?> path =
+          aggregate.column() == null ? root : getPath(root, aggregate.column());
+      selections.put(aggregate.alias(), aggregate.function().apply(builder, path));
+    }
+    query.multiselect(
+        selections.entrySet().stream()
+            .<Selection<?>>map(e -> e.getValue().alias(e.getKey()))
+            .toList());
+    final Predicate[] having = getHaving(aggregation, selections, builder);
+    if (having.length > 0) {
+      query.having(having);
+    }
+
+    final List<Tuple> result =
+        SpecificationQueryUtils.comment(spec, entityManager.createQuery(query)).getResultList();
+    SpecificationObservers.query(domainClass, spec, start);
+    return result;
+  }
+
+  private Expression<?> getPath(final Root<T> root, final String column) {
+    return QueryUtils.toExpressionRecursively(root, PropertyPath.from(column, domainClass), true);
+  }
+
+  private static Predicate[] getHaving(
+      final Aggregation aggregation,
+      final Map<String, Expression<?>> selections,
+      final CriteriaBuilder builder) {
+    return aggregation.getHaving().stream()
+        .map(h -> h.condition().toPredicate(builder, getSelection(selections, h)))
+        .toArray(Predicate[]::new);
+  }
+
+  private static Expression<?> getSelection(
+      final Map<String, Expression<?>> selections, final HavingPredicate having) {
+    final Expression<?> selection = selections.get(having.alias());
+    if (selection == null) {
+      throw new IllegalArgumentException(
+          "Unknown alias " + having.alias() + ", expected one of " + selections.keySet());
+    }
+    return selection;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.metamodel.Attribute;
+
+/**
+ * Kind of an attribute of a property path, it defines how the path traverses the attribute.
+ *
+ * <p>The kinds are precomputed by the builders generated by the {@code
+ * specification-builder-processor} or taken from the JPA metamodel, so the entity classes are not
+ * inspected by reflection.
+ */
+public enum AttributeKind {
+  /** A basic attribute, the target of the path: {@code from.get(column)}. */
+  BASIC,
+  /** An entity association, a join of the path: {@code from.join(column)}. */
+  ASSOCIATION,
+  /** A collection of basic values, the target of the path: {@code from.join(column)}. */
+  ELEMENT_COLLECTION;
+
+  /**
+   * Returns the kind of an attribute of the JPA metamodel.
+   *
+   * @param attribute attribute of the metamodel.
+   */
+  static AttributeKind of(final Attribute<?, ?> attribute) {
+    if (attribute.isAssociation()) return ASSOCIATION;
+    return attribute.isCollection() ? ELEMENT_COLLECTION : BASIC;
+  }
+}
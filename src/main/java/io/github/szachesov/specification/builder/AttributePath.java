@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A typed property path of an entity with the precomputed kinds of its attributes.
+ *
+ * <p>The paths are created by the builders generated by the {@code
+ * specification-builder-processor}, e.g. {@code UserSpecs.posts().title().equal("Title")}, or from
+ * the attributes of the JPA metamodel, e.g. {@code AttributePath.of(User_.posts).get(Post_.title)}.
+ * A path of the metamodel is resolved by {@code From.get(attribute)} and {@code
+ * From.join(attribute)}, without looking the attributes up by name.
+ *
+ * <p>A predicate of a path is a {@link BuiltSpecification}, {@literal null} when the value is
+ * absent as for {@link SpecificationBuilder}, and is combined with other predicates by {@link
+ * SpecificationBuilder#add(BuiltSpecification)}.
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ * @param <V> the type of the value of the path.
+ */
+public class AttributePath<T, V> {
+
+  /** Property path, joins are listed before the target attribute. */
+  @Getter private final List<String> columns;
+
+  @Getter(AccessLevel.PACKAGE)
+  private final List<AttributeKind> kinds;
+
+  /** Attributes of the metamodel, one per column if the path is created from the metamodel. */
+  @Getter(AccessLevel.PACKAGE)
+  private final List<Attribute<?, ?>> attributes;
+
+  AttributePath(
+      final List<String> columns,
+      final List<AttributeKind> kinds,
+      final List<Attribute<?, ?>> attributes) {
+    this.columns = columns;
+    this.kinds = kinds;
+    this.attributes = attributes;
+  }
+
+  /**
+   * Returns the empty path of the root.
+   *
+   * @param <T> the type of the {@link Root}.
+   */
+  public static <T> AttributePath<T, T> root() {
+    return new AttributePath<>(List.of(), List.of(), List.of());
+  }
+
+  /**
+   * Returns the path of a singular attribute of the root.
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param <T> the type of the {@link Root}.
+   * @param <V> the type of the value of the attribute.
+   */
+  public static <T, V> AttributePath<T, V> of(final SingularAttribute<? super T, V> attribute) {
+    return AttributePath.<T>root().get(attribute);
+  }
+
+  /**
+   * Returns the path of the elements of a plural attribute of the root.
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.posts}.
+   * @param <T> the type of the {@link Root}.
+   * @param <V> the type of the elements of the attribute.
+   */
+  public static <T, V> AttributePath<T, V> of(final PluralAttribute<? super T, ?, V> attribute) {
+    return AttributePath.<T>root().get(attribute);
+  }
+
+  /**
+   * Returns the path extended with a singular attribute of the metamodel.
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code Post_.author}.
+   * @param <W> the type of the value of the attribute.
+   */
+  public <W> AttributePath<T, W> get(final SingularAttribute<? super V, W> attribute) {
+    return append(attribute);
+  }
+
+  /**
+   * Returns the path extended with the elements of a plural attribute of the metamodel.
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code Post_.tags}.
+   * @param <W> the type of the elements of the attribute.
+   */
+  public <W> AttributePath<T, W> get(final PluralAttribute<? super V, ?, W> attribute) {
+    return append(attribute);
+  }
+
+  /**
+   * Returns the path extended with an attribute.
+   *
+   * @param name name of the attribute.
+   * @param kind kind of the attribute.
+   * @param <W> the type of the value of the attribute.
+   */
+  public <W> AttributePath<T, W> attribute(final String name, final AttributeKind kind) {
+    return new AttributePath<>(append(columns, name), append(kinds, kind), attributes);
+  }
+
+  /**
+   * Returns the path extended with a comparable attribute.
+   *
+   * @param name name of the attribute.
+   * @param kind kind of the attribute.
+   * @param <W> the type of the value of the attribute.
+   */
+  public <W extends Comparable<? super W>> ComparableAttributePath<T, W> comparable(
+      final String name, final AttributeKind kind) {
+    return new ComparableAttributePath<>(append(columns, name), append(kinds, kind), attributes);
+  }
+
+  /**
+   * Returns the path extended with a string attribute.
+   *
+   * @param name name of the attribute.
+   * @param kind kind of the attribute.
+   */
+  public StringAttributePath<T> string(final String name, final AttributeKind kind) {
+    return new StringAttributePath<>(append(columns, name), append(kinds, kind), attributes);
+  }
+
+  /**
+   * Equal to, see {@link SpecificationBuilder#equal(AttributePath, Object)}.
+   *
+   * @param value value of predicate.
+   */
+  public @Nullable BuiltSpecification<T> equal(@Nullable final V value) {
+    return build(b -> b.equal(this, value));
+  }
+
+  /**
+   * Not Equal to, see {@link SpecificationBuilder#notEqual(AttributePath, Object)}.
+   *
+   * @param value value of predicate.
+   */
+  public @Nullable BuiltSpecification<T> notEqual(@Nullable final V value) {
+    return build(b -> b.notEqual(this, value));
+  }
+
+  /**
+   * Equal to one of multiple possible values, see {@link SpecificationBuilder#in(AttributePath,
+   * Collection)}.
+   *
+   * @param values values of predicate.
+   */
+  public @Nullable BuiltSpecification<T> in(@Nullable final Collection<V> values) {
+    return build(b -> b.in(this, values));
+  }
+
+  /** Compare to null, see {@link SpecificationBuilder#isNull(AttributePath)}. */
+  public BuiltSpecification<T> isNull() {
+    return build(b -> b.isNull(this));
+  }
+
+  /** Compare to not null, see {@link SpecificationBuilder#isNotNull(AttributePath)}. */
+  public BuiltSpecification<T> isNotNull() {
+    return build(b -> b.isNotNull(this));
+  }
+
+  /** Builds the predicate added to an empty {@link SpecificationBuilder}. */
+  @Nullable BuiltSpecification<T> build(final UnaryOperator<SpecificationBuilder<T>> predicate) {
+    return predicate.apply(SpecificationBuilder.builder()).buildPart();
+  }
+
+  /**
+   * Whether the path is resolved by the attributes of the metamodel. A path of the generated
+   * builders has no attributes, it is resolved by the names of the columns.
+   */
+  boolean isMetamodel() {
+    return attributes.size() == columns.size();
+  }
+
+  private <W> AttributePath<T, W> append(final Attribute<?, ?> attribute) {
+    return new AttributePath<>(
+        append(columns, attribute.getName()),
+        append(kinds, AttributeKind.of(attribute)),
+        append(attributes, attribute));
+  }
+
+  private static <E> List<E> append(final List<E> list, final E element) {
+    return Stream.concat(list.stream(), Stream.of(element)).toList();
+  }
+}
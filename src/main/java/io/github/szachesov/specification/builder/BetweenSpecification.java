@@ -39,6 +39,11 @@ public class BetweenSpecification<T, P extends Comparable<? super P>>
     super(builder);
   }
 
+  @Override
+  String getOperator() {
+    return "BETWEEN ? AND ?";
+  }
+
   @Override
   Predicate toPredicate(final CriteriaBuilder builder, final Path<P> path) {
     return builder.between(path, range.min(), range.max());
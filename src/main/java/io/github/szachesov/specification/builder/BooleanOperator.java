@@ -17,24 +17,25 @@
 
 package io.github.szachesov.specification.builder;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
 import lombok.AllArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
 
 /** Enumeration of boolean operators for combining specifications. */
 @AllArgsConstructor
 public enum BooleanOperator {
   AND {
     @Override
-    <T> Specification<T> connect(final Specification<T> spec, final Specification<T> connect) {
-      return spec.and(connect);
+    Predicate combine(final CriteriaBuilder builder, final Predicate left, final Predicate right) {
+      return builder.and(left, right);
     }
   },
   OR {
     @Override
-    <T> Specification<T> connect(final Specification<T> spec, final Specification<T> connect) {
-      return spec.or(connect);
+    Predicate combine(final CriteriaBuilder builder, final Predicate left, final Predicate right) {
+      return builder.or(left, right);
     }
   };
 
-  abstract <T> Specification<T> connect(Specification<T> spec, Specification<T> connect);
+  abstract Predicate combine(CriteriaBuilder builder, Predicate left, Predicate right);
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A {@link Specification} built by {@link SpecificationBuilder}.
+ *
+ * <p>Unlike a chain of {@link Specification#and(Specification)}, it keeps the predicates it is
+ * composed of, so an executor can plan how the requested fetch joins are loaded.
+ *
+ * <p>The requested fetches are also available as attribute paths of an entity graph, see {@link
+ * SpecificationBuilder#entityGraph(boolean)}.
+ *
+ * <p>The specification is immutable and thread-safe: it can be built once, e.g. into a static
+ * field, and applied concurrently to any number of queries.
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ */
+public final class BuiltSpecification<T> implements Specification<T> {
+
+  @Serial private static final long serialVersionUID = 2817062403581739035L;
+
+  private final List<CompositeSpecification<T, ?>> specifications;
+  private final List<InnerSpecification<T>> innerSpecifications;
+  private final Set<String> joinedFetchPaths;
+  private final @Nullable String label;
+  private final boolean distinct;
+
+  /** Computed on the first use, the racy computation of the same string is harmless. */
+  private @Nullable String shape;
+
+  BuiltSpecification(
+      final List<CompositeSpecification<T, ?>> specifications,
+      final List<InnerSpecification<T>> innerSpecifications,
+      @Nullable final String label,
+      final boolean distinct) {
+    this.specifications = List.copyOf(specifications);
+    this.innerSpecifications = List.copyOf(innerSpecifications);
+    this.joinedFetchPaths = Set.of();
+    this.label = label;
+    this.distinct = distinct;
+  }
+
+  private BuiltSpecification(
+      final BuiltSpecification<T> source,
+      final List<InnerSpecification<T>> innerSpecifications,
+      final Set<String> joinedFetchPaths) {
+    this.specifications = source.specifications;
+    this.innerSpecifications = List.copyOf(innerSpecifications);
+    this.joinedFetchPaths = Set.copyOf(joinedFetchPaths);
+    this.label = source.label;
+    this.distinct = source.distinct;
+    this.shape = source.shape;
+  }
+
+  @Override
+  public @Nullable Predicate toPredicate(
+      final Root<T> root, @Nullable final CriteriaQuery<?> query, final CriteriaBuilder builder) {
+    if (query != null && !specifications.isEmpty()) {
+      query.distinct(distinct);
+    }
+    Predicate result = null;
+    for (final CompositeSpecification<T, ?> spec : specifications) {
+      final boolean fetchAllowed = !joinedFetchPaths.contains(spec.getColumnPath());
+      final Predicate predicate = spec.toPredicate(root, query, builder, fetchAllowed);
+      result = connect(builder, spec.connection, result, predicate);
+    }
+    for (final InnerSpecification<T> inner : innerSpecifications) {
+      final Predicate predicate = inner.spec().toPredicate(root, query, builder);
+      result = connect(builder, inner.operator(), result, predicate);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the structure of the specification without values, the same for all specifications
+   * built by the same chain of calls.
+   *
+   * <p>Example: {@code isActive = ? AND (username LIKE %?% OR email LIKE %?%)}
+   */
+  public String getShape() {
+    String result = shape;
+    if (result == null) {
+      result = createShape();
+      shape = result;
+    }
+    return result;
+  }
+
+  /** Returns a short identifier of the {@link #getShape()}, a low-cardinality key for metrics. */
+  public String getShapeId() {
+    return Integer.toHexString(getShape().hashCode());
+  }
+
+  /**
+   * Returns the label of the queries of the specification: the label set by {@link
+   * SpecificationBuilder#label(String)}, otherwise {@code spec:} followed by the {@link
+   * #getShapeId()}.
+   *
+   * <p>The executors pass the label as the {@code org.hibernate.comment} hint, so with {@code
+   * hibernate.use_sql_comments=true} the SQL starts with <code>/* spec:1a2b3c4d *&#47;</code> and
+   * database statistics, e.g. {@code pg_stat_statements}, can be attributed to the specification.
+   */
+  public String getLabel() {
+    return label == null ? "spec:" + getShapeId() : label;
+  }
+
+  /**
+   * Returns the structure of the specification as a tree without values, one predicate per line,
+   * with the join type, fetch and distinct of each predicate. Inner groups are indented.
+   *
+   * <p>Example:
+   *
+   * <pre>{@code
+   * isActive = ? [INNER, distinct]
+   * AND (
+   *   username LIKE %?% [INNER, distinct]
+   *   OR posts.title = ? [LEFT, fetch, distinct]
+   * )
+   * }</pre>
+   */
+  public String getStructure() {
+    final StringBuilder builder = new StringBuilder();
+    appendStructure(builder, "");
+    return builder.toString().stripTrailing();
+  }
+
+  /**
+   * Returns the association paths requested to be loaded with a fetch join, joins separated by a
+   * dot, resolved through the metamodel: {@code posts} for a fetched predicate of {@code
+   * posts.title}, {@code author.groups} for {@code author.groups}, none for {@code title}.
+   *
+   * <p>Example: {@code repository.findBy(spec, q -> q.project(spec.getFetchPaths(entityManager,
+   * User.class)).all())}
+   *
+   * @param entityManager entity manager of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   */
+  public Set<String> getFetchPaths(final EntityManager entityManager, final Class<T> domainClass) {
+    final ManagedType<T> type = entityManager.getMetamodel().managedType(domainClass);
+    final Set<String> paths = new LinkedHashSet<>();
+    for (final String column : getFetchColumnPaths()) {
+      final String path =
+          SpecificationQueryUtils.getAssociations(type, column).stream()
+              .map(Attribute::getName)
+              .collect(Collectors.joining("."));
+      if (!path.isEmpty()) {
+        paths.add(path);
+      }
+    }
+    return paths;
+  }
+
+  /**
+   * Creates an entity graph of the requested fetches, applicable as the {@code
+   * jakarta.persistence.loadgraph} hint.
+   *
+   * @param entityManager entity manager of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   */
+  public EntityGraph<T> createEntityGraph(
+      final EntityManager entityManager, final Class<T> domainClass) {
+    final EntityGraph<T> graph = entityManager.createEntityGraph(domainClass);
+    final Map<String, Subgraph<?>> subgraphs = new HashMap<>();
+    for (final String path : getFetchPaths(entityManager, domainClass)) {
+      final int last = path.lastIndexOf('.');
+      if (last < 0) {
+        graph.addAttributeNodes(path);
+      } else {
+        getSubgraph(graph, subgraphs, path.substring(0, last))
+            .addAttributeNodes(path.substring(last + 1));
+      }
+    }
+    return graph;
+  }
+
+  private static Subgraph<?> getSubgraph(
+      final EntityGraph<?> graph, final Map<String, Subgraph<?>> subgraphs, final String path) {
+    final Subgraph<?> existing = subgraphs.get(path);
+    if (existing != null) return existing;
+
+    final int last = path.lastIndexOf('.');
+    final Subgraph<?> subgraph =
+        last < 0
+            ? graph.addSubgraph(path)
+            : getSubgraph(graph, subgraphs, path.substring(0, last))
+                .addSubgraph(path.substring(last + 1));
+    subgraphs.put(path, subgraph);
+    return subgraph;
+  }
+
+  /** Returns the property paths of the predicates requested to be fetched. */
+  Set<String> getFetchColumnPaths() {
+    final Set<String> paths = new LinkedHashSet<>();
+    collectFetchColumnPaths(paths);
+    return paths;
+  }
+
+  private void collectFetchColumnPaths(final Set<String> paths) {
+    for (final CompositeSpecification<T, ?> spec : specifications) {
+      if (spec.isFetch()) {
+        paths.add(spec.getColumnPath());
+      }
+    }
+    for (final InnerSpecification<T> inner : innerSpecifications) {
+      if (inner.spec() instanceof BuiltSpecification<T> built) {
+        built.collectFetchColumnPaths(paths);
+      }
+    }
+  }
+
+  /** Returns the predicates of the specification, without the inner specifications. */
+  List<CompositeSpecification<T, ?>> getSpecifications() {
+    return specifications;
+  }
+
+  /** Returns the inner specifications grouped with parentheses. */
+  List<InnerSpecification<T>> getInnerSpecifications() {
+    return innerSpecifications;
+  }
+
+  /**
+   * Returns a copy of the specification in which the fetch joins of the given paths are replaced
+   * with plain joins.
+   *
+   * @param paths property paths as returned by {@link #getFetchColumnPaths()}.
+   */
+  BuiltSpecification<T> withoutFetch(final Collection<String> paths) {
+    final List<InnerSpecification<T>> inners =
+        innerSpecifications.stream()
+            .map(
+                i ->
+                    i.spec() instanceof BuiltSpecification<T> built
+                        ? new InnerSpecification<>(built.withoutFetch(paths), i.operator())
+                        : i)
+            .toList();
+    final Set<String> joined = new LinkedHashSet<>(joinedFetchPaths);
+    joined.addAll(paths);
+    return new BuiltSpecification<>(this, inners, joined);
+  }
+
+  /**
+   * Returns a copy of the specification without the predicates of the given path, also in the
+   * inner specifications. The remaining predicates are connected as before.
+   *
+   * @param path property path of the removed predicates, joins separated by a dot.
+   */
+  BuiltSpecification<T> without(final String path) {
+    final List<CompositeSpecification<T, ?>> kept =
+        specifications.stream().filter(s -> !s.getColumnPath().equals(path)).toList();
+    final List<InnerSpecification<T>> inners =
+        innerSpecifications.stream()
+            .map(
+                i ->
+                    i.spec() instanceof BuiltSpecification<T> built
+                        ? new InnerSpecification<>(built.without(path), i.operator())
+                        : i)
+            .toList();
+    return new BuiltSpecification<>(kept, inners, label, distinct);
+  }
+
+  private String createShape() {
+    final StringBuilder builder = new StringBuilder();
+    for (final CompositeSpecification<T, ?> spec : specifications) {
+      appendShape(builder, spec.connection, spec.getShape());
+    }
+    for (final InnerSpecification<T> inner : innerSpecifications) {
+      final String innerShape =
+          inner.spec() instanceof BuiltSpecification<T> built ? built.getShape() : "?";
+      appendShape(builder, inner.operator(), "(" + innerShape + ")");
+    }
+    return builder.toString();
+  }
+
+  private void appendStructure(final StringBuilder builder, final String indent) {
+    boolean isFirst = true;
+    for (final CompositeSpecification<T, ?> spec : specifications) {
+      builder.append(indent);
+      if (!isFirst) {
+        builder.append(spec.connection.name()).append(' ');
+      }
+      builder.append(spec.getStructure(distinct)).append('\n');
+      isFirst = false;
+    }
+    for (final InnerSpecification<T> inner : innerSpecifications) {
+      builder.append(indent);
+      if (!isFirst) {
+        builder.append(inner.operator().name()).append(' ');
+      }
+      builder.append("(\n");
+      if (inner.spec() instanceof BuiltSpecification<T> built) {
+        built.appendStructure(builder, indent + "  ");
+      } else {
+        builder.append(indent).append("  ?\n");
+      }
+      builder.append(indent).append(")\n");
+      isFirst = false;
+    }
+  }
+
+  private static void appendShape(
+      final StringBuilder builder, final BooleanOperator operator, final String shape) {
+    if (!builder.isEmpty()) {
+      builder.append(' ').append(operator.name()).append(' ');
+    }
+    builder.append(shape);
+  }
+
+  private static @Nullable Predicate connect(
+      final CriteriaBuilder builder,
+      final BooleanOperator operator,
+      @Nullable final Predicate left,
+      @Nullable final Predicate right) {
+    if (left == null) return right;
+    if (right == null) return left;
+    return operator.combine(builder, left, right);
+  }
+
+  /**
+   * Specification grouped with parentheses.
+   *
+   * @param spec grouped specification.
+   * @param operator logical operator connecting the group.
+   * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+   */
+  record InnerSpecification<T>(Specification<T> spec, BooleanOperator operator)
+      implements Serializable {}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A typed property path of a comparable attribute, see {@link AttributePath}.
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ * @param <V> the type of the value of the path.
+ */
+public class ComparableAttributePath<T, V extends Comparable<? super V>>
+    extends AttributePath<T, V> {
+
+  ComparableAttributePath(
+      final List<String> columns,
+      final List<AttributeKind> kinds,
+      final List<Attribute<?, ?>> attributes) {
+    super(columns, kinds, attributes);
+  }
+
+  /**
+   * Minimum allowed value inclusive, see {@link
+   * SpecificationBuilder#min(AttributePath, Comparable)}.
+   *
+   * @param min minimum value.
+   */
+  public @Nullable BuiltSpecification<T> min(@Nullable final V min) {
+    return between(min, null);
+  }
+
+  /**
+   * Maximum allowed value inclusive, see {@link
+   * SpecificationBuilder#max(AttributePath, Comparable)}.
+   *
+   * @param max maximum value.
+   */
+  public @Nullable BuiltSpecification<T> max(@Nullable final V max) {
+    return between(null, max);
+  }
+
+  /**
+   * Between the range inclusive, the extreme values can be infinite({@code null}), see {@link
+   * SpecificationBuilder#between(AttributePath, Comparable, Comparable)}.
+   *
+   * @param min minimum value.
+   * @param max maximum value.
+   */
+  public @Nullable BuiltSpecification<T> between(@Nullable final V min, @Nullable final V max) {
+    return build(b -> b.between(this, min, max));
+  }
+}
@@ -48,8 +48,11 @@ public abstract class ComparisonSpecification<T, P extends Comparable<? super P>
 
   @Override
   protected Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder builder) {
-    final Path<P> path = getPath(root);
+      final Root<T> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder builder,
+      final boolean fetch) {
+    final Path<P> path = getPath(root, fetch);
     return toPredicate(builder, path);
   }
 
@@ -31,6 +31,7 @@ import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
 import java.io.Serial;
 import java.lang.reflect.Field;
 import java.util.Arrays;
@@ -38,7 +39,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import lombok.AccessLevel;
-import lombok.Setter;
+import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -57,19 +58,21 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
   protected final List<String> columns;
   protected final boolean isNot;
   protected final JoinType joinType;
-  BooleanOperator connection;
+  final BooleanOperator connection;
+  @Getter(AccessLevel.PACKAGE)
   private final boolean isFetch;
-
-  @Setter(AccessLevel.PACKAGE)
-  private boolean distinct = true;
+  private final List<AttributeKind> attributeKinds;
+  private final List<Attribute<?, ?>> attributes;
 
   protected <BuilderT extends Builder<BuilderT>> CompositeSpecification(
       final Builder<BuilderT> builder) {
-    this.columns = builder.columns;
+    this.columns = List.copyOf(builder.columns);
     this.connection = builder.connection;
     this.isNot = builder.isNot;
     this.joinType = builder.joinType;
     this.isFetch = builder.isFetch;
+    this.attributeKinds = List.copyOf(builder.attributeKinds);
+    this.attributes = List.copyOf(builder.attributes);
   }
 
   @Override
@@ -77,32 +80,92 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
       @Nullable final Root<T> root,
       @Nullable final CriteriaQuery<?> query,
       @Nullable final CriteriaBuilder criteriaBuilder) {
+    // A standalone predicate is distinct, as by default in SpecificationBuilder.
     if (query != null) {
-      query.distinct(distinct);
+      query.distinct(true);
     }
-    return toCriteriaPredicate(root, query, criteriaBuilder);
+    return toPredicate(root, query, criteriaBuilder, true);
+  }
+
+  /**
+   * Creates the predicate, the requested fetch join is replaced with a plain join when {@code
+   * fetchAllowed} is false, e.g. when the association is loaded by a separate query. The distinct
+   * of the query is set by the caller.
+   */
+  Predicate toPredicate(
+      final Root<T> root,
+      @Nullable final CriteriaQuery<?> query,
+      final CriteriaBuilder criteriaBuilder,
+      final boolean fetchAllowed) {
+    final long start = SpecificationObservers.start();
+    final SpecificationPredicateEvent event = SpecificationPredicateEvent.start();
+    final boolean fetch = isFetch && fetchAllowed && isRootSelected(root, query);
+    final Predicate predicate = toCriteriaPredicate(root, query, criteriaBuilder, fetch);
+    event.complete(this, root, fetch);
+    SpecificationObservers.predicate(this, start);
+    return predicate;
   }
 
   abstract Predicate toCriteriaPredicate(
-      Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder);
+      Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder, boolean fetch);
+
+  /** Returns the SQL operator of the predicate with placeholders instead of values. */
+  abstract String getOperator();
+
+  /** Returns the property path of the predicate, joins separated by a dot. */
+  String getColumnPath() {
+    return String.join(".", columns);
+  }
+
+  /** Returns the structure of the predicate without values, e.g. {@code NOT author.name = ?}. */
+  String getShape() {
+    return (isNot ? "NOT " : "") + getColumnPath() + " " + getOperator();
+  }
+
+  /**
+   * Returns the shape of the predicate with its join type, fetch and distinct, e.g. {@code
+   * author.name = ? [INNER, fetch, distinct]}.
+   *
+   * @param distinct whether the query of the predicate is distinct.
+   */
+  String getStructure(final boolean distinct) {
+    return getShape()
+        + " ["
+        + joinType
+        + (isFetch ? ", fetch" : "")
+        + (distinct ? ", distinct" : "")
+        + "]";
+  }
 
   @SuppressWarnings("unchecked")
-  protected Path<P> getPath(final Root<T> root) {
+  protected Path<P> getPath(final Root<T> root, final boolean fetch) {
+    final long start = SpecificationObservers.start();
+    final SpecificationPathEvent event = SpecificationPathEvent.start();
     Path<P> path = null;
     From<?, ?> from = root;
     Class<?> javaType = root.getJavaType();
+    int joins = 0;
+    int reusedJoins = 0;
 
-    for (final String column : columns) {
-      if (isObjectAssociation(column, javaType)) {
-        final Optional<Join<?, ?>> joinOpt = getJoin(root.getJoins(), column);
-        from = joinOpt.isPresent() ? joinOpt.get() : joinFetch(from, column);
+    for (int i = 0; i < columns.size(); i++) {
+      final AttributeKind kind = getAttributeKind(i, javaType);
+      if (kind == AttributeKind.ASSOCIATION) {
+        final Optional<Join<?, ?>> joinOpt = getJoin(root.getJoins(), i);
+        if (joinOpt.isPresent()) {
+          from = joinOpt.get();
+          reusedJoins++;
+        } else {
+          from = joinFetch(from, i, fetch);
+        }
         javaType = from.getJavaType();
+        joins++;
 
-      } else if (isElementCollection(column, javaType)) {
-        path = from.join(column);
+      } else if (kind == AttributeKind.ELEMENT_COLLECTION) {
+        path = (Path<P>) join(from, i);
+        joins++;
         break;
       } else {
-        path = from.get(column);
+        path = (Path<P>) get(from, i);
         break;
       }
     }
@@ -110,9 +173,21 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
       path = (Path<P>) from;
     }
 
+    event.complete(this, joins, reusedJoins);
+    SpecificationObservers.path(this, joins, start);
     return path;
   }
 
+  /** Returns the precomputed kind of the column, otherwise finds it by reflection. */
+  private AttributeKind getAttributeKind(final int index, final Class<?> javaType) {
+    if (!attributeKinds.isEmpty()) return attributeKinds.get(index);
+
+    final String column = columns.get(index);
+    if (isObjectAssociation(column, javaType)) return AttributeKind.ASSOCIATION;
+    if (isElementCollection(column, javaType)) return AttributeKind.ELEMENT_COLLECTION;
+    return AttributeKind.BASIC;
+  }
+
   private boolean isObjectAssociation(final String column, final Class<?> javaType) {
     final Field[] fields = javaType.getDeclaredFields();
     final Field field =
@@ -131,25 +206,58 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
     return field != null && field.isAnnotationPresent(ElementCollection.class);
   }
 
-  private Optional<Join<?, ?>> getJoin(final Set<? extends Join<?, ?>> joins, final String column) {
-    final Optional<Join<?, ?>> result = Optional.empty();
-    if (joins.isEmpty()) return result;
-
+  /**
+   * Returns the join of the column already made by another predicate. With the attributes of the
+   * metamodel the join must be of the same attribute: the same name declared by the same type, the
+   * criteria joins hold their own instances of the attributes.
+   */
+  private Optional<Join<?, ?>> getJoin(final Set<? extends Join<?, ?>> joins, final int index) {
     for (final Join<?, ?> join : joins) {
-      if (join.getAttribute().getName().equals(column)) {
+      final Attribute<?, ?> joined = join.getAttribute();
+      final boolean isSame =
+          attributes.isEmpty()
+              ? joined.getName().equals(columns.get(index))
+              : isSameAttribute(joined, attributes.get(index));
+      if (isSame) {
         return Optional.of(join);
       }
     }
+    return Optional.empty();
+  }
 
-    return result;
+  private static boolean isSameAttribute(
+      final Attribute<?, ?> joined, final Attribute<?, ?> attribute) {
+    return joined.getName().equals(attribute.getName())
+        && joined.getDeclaringType().getJavaType() == attribute.getDeclaringType().getJavaType();
   }
 
-  private Join<?, ?> joinFetch(final From<?, ?> from, final String column) {
-    if (isFetch) {
-      return (Join<?, ?>) from.fetch(column, joinType);
-    } else {
-      return from.join(column, joinType);
-    }
+  /**
+   * A fetch join is only valid when the owner of the association is selected, so for count,
+   * projection and other non-entity queries the fetch is replaced with a plain join.
+   */
+  private boolean isRootSelected(final Root<T> root, @Nullable final CriteriaQuery<?> query) {
+    return query == null || root.getJavaType().equals(query.getResultType());
+  }
+
+  private Join<?, ?> joinFetch(final From<?, ?> from, final int index, final boolean fetch) {
+    if (!fetch) return join(from, index, joinType);
+    if (attributes.isEmpty()) return (Join<?, ?>) from.fetch(columns.get(index), joinType);
+    return MetamodelPaths.fetch(from, attributes.get(index), joinType);
+  }
+
+  private Join<?, ?> join(final From<?, ?> from, final int index) {
+    return join(from, index, JoinType.INNER);
+  }
+
+  private Join<?, ?> join(final From<?, ?> from, final int index, final JoinType type) {
+    if (attributes.isEmpty()) return from.join(columns.get(index), type);
+    return MetamodelPaths.join(from, attributes.get(index), type);
+  }
+
+  /** Returns the path of a basic attribute, by the attribute of the metamodel if present. */
+  private Path<?> get(final From<?, ?> from, final int index) {
+    if (attributes.isEmpty()) return from.get(columns.get(index));
+    return MetamodelPaths.get(from, attributes.get(index));
   }
 
   /**
@@ -164,6 +272,8 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
     private boolean isNot;
     private JoinType joinType = JoinType.INNER;
     private boolean isFetch;
+    private List<AttributeKind> attributeKinds = List.of();
+    private List<Attribute<?, ?>> attributes = List.of();
 
     Builder(final List<String> columns) {
       this.columns = columns;
@@ -201,6 +311,17 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
       return self();
     }
 
+    /**
+     * Sets the precomputed kinds of the columns of a typed path, so the entity classes are not
+     * inspected by reflection, and the attributes of the metamodel if the path is created from
+     * them, so the path is resolved without looking the attributes up by name.
+     */
+    BuilderT path(final AttributePath<?, ?> path) {
+      this.attributeKinds = path.getKinds();
+      this.attributes = path.isMetamodel() ? path.getAttributes() : List.of();
+      return self();
+    }
+
     protected abstract BuilderT self();
   }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Indexes of an entity declared in the mapping: the primary key, {@code @Table(indexes = ...)} and
+ * {@code @Table(uniqueConstraints = ...)}.
+ *
+ * <p>Column names are compared ignoring case and underscores, so the result does not depend on the
+ * physical naming strategy: {@code is_active} matches the attribute {@code isActive}.
+ */
+@UtilityClass
+class EntityIndexes {
+
+  /**
+   * Whether the leading columns of an index are the given columns in any order.
+   *
+   * @param type metamodel type of the entity.
+   * @param attributes attribute names of the columns.
+   */
+  static boolean isIndexed(final ManagedType<?> type, final List<String> attributes) {
+    final Set<String> columns = new TreeSet<>();
+    attributes.forEach(a -> columns.add(normalize(getColumnName(type.getAttribute(a)))));
+    final int size = columns.size();
+    return getIndexes(type).stream()
+        .anyMatch(i -> i.size() >= size && columns.containsAll(i.subList(0, size)));
+  }
+
+  /** Returns the normalized column names of the indexes of the entity. */
+  private static List<List<String>> getIndexes(final ManagedType<?> type) {
+    final List<List<String>> result = new ArrayList<>();
+    if (type instanceof IdentifiableType<?> identifiable && identifiable.hasSingleIdAttribute()) {
+      final SingularAttribute<?, ?> id = identifiable.getId(identifiable.getIdType().getJavaType());
+      result.add(List.of(normalize(getColumnName(id))));
+    }
+    for (final Table table : type.getJavaType().getAnnotationsByType(Table.class)) {
+      for (final Index index : table.indexes()) {
+        result.add(splitColumns(index.columnList()));
+      }
+      for (final UniqueConstraint constraint : table.uniqueConstraints()) {
+        result.add(Arrays.stream(constraint.columnNames()).map(EntityIndexes::normalize).toList());
+      }
+    }
+    return result;
+  }
+
+  /** Splits {@code "column_1, column_2 DESC"}. */
+  private static List<String> splitColumns(final String columnList) {
+    return Arrays.stream(columnList.split(","))
+        .map(c -> c.trim().split("\\s+")[0])
+        .map(EntityIndexes::normalize)
+        .toList();
+  }
+
+  private static String getColumnName(final Attribute<?, ?> attribute) {
+    if (attribute.getJavaMember() instanceof AnnotatedElement member) {
+      final Column column = member.getAnnotation(Column.class);
+      if (column != null && !column.name().isEmpty()) return column.name();
+    }
+    return attribute.getName();
+  }
+
+  private static String normalize(final String column) {
+    return column.replace("_", "").replace("\"", "").toLowerCase(Locale.ROOT);
+  }
+}
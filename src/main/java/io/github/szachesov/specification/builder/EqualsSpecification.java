@@ -41,10 +41,18 @@ public class EqualsSpecification<T> extends CompositeSpecification<T, Object> {
     this.value = builder.value;
   }
 
+  @Override
+  String getOperator() {
+    return "= ?";
+  }
+
   @Override
   Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder) {
-    final Path<Object> path = getPath(root);
+      final Root<T> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder criteriaBuilder,
+      final boolean fetch) {
+    final Path<Object> path = getPath(root, fetch);
 
     return isNot ? criteriaBuilder.notEqual(path, value) : criteriaBuilder.equal(path, value);
   }
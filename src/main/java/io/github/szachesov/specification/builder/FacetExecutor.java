@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.QueryTimeoutException;
+import jakarta.persistence.criteria.Root;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+/**
+ * Executor of facet counts of a {@link BuiltSpecification}: for each facet the number of matching
+ * entities per value of its column, e.g. per group, per tag or per active flag next to the
+ * results of a search.
+ *
+ * <p>By default all facets are counted by one statement, a grouped query per facet combined with
+ * UNION ALL. With an {@link Executor} each facet is counted by its own grouped query, the queries
+ * run concurrently each with its own {@link EntityManager} and read-only transaction, e.g. on a
+ * bounded thread pool sized to the connection pool, or {@code
+ * Executors.newVirtualThreadPerTaskExecutor()} on Java 21. The failure of one query, the expiry
+ * of the timeout or the interrupt of the waiting thread cancel the statements of the running
+ * queries, as in {@link ParallelPageExecutor}.
+ *
+ * <p>Within a transaction of the caller the facets are counted by one statement with the
+ * transactional entity manager, so that the counts see the changes of the transaction.
+ *
+ * <p>Example: {@code SELECT 0, u.is_active, null, count(DISTINCT u.id) FROM users u WHERE ...
+ * GROUP BY u.is_active UNION ALL SELECT 1, null, g.name, count(DISTINCT u.id) FROM users u LEFT
+ * JOIN ... WHERE ... GROUP BY g.name}
+ *
+ * @param <T> the type of the {@link Root} the {@literal Specification} operates on.
+ */
+public class FacetExecutor<T> {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final Class<T> domainClass;
+  private final @Nullable Executor executor;
+  private final @Nullable Duration timeout;
+
+  /**
+   * Creates an executor counting all facets by one statement.
+   *
+   * @param entityManagerFactory factory of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   */
+  public FacetExecutor(
+      final EntityManagerFactory entityManagerFactory, final Class<T> domainClass) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.domainClass = domainClass;
+    this.executor = null;
+    this.timeout = null;
+  }
+
+  /**
+   * Creates an executor counting each facet by its own query, the queries run concurrently and are
+   * waited for without a timeout.
+   *
+   * @param entityManagerFactory factory of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   * @param executor executor of the queries.
+   */
+  public FacetExecutor(
+      final EntityManagerFactory entityManagerFactory,
+      final Class<T> domainClass,
+      final Executor executor) {
+    this(entityManagerFactory, domainClass, executor, null);
+  }
+
+  /**
+   * Creates an executor counting each facet by its own query, the queries run concurrently.
+   *
+   * @param entityManagerFactory factory of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   * @param executor executor of the queries.
+   * @param timeout maximum time {@link #count(BuiltSpecification, List)} waits for the counts, can
+   *     be {@literal null}.
+   */
+  public FacetExecutor(
+      final EntityManagerFactory entityManagerFactory,
+      final Class<T> domainClass,
+      final Executor executor,
+      @Nullable final Duration timeout) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.domainClass = domainClass;
+    this.executor = executor;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Returns the counts of the entities matching the given specification per value of each facet:
+   * the column of the facet mapped to the counts by value, in the order of the facets. An entity
+   * is counted once per value, a {@literal null} value is counted as well.
+   *
+   * @param spec can be {@literal null}.
+   * @param facets facets to count, one per column.
+   * @throws QueryTimeoutException if the facets are not counted within the timeout.
+   * @throws CancellationException if the calling thread is interrupted while waiting.
+   */
+  public Map<String, Map<Object, Long>> count(
+      @Nullable final BuiltSpecification<T> spec, final List<Facet> facets) {
+    if (facets.isEmpty()) return Map.of();
+
+    final EntityManager transactional =
+        EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+    if (transactional != null) return FacetQuery.count(transactional, domainClass, spec, facets);
+    if (executor == null) {
+      return new RunningQueries()
+          .run(entityManagerFactory, e -> FacetQuery.count(e, domainClass, spec, facets));
+    }
+    return countConcurrently(executor, spec, facets);
+  }
+
+  private Map<String, Map<Object, Long>> countConcurrently(
+      final Executor executor,
+      @Nullable final BuiltSpecification<T> spec,
+      final List<Facet> facets) {
+    final RunningQueries running = new RunningQueries();
+    final CompletableFuture<Void> failure = new CompletableFuture<>();
+    final List<CompletableFuture<Map<String, Map<Object, Long>>>> queries = new ArrayList<>();
+    try {
+      for (final Facet facet : facets) {
+        queries.add(
+            submit(
+                executor,
+                running,
+                failure,
+                e -> FacetQuery.count(e, domainClass, spec, List.of(facet))));
+      }
+    } catch (final RejectedExecutionException e) {
+      running.cancel();
+      throw e;
+    }
+    // the first failure, not the failures of the queries cancelled by it
+    await(
+        running,
+        CompletableFuture.anyOf(
+            failure, CompletableFuture.allOf(queries.toArray(CompletableFuture<?>[]::new))));
+
+    final Map<String, Map<Object, Long>> counts = new LinkedHashMap<>();
+    queries.forEach(q -> counts.putAll(q.join()));
+    return counts;
+  }
+
+  @SuppressWarnings("PMD.PreserveStackTrace") // the failure of a query is rethrown as is
+  private void await(final RunningQueries running, final CompletableFuture<?> counted) {
+    try {
+      if (timeout == null) {
+        counted.get();
+      } else {
+        counted.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      }
+    } catch (final TimeoutException e) {
+      running.cancel();
+      throw new QueryTimeoutException("The facets are not counted within " + timeout, e);
+    } catch (final InterruptedException e) {
+      running.cancel();
+      Thread.currentThread().interrupt();
+      final CancellationException cancelled =
+          new CancellationException("Interrupted while waiting for the facets");
+      cancelled.initCause(e);
+      throw cancelled;
+    } catch (final ExecutionException e) {
+      throw RunningQueries.unchecked(e.getCause());
+    }
+  }
+
+  private <R> CompletableFuture<R> submit(
+      final Executor executor,
+      final RunningQueries running,
+      final CompletableFuture<Void> failure,
+      final Function<EntityManager, R> query) {
+    return CompletableFuture.supplyAsync(() -> running.run(entityManagerFactory, query), executor)
+        .whenComplete(
+            (r, e) -> {
+              if (e != null) {
+                failure.completeExceptionally(e);
+                running.cancel();
+              }
+            });
+  }
+
+  /**
+   * Facet of the entities.
+   *
+   * @param column property path of the counted values, joins separated by a dot.
+   * @param isExcludingOwnFilter whether the predicates of the column are removed from the
+   *     specification when counting the facet, so that the counts show the values selectable in
+   *     addition to the selected ones.
+   */
+  public record Facet(String column, boolean isExcludingOwnFilter) {
+
+    /**
+     * Facet counted with all predicates of the specification.
+     *
+     * @param column property path of the counted values, joins separated by a dot.
+     */
+    public static Facet of(final String column) {
+      return new Facet(column, false);
+    }
+
+    /**
+     * Multi-select facet counted without the predicates of its own column.
+     *
+     * @param column property path of the counted values, joins separated by a dot.
+     */
+    public static Facet multiSelect(final String column) {
+      return new Facet(column, true);
+    }
+  }
+}
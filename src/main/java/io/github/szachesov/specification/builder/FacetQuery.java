@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.FacetExecutor.Facet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
+
+/**
+ * Grouped count query of facets, the queries of several facets combined with UNION ALL.
+ *
+ * <p>A row holds the index of the facet, a value column per facet, {@literal null} in the columns
+ * of the other facets, so each column keeps the type of its facet, and the count of distinct
+ * entities: a join of a predicate across a collection does not multiply the counts.
+ */
+@UtilityClass
+class FacetQuery {
+
+  /**
+   * Counts the entities matching the specification per value of each facet.
+   *
+   * @param entityManager entity manager running the query.
+   * @param domainClass the type of the {@link Root}.
+   * @param spec can be {@literal null}.
+   * @param facets facets to count, at least one.
+   */
+  static <T> Map<String, Map<Object, Long>> count(
+      final EntityManager entityManager,
+      final Class<T> domainClass,
+      @Nullable final BuiltSpecification<T> spec,
+      final List<Facet> facets) {
+    final long start = SpecificationObservers.start();
+    final HibernateCriteriaBuilder builder =
+        entityManager.unwrap(Session.class).getCriteriaBuilder();
+    final List<Branch<T>> branches = new ArrayList<>();
+    for (final Facet facet : facets) {
+      final JpaCriteriaQuery<Tuple> query = builder.createTupleQuery();
+      final Root<T> root =
+          SpecificationQueryUtils.applySpecification(
+              getSpecification(spec, facet), domainClass, query, builder);
+      final Expression<?> value =
+          QueryUtils.toExpressionRecursively(
+              root, PropertyPath.from(facet.column(), domainClass), true);
+      query.groupBy(value).distinct(false);
+      branches.add(new Branch<>(query, root, value));
+    }
+    for (int i = 0; i < branches.size(); i++) {
+      select(builder, branches, i);
+    }
+
+    final CriteriaQuery<Tuple> query =
+        branches.size() == 1
+            ? branches.get(0).query()
+            : builder.unionAll(
+                branches.get(0).query(),
+                branches.stream().skip(1).map(Branch::query).toArray(CriteriaQuery<?>[]::new));
+    final List<Tuple> rows =
+        SpecificationQueryUtils.comment(spec, entityManager.createQuery(query)).getResultList();
+    SpecificationObservers.query(domainClass, spec, start);
+
+    final Map<String, Map<Object, Long>> counts = new LinkedHashMap<>();
+    facets.forEach(f -> counts.put(f.column(), new LinkedHashMap<>()));
+    for (final Tuple row : rows) {
+      final int index = row.get(0, Integer.class);
+      counts
+          .get(facets.get(index).column())
+          .put(row.get(index + 1), row.get(facets.size() + 1, Long.class));
+    }
+    return counts;
+  }
+
+  private static <T> void select(
+      final HibernateCriteriaBuilder builder, final List<Branch<T>> branches, final int index) {
+    final List<Selection<?>> selections = new ArrayList<>();
+    selections.add(builder.literal(index));
+    for (int i = 0; i < branches.size(); i++) {
+      final Expression<?> value = branches.get(i).value();
+      selections.add(i == index ? value : builder.nullLiteral(value.getJavaType()));
+    }
+    selections.add(builder.countDistinct(branches.get(index).root()));
+    branches.get(index).query().multiselect(selections);
+  }
+
+  private static <T> @Nullable BuiltSpecification<T> getSpecification(
+      @Nullable final BuiltSpecification<T> spec, final Facet facet) {
+    return spec != null && facet.isExcludingOwnFilter() ? spec.without(facet.column()) : spec;
+  }
+
+  private record Branch<T>(
+      JpaCriteriaQuery<Tuple> query, Root<T> root, Expression<?> value) {}
+}
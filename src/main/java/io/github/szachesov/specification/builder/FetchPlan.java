@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.FetchParent;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Plan of loading the associations requested with fetch joins.
+ *
+ * <p>Every fetched collection multiplies the rows of the result, so two of them in one query
+ * return a Cartesian product (and two bags fail with {@code MultipleBagFetchException}). Only the
+ * first fetched collection stays in the main query, the others are replaced with plain joins and
+ * loaded by a secondary query per collection:
+ *
+ * <p>Example: {@code SELECT ... LEFT JOIN FETCH table_join ... WHERE id IN (:parentIds)}
+ *
+ * @param spec specification of the main query, can be {@literal null}.
+ * @param secondaryFetches associations loaded by secondary queries, in order.
+ * @param <T> the type of the {@link jakarta.persistence.criteria.Root} the specification operates
+ *     on.
+ */
+record FetchPlan<T>(@Nullable Specification<T> spec, List<SecondaryFetch<?>> secondaryFetches) {
+
+  /**
+   * Plans the fetches of the specification, only fetches of a {@link BuiltSpecification} are known.
+   *
+   * @param spec can be {@literal null}.
+   * @param type metamodel type of the root.
+   */
+  static <T> FetchPlan<T> of(@Nullable final Specification<T> spec, final ManagedType<T> type) {
+    if (!(spec instanceof BuiltSpecification<T> built)) return new FetchPlan<>(spec, List.of());
+
+    final Map<List<Attribute<?, ?>>, List<String>> collections =
+        built.getFetchColumnPaths().stream()
+            .collect(
+                Collectors.groupingBy(
+                    p -> SpecificationQueryUtils.getAssociations(type, p),
+                    LinkedHashMap::new,
+                    Collectors.toList()));
+    collections.keySet().removeIf(a -> a.stream().noneMatch(Attribute::isCollection));
+    if (collections.size() < 2) return new FetchPlan<>(spec, List.of());
+
+    final List<List<Attribute<?, ?>>> secondary = new ArrayList<>(collections.keySet());
+    secondary.remove(0);
+    final List<String> joined =
+        secondary.stream().flatMap(a -> collections.get(a).stream()).toList();
+    return new FetchPlan<>(built.withoutFetch(joined), getFetchLevels(type, secondary));
+  }
+
+  /**
+   * Splits nested collections into a query per level, since fetching a collection of a collection
+   * repeats the elements of the outer one. A nested level is fetched from the elements of the
+   * outer collection instead of the root, so its rows grow with the nested elements only. A
+   * collection initialized by a previous query is kept.
+   */
+  private static List<SecondaryFetch<?>> getFetchLevels(
+      final ManagedType<?> type, final List<List<Attribute<?, ?>>> fetches) {
+    final Set<SecondaryFetch<?>> levels = new LinkedHashSet<>();
+    for (final List<Attribute<?, ?>> associations : fetches) {
+      final List<String> names = associations.stream().map(Attribute::getName).toList();
+      int owner = -1;
+      for (int i = 0; i < associations.size(); i++) {
+        if (!associations.get(i).isCollection()) continue;
+
+        final Class<?> ownerClass =
+            owner < 0
+                ? type.getJavaType()
+                : SpecificationQueryUtils.getTargetType(associations.get(owner)).getJavaType();
+        levels.add(
+            new SecondaryFetch<>(
+                names.subList(0, owner + 1), ownerClass, names.subList(owner + 1, i + 1)));
+        owner = i;
+      }
+    }
+    return List.copyOf(levels);
+  }
+
+  /**
+   * Secondary query fetching the associations from the owners: the root restricted to the
+   * identifiers of the result, or the elements of the collection reached by the owner path from
+   * such a root.
+   *
+   * <p>Example: {@code SELECT p FROM Post p LEFT JOIN FETCH p.tags WHERE p IN (SELECT e FROM User
+   * u JOIN u.posts e WHERE u.id IN (:parentIds))}
+   *
+   * @param owner path of the owner collection from the root, empty if the root is the owner.
+   * @param ownerClass the type of the owners.
+   * @param fetches associations fetched from the owners.
+   * @param <O> the type of the owners.
+   */
+  record SecondaryFetch<O>(List<String> owner, Class<O> ownerClass, List<String> fetches) {
+
+    /**
+     * Creates the query of the owners of the given roots.
+     *
+     * @param builder criteria builder.
+     * @param domainClass the type of the root.
+     * @param id identifier attribute of the root.
+     * @param ids identifiers of the roots.
+     */
+    @SuppressWarnings("unchecked") // the owner path ends at the elements of the owner type
+    <T> CriteriaQuery<O> createQuery(
+        final CriteriaBuilder builder,
+        final Class<T> domainClass,
+        final SingularAttribute<? super T, ?> id,
+        final Collection<?> ids) {
+      final CriteriaQuery<O> query = builder.createQuery(ownerClass);
+      final Root<O> root = query.from(ownerClass);
+      FetchParent<?, ?> parent = root;
+      for (final String fetch : fetches) {
+        parent = parent.fetch(fetch, JoinType.LEFT);
+      }
+      query.select(root);
+      if (owner.isEmpty()) return query.where(root.get(id.getName()).in(ids));
+
+      final Subquery<O> subquery = query.subquery(ownerClass);
+      final Root<T> parentRoot = subquery.from(domainClass);
+      From<?, ?> from = parentRoot;
+      for (final String join : owner) {
+        from = from.join(join);
+      }
+      subquery.select((Expression<O>) from).where(parentRoot.get(id).in(ids));
+      return query.where(root.in(subquery));
+    }
+  }
+}
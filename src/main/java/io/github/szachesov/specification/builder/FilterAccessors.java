@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.experimental.UtilityClass;
+
+/** Compiles the accessors of the fields of a filter object into functions. */
+@UtilityClass
+class FilterAccessors {
+
+  /**
+   * Returns the accessor of the field compiled with {@link LambdaMetafactory}: the accessor of the
+   * record component, {@code name()}, {@code getName()} or {@code isName()}.
+   *
+   * @param field the field of the filter.
+   * @throws IllegalArgumentException if the field has no accessor or it can not be compiled.
+   */
+  static Function<Object, Object> of(final Field field) {
+    final String name = field.getName();
+    final String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    final Map<String, Method> methods = new HashMap<>();
+    for (final Method method : field.getDeclaringClass().getDeclaredMethods()) {
+      if (method.getParameterCount() == 0 && method.getReturnType() == field.getType()) {
+        methods.put(method.getName(), method);
+      }
+    }
+    return Stream.of(name, "get" + suffix, "is" + suffix)
+        .map(methods::get)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .map(FilterAccessors::compile)
+        .orElseThrow(() -> new IllegalArgumentException("No accessor of the filter " + field));
+  }
+
+  // LambdaMetafactory spins a class calling the accessor directly, as fast as a handwritten call.
+  @SuppressWarnings({"unchecked", "checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
+  private static Function<Object, Object> compile(final Method method) {
+    try {
+      final MethodHandles.Lookup lookup =
+          MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+      final MethodHandle handle = lookup.unreflect(method);
+      final CallSite site =
+          LambdaMetafactory.metafactory(
+              lookup,
+              "apply",
+              MethodType.methodType(Function.class),
+              MethodType.methodType(Object.class, Object.class),
+              handle,
+              handle.type().wrap());
+      return (Function<Object, Object>) site.getTarget().invokeExact();
+    } catch (final Throwable e) { // invokeExact declares Throwable
+      throw new IllegalArgumentException("Cannot compile the accessor " + method, e);
+    }
+  }
+}
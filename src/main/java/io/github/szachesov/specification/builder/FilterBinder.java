@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Binder of a filter object, e.g. a request DTO, to the predicates of a {@link
+ * SpecificationBuilder}.
+ *
+ * <p>The fields or record components of the filter are annotated with {@link Equal}, {@link Like}
+ * or {@link Range}; a {@code null} value adds no predicate, as in the builder, so the annotated
+ * fields are of reference types, e.g. {@code Integer} instead of {@code int}. Example:
+ *
+ * <pre>{@code
+ * record PostFilter(
+ *     @Equal("author.username") String author,
+ *     @Like(wildcard = Wildcard.MULTIPLE) String title,
+ *     @Range(column = "createdAt", bound = Bound.EXCLUSIVE) LocalDate createdAfter) {}
+ *
+ * BuiltSpecification<Post> spec = FilterBinder.of(PostFilter.class).build(filter);
+ * }</pre>
+ *
+ * <p>The bindings are compiled once per filter class: the accessors of the fields (the accessor
+ * of the record component, {@code name()}, {@code getName()} or {@code isName()}) are spun with
+ * {@link java.lang.invoke.LambdaMetafactory} and the property paths are split in advance. Binding
+ * a filter makes no reflective calls. The binder is thread-safe.
+ *
+ * @param <F> the type of the filter.
+ */
+public final class FilterBinder<F> {
+
+  private static final ClassValue<FilterBinder<?>> BINDERS =
+      new ClassValue<>() {
+        @Override
+        protected FilterBinder<?> computeValue(final Class<?> type) {
+          return new FilterBinder<>(FilterBinding.compile(type));
+        }
+      };
+
+  private final List<FilterBinding> bindings;
+
+  private FilterBinder(final List<FilterBinding> bindings) {
+    this.bindings = bindings;
+  }
+
+  /**
+   * Returns the binder of the filter class, compiled on the first call.
+   *
+   * @param type the class of the filter.
+   * @param <F> the type of the filter.
+   * @throws IllegalArgumentException if an annotated field has no accessor, is primitive or the
+   *     annotation does not fit the type of the field.
+   */
+  @SuppressWarnings("unchecked")
+  public static <F> FilterBinder<F> of(final Class<F> type) {
+    return (FilterBinder<F>) BINDERS.get(type);
+  }
+
+  /**
+   * Adds the predicates of the filter to the builder.
+   *
+   * @param builder the builder of the specification.
+   * @param filter can be {@literal null}, then no predicate is added.
+   * @param <T> the type of the root of the specification.
+   */
+  public <T> SpecificationBuilder<T> bind(
+      final SpecificationBuilder<T> builder, @Nullable final F filter) {
+    if (filter == null) return builder;
+
+    for (final FilterBinding binding : bindings) {
+      binding.bind(builder, filter);
+    }
+    return builder;
+  }
+
+  /**
+   * Builds the specification of the predicates of the filter, {@literal null} if no predicate has
+   * been added, as {@link SpecificationBuilder#build()}.
+   *
+   * @param filter can be {@literal null}, then no predicate is added.
+   * @param <T> the type of the root of the specification.
+   */
+  public <T> @Nullable BuiltSpecification<T> build(@Nullable final F filter) {
+    return bind(SpecificationBuilder.<T>builder(), filter).build();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Binding of a field of a filter object: the compiled accessor of the field and the call of
+ * {@link SpecificationBuilder} with its value.
+ *
+ * @param accessor compiled accessor of the field.
+ * @param predicate adds the predicate of the value to the builder.
+ */
+record FilterBinding(
+    Function<Object, Object> accessor, BiConsumer<SpecificationBuilder<?>, Object> predicate) {
+
+  /** Adds the predicate of the field value of the filter to the builder. */
+  void bind(final SpecificationBuilder<?> builder, final Object filter) {
+    predicate.accept(builder, accessor.apply(filter));
+  }
+
+  /**
+   * Compiles the bindings of the annotated fields of the filter class and its superclasses.
+   *
+   * @param type the class of the filter.
+   * @throws IllegalArgumentException if an annotation does not fit the type of the field.
+   */
+  static List<FilterBinding> compile(final Class<?> type) {
+    final List<FilterBinding> bindings = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (final Field field : c.getDeclaredFields()) {
+        final BiConsumer<SpecificationBuilder<?>, Object> predicate = predicate(field);
+        if (predicate != null) {
+          bindings.add(new FilterBinding(FilterAccessors.of(field), predicate));
+        }
+      }
+    }
+    return List.copyOf(bindings);
+  }
+
+  private static @Nullable BiConsumer<SpecificationBuilder<?>, Object> predicate(
+      final Field field) {
+    final Equal equal = field.getAnnotation(Equal.class);
+    if (equal != null) return equal(columns(equal.value(), field), field);
+
+    final Like like = field.getAnnotation(Like.class);
+    if (like != null) return like(columns(like.value(), field), field, like.wildcard());
+
+    final Range range = field.getAnnotation(Range.class);
+    if (range != null) return range(columns(range.column(), field), field, range);
+
+    return null;
+  }
+
+  private static BiConsumer<SpecificationBuilder<?>, Object> equal(
+      final List<String> columns, final Field field) {
+    requireNullable(field);
+    if (Collection.class.isAssignableFrom(field.getType())) {
+      return (b, v) -> b.in(columns, (Collection<?>) v);
+    }
+    return (b, v) -> b.equal(columns, v);
+  }
+
+  private static BiConsumer<SpecificationBuilder<?>, Object> like(
+      final List<String> columns, final Field field, final Wildcard wildcard) {
+    if (field.getType() != String.class) {
+      throw new IllegalArgumentException("@Like requires a String filter " + field);
+    }
+    return (b, v) -> b.like(columns, (String) v, s -> s.wildcard(wildcard));
+  }
+
+  private static BiConsumer<SpecificationBuilder<?>, Object> range(
+      final List<String> columns, final Field field, final Range range) {
+    requireNullable(field);
+    if (!Comparable.class.isAssignableFrom(field.getType())) {
+      throw new IllegalArgumentException("@Range requires a Comparable filter " + field);
+    }
+    final Bound bound = range.bound();
+    return range.end() == Range.End.MIN
+        ? (b, v) -> min(b, columns, v, bound)
+        : (b, v) -> max(b, columns, v, bound);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <P extends Comparable<? super P>> void min(
+      final SpecificationBuilder<?> builder,
+      final List<String> columns,
+      final Object value,
+      final Bound bound) {
+    builder.min(columns, (P) value, b -> b.minBound(bound));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <P extends Comparable<? super P>> void max(
+      final SpecificationBuilder<?> builder,
+      final List<String> columns,
+      final Object value,
+      final Bound bound) {
+    builder.max(columns, (P) value, b -> b.maxBound(bound));
+  }
+
+  /** A primitive field is never {@code null}, its predicate could not be left out. */
+  private static void requireNullable(final Field field) {
+    if (field.getType().isPrimitive()) {
+      throw new IllegalArgumentException("A filter must be of a boxed type, e.g. Integer " + field);
+    }
+  }
+
+  private static List<String> columns(final String path, final Field field) {
+    return List.of((path.isEmpty() ? field.getName() : path).split("\\."));
+  }
+}
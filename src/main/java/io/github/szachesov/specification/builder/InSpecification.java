@@ -20,15 +20,21 @@ package io.github.szachesov.specification.builder;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.io.Serial;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Predicate of equal to one of multiple possible values(IN).
  *
+ * <p>The negated predicate (NOT IN) is null-safe: a column without a value is not in the values,
+ * unless the values contain {@literal null}.
+ *
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  * @param <P> target predicate type, maybe {@link Join}
  */
@@ -36,17 +42,60 @@ public class InSpecification<T, P> extends CompositeSpecification<T, P> {
 
   @Serial private static final long serialVersionUID = 4863139718722687097L;
 
-  private final Collection<P> values;
+  private final List<P> values;
+  private final List<P> nonNullValues;
+  private final boolean hasNull;
+  private final boolean isExists;
 
   private InSpecification(final Builder<T, P> builder) {
     super(builder);
-    this.values = builder.values;
+    // An unmodifiable copy keeping the nulls, a change of the caller's collection is not seen.
+    this.values = builder.values.stream().toList();
+    this.hasNull = values.contains(null);
+    this.nonNullValues = hasNull ? values.stream().filter(Objects::nonNull).toList() : values;
+    this.isExists = builder.isExists;
+  }
+
+  /** Returns the number of values of the IN list. */
+  int size() {
+    return values.size();
+  }
+
+  @Override
+  String getOperator() {
+    return isExists ? "IN ? (EXISTS)" : "IN ?";
   }
 
   @Override
   Predicate toCriteriaPredicate(
+      final Root<T> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder criteriaBuilder,
+      final boolean fetch) {
+    if (isExists && query != null) return toExists(root, query, criteriaBuilder);
+
+    final Path<P> path = getPath(root, fetch);
+    return isNot ? toNotIn(path, criteriaBuilder) : path.in(values);
+  }
+
+  private Predicate toNotIn(final Path<P> path, final CriteriaBuilder criteriaBuilder) {
+    if (nonNullValues.isEmpty()) return path.isNotNull();
+
+    final Predicate notIn = criteriaBuilder.not(path.in(nonNullValues));
+    return hasNull ? notIn : criteriaBuilder.or(path.isNull(), notIn);
+  }
+
+  /**
+   * A semi-join (EXISTS) or an anti-join (NOT EXISTS): the path is joined in a subquery correlated
+   * with the root, so the rows of a collection neither multiply nor match the negation one by one.
+   */
+  private Predicate toExists(
       final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder) {
-    return getPath(root).in(values);
+    final Subquery<Integer> subquery = query.subquery(Integer.class);
+    final Path<P> path = getPath(subquery.correlate(root), false);
+    subquery.select(criteriaBuilder.literal(1)).where(path.in(values));
+    final Predicate exists = criteriaBuilder.exists(subquery);
+    return isNot ? criteriaBuilder.not(exists) : exists;
   }
 
   /**
@@ -59,12 +108,23 @@ public class InSpecification<T, P> extends CompositeSpecification<T, P> {
       implements ObjectBuilder<InSpecification<T, P>> {
 
     private final Collection<P> values;
+    private boolean isExists;
 
     Builder(final List<String> columns, final Collection<P> values) {
       super(columns);
       this.values = values;
     }
 
+    /**
+     * Compares the values in a correlated subquery instead of joining the path: {@code EXISTS}, or
+     * {@code NOT EXISTS} with {@link #not()}. Intended for paths across a collection, e.g. users
+     * not in a group, which a join compares row by row and multiplies.
+     */
+    public Builder<T, P> exists() {
+      this.isExists = true;
+      return this;
+    }
+
     @Override
     public InSpecification<T, P> build() {
       return new InSpecification<>(this);
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * {@link SpecificationObserver} collecting which columns are filtered with which operators, and
+ * suggesting composite indexes for the observed filters.
+ *
+ * <p>The usage is recorded per entity with striped counters ({@link LongAdder}), so concurrent
+ * queries do not contend. Predicates of a joined path are recorded for the joined entity.
+ * Predicates connected with {@code AND} form a candidate composite index: columns compared for
+ * equality first, then one column compared by a range or a prefix. Negated predicates and
+ * case-insensitive prefixes cannot use a B-tree index on the column, they are only recorded.
+ * Candidates already covered by
+ * the primary key, {@code @Table(indexes = ...)} or {@code @Table(uniqueConstraints = ...)} of the
+ * entity are not suggested.
+ *
+ * <p>Only queries notified with the type of the root are recorded, see {@link
+ * SpecificationObservers#observeQuery(Class, Specification, java.util.function.Supplier)}.
+ *
+ * <p>Example: {@code SpecificationObservers.register(new IndexAdvisor(entityManagerFactory
+ * .getMetamodel()))}
+ */
+public class IndexAdvisor implements SpecificationObserver {
+
+  private final Metamodel metamodel;
+  private final Map<ColumnKey, Counter> columns = new ConcurrentHashMap<>();
+  private final Map<IndexKey, Counter> indexes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an advisor.
+   *
+   * @param metamodel metamodel of the persistence unit.
+   */
+  public IndexAdvisor(final Metamodel metamodel) {
+    this.metamodel = metamodel;
+  }
+
+  @Override
+  public void onQuery(
+      final Class<?> domainClass, @Nullable final Specification<?> spec, final long nanos) {
+    if (spec instanceof BuiltSpecification<?> built) {
+      record(metamodel.managedType(domainClass), built, nanos);
+    }
+  }
+
+  /** Returns the recorded usage of columns, the most frequent first. */
+  public List<ColumnUsage> getColumnUsages() {
+    return columns.entrySet().stream()
+        .map(
+            e ->
+                new ColumnUsage(
+                    e.getKey().entity(),
+                    e.getKey().column(),
+                    e.getKey().operator(),
+                    e.getValue().count.sum(),
+                    Duration.ofNanos(e.getValue().nanos.sum())))
+        .sorted(Comparator.comparingLong(ColumnUsage::count).reversed())
+        .toList();
+  }
+
+  /**
+   * Returns the suggested indexes not covered by the indexes of the entities, ranked by the total
+   * time of the queries that would use them.
+   */
+  public List<IndexSuggestion> getSuggestions() {
+    return indexes.entrySet().stream()
+        .filter(e -> !isIndexed(e.getKey()))
+        .map(
+            e ->
+                new IndexSuggestion(
+                    e.getKey().entity(),
+                    e.getKey().columns(),
+                    e.getValue().count.sum(),
+                    Duration.ofNanos(e.getValue().nanos.sum())))
+        .sorted(Comparator.comparing(IndexSuggestion::totalTime).reversed())
+        .toList();
+  }
+
+  /** Clears the recorded usage. */
+  public void reset() {
+    columns.clear();
+    indexes.clear();
+  }
+
+  private void record(
+      final ManagedType<?> root, final BuiltSpecification<?> spec, final long nanos) {
+    final List<? extends CompositeSpecification<?, ?>> specifications = spec.getSpecifications();
+    final boolean isConjunction =
+        specifications.stream().skip(1).allMatch(s -> s.connection == BooleanOperator.AND);
+    final Map<Class<?>, IndexCandidate> candidates = new LinkedHashMap<>();
+    for (final CompositeSpecification<?, ?> composite : specifications) {
+      final ColumnKey key = ColumnKey.of(root, composite);
+      if (key == null) continue;
+
+      add(columns, key, nanos);
+      if (key.operator().isIndexable()) {
+        if (isConjunction) {
+          candidates.computeIfAbsent(key.entity(), IndexCandidate::new).add(key);
+        } else {
+          add(indexes, IndexCandidate.of(key).toKey(), nanos);
+        }
+      }
+    }
+    candidates.values().forEach(c -> add(indexes, c.toKey(), nanos));
+    for (final BuiltSpecification.InnerSpecification<?> inner : spec.getInnerSpecifications()) {
+      if (inner.spec() instanceof BuiltSpecification<?> built) {
+        record(root, built, nanos);
+      }
+    }
+  }
+
+  private static <K> void add(final Map<K, Counter> counters, final K key, final long nanos) {
+    counters.computeIfAbsent(key, k -> new Counter()).add(nanos);
+  }
+
+  private boolean isIndexed(final IndexKey key) {
+    return EntityIndexes.isIndexed(metamodel.managedType(key.entity()), key.columns());
+  }
+
+  /** Operator of a predicate from the point of view of an index. */
+  public enum Operator {
+    /** {@code column = ?}. */
+    EQUALITY,
+    /** {@code column IN (?)}. */
+    IN,
+    /** {@code column IS NULL}. */
+    NULL,
+    /** {@code column > ?}, {@code column BETWEEN ? AND ?}. */
+    RANGE,
+    /** {@code column LIKE ?%}, usable by a B-tree index. */
+    PREFIX,
+    /** {@code column LIKE %?}, {@code column LIKE %?%}, not usable by a B-tree index. */
+    CONTAINS,
+    /**
+     * {@code UPPER(column) LIKE ?%}, usable only by an expression index on {@code UPPER(column)},
+     * not by an index on the column.
+     */
+    IGNORE_CASE,
+    /** {@code column <> ?}, {@code column NOT IN (?)}, {@code NOT ...}, not usable for a seek. */
+    NEGATION;
+
+    /** Whether the column can be a leading column of a composite index. */
+    boolean isEquality() {
+      return this == EQUALITY || this == IN || this == NULL;
+    }
+
+    boolean isIndexable() {
+      return this != CONTAINS && this != IGNORE_CASE && this != NEGATION;
+    }
+
+    static Operator of(final CompositeSpecification<?, ?> spec) {
+      if (spec.isNot) return NEGATION;
+      if (spec instanceof LikeSpecification<?> like) return of(like);
+      if (spec instanceof EqualsSpecification<?>) return EQUALITY;
+      if (spec instanceof InSpecification<?, ?>) return IN;
+      return spec instanceof NullSpecification<?, ?> ? NULL : RANGE;
+    }
+
+    private static Operator of(final LikeSpecification<?> like) {
+      if (like.getWildcard() != Wildcard.ABSENCE && like.getWildcard() != Wildcard.ENDING) {
+        return CONTAINS;
+      }
+      return like.isIgnoreCase() ? IGNORE_CASE : PREFIX;
+    }
+  }
+
+  /**
+   * Usage of a column.
+   *
+   * @param entity the entity of the column.
+   * @param column the attribute name of the column.
+   * @param operator the operator the column is compared with.
+   * @param count the number of queries.
+   * @param totalTime the total time of the queries.
+   */
+  public record ColumnUsage(
+      Class<?> entity, String column, Operator operator, long count, Duration totalTime) {}
+
+  /**
+   * Suggested index.
+   *
+   * @param entity the entity of the index.
+   * @param columns attribute names of the columns of the index in order.
+   * @param count the number of queries that would use the index.
+   * @param totalTime the total time of these queries.
+   */
+  public record IndexSuggestion(
+      Class<?> entity, List<String> columns, long count, Duration totalTime) {}
+
+  private record ColumnKey(Class<?> entity, String column, Operator operator) {
+
+    /**
+     * Returns the key of the column of the predicate, {@literal null} for an association or a
+     * subquery.
+     */
+    static @Nullable ColumnKey of(
+        final ManagedType<?> root, final CompositeSpecification<?, ?> spec) {
+      if (spec instanceof SubquerySpecification<?, ?>) return null;
+
+      ManagedType<?> type = root;
+      final int last = spec.columns.size() - 1;
+      for (final String column : spec.columns.subList(0, last)) {
+        // A joined attribute of an executed query targets an entity or an embeddable.
+        type = (ManagedType<?>) SpecificationQueryUtils.getTargetType(type.getAttribute(column));
+      }
+      final Attribute<?, ?> attribute = type.getAttribute(spec.columns.get(last));
+      if (attribute.isAssociation() || attribute.isCollection()) return null;
+      return new ColumnKey(type.getJavaType(), attribute.getName(), Operator.of(spec));
+    }
+  }
+
+  private record IndexKey(Class<?> entity, List<String> columns) {}
+
+  /** Columns of a candidate index: sorted equality columns, then the first range column. */
+  private static final class IndexCandidate {
+
+    private final Class<?> entity;
+    private final Set<String> equalities = new TreeSet<>();
+    private @Nullable String range;
+
+    IndexCandidate(final Class<?> entity) {
+      this.entity = entity;
+    }
+
+    static IndexCandidate of(final ColumnKey key) {
+      return new IndexCandidate(key.entity()).add(key);
+    }
+
+    IndexCandidate add(final ColumnKey key) {
+      if (key.operator().isEquality()) {
+        equalities.add(key.column());
+      } else if (range == null) {
+        range = key.column();
+      }
+      return this;
+    }
+
+    IndexKey toKey() {
+      final List<String> result = new ArrayList<>(equalities);
+      if (range != null && !equalities.contains(range)) {
+        result.add(range);
+      }
+      return new IndexKey(entity, List.copyOf(result));
+    }
+  }
+
+  private static final class Counter {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    void add(final long elapsed) {
+      count.increment();
+      nanos.add(elapsed);
+    }
+  }
+}
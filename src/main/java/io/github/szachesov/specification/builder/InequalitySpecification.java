@@ -64,6 +64,11 @@ public class InequalitySpecification<T, P extends Comparable<? super P>>
     return new InequalitySpecification<>(builder, Sign.LTE);
   }
 
+  @Override
+  String getOperator() {
+    return sign.getDescription() + " ?";
+  }
+
   @Override
   Predicate toPredicate(final CriteriaBuilder builder, final Path<P> path) {
     return sign.toPredicate(builder, path, range);
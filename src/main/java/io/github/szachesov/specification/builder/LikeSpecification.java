@@ -26,6 +26,7 @@ import jakarta.persistence.criteria.Root;
 import java.io.Serial;
 import java.util.List;
 import java.util.Locale;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -37,33 +38,36 @@ public class LikeSpecification<T> extends CompositeSpecification<T, String> {
 
   @Serial private static final long serialVersionUID = -4074284076173199097L;
 
-  private String value;
+  private final String pattern;
+  @Getter(AccessLevel.PACKAGE)
   private final boolean isIgnoreCase;
+  @Getter(AccessLevel.PACKAGE)
   private final Wildcard wildcard;
   @Getter private final int minChar;
 
   private LikeSpecification(final Builder<T> builder) {
     super(builder);
-    this.value = builder.value;
     this.isIgnoreCase = builder.isIgnoreCase;
     this.wildcard = builder.wildcard;
     this.minChar = builder.minChar;
+    final String value = isIgnoreCase ? builder.value.toUpperCase(Locale.ROOT) : builder.value;
+    this.pattern = wildcard.getWithWildcard().apply(value);
   }
 
   @Override
-  Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder builder) {
-    final Path<String> path = getPath(root);
-
-    final Expression<String> expression;
-    if (isIgnoreCase) {
-      expression = builder.upper(path);
-      value = value.toUpperCase(Locale.ROOT);
-    } else {
-      expression = path;
-    }
+  String getOperator() {
+    return "LIKE " + wildcard.getShape();
+  }
 
-    return builder.like(expression, wildcard.getWithWildcard().apply(value));
+  @Override
+  Predicate toCriteriaPredicate(
+      final Root<T> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder builder,
+      final boolean fetch) {
+    final Path<String> path = getPath(root, fetch);
+    final Expression<String> expression = isIgnoreCase ? builder.upper(path) : path;
+    return builder.like(expression, pattern);
   }
 
   /**
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.experimental.UtilityClass;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaSubQuery;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Count query capped by a limit, counting the rows of a derived table: {@code SELECT count(*) FROM
+ * (SELECT id ... LIMIT limit + 1)}. The derived table is a Hibernate extension of the criteria API.
+ */
+@UtilityClass
+class LimitedCountQuery {
+
+  /**
+   * Creates the count query of the specification capped by the limit.
+   *
+   * @param entityManager entity manager of the persistence unit.
+   * @param type the type of the {@link Root}.
+   * @param spec can be {@literal null}.
+   * @param limit the maximum exact count, {@code limit + 1} rows are counted at most, {@link
+   *     Integer#MAX_VALUE} rows for {@code Integer.MAX_VALUE}.
+   * @throws IllegalArgumentException if the limit is negative.
+   */
+  static <T> CriteriaQuery<Long> create(
+      final EntityManager entityManager,
+      final EntityType<T> type,
+      @Nullable final Specification<T> spec,
+      final int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("The limit must not be negative " + limit);
+    }
+    final HibernateCriteriaBuilder builder =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCriteriaBuilder();
+    final JpaCriteriaQuery<Long> query = builder.createQuery(Long.class);
+    final JpaSubQuery<Tuple> limited = query.subquery(Tuple.class);
+    final Root<T> root = limited.from(type);
+    final Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      limited.where(predicate);
+    }
+    // The specification marks the count query distinct, the rows are made distinct before LIMIT.
+    limited.multiselect(root.get(type.getId(type.getIdType().getJavaType())).alias("id"));
+    limited.distinct(query.isDistinct()).fetch((int) Math.min(limit + 1L, Integer.MAX_VALUE));
+    query.distinct(false).from(limited);
+    return query.select(builder.count());
+  }
+}
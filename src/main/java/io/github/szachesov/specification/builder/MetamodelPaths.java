@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.CollectionAttribute;
+import jakarta.persistence.metamodel.ListAttribute;
+import jakarta.persistence.metamodel.MapAttribute;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SetAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Helpers resolving the paths of an {@link AttributePath} by the attributes of the JPA metamodel.
+ * The criteria API is typed by the owner of the attribute, the attributes of a path are kept
+ * without it, so the calls are unchecked.
+ */
+@UtilityClass
+class MetamodelPaths {
+
+  /**
+   * Returns the path of a singular attribute of the metamodel: {@code from.get(attribute)}.
+   *
+   * @param from owner of the attribute.
+   * @param attribute singular attribute of the metamodel.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static Path<?> get(final From<?, ?> from, final Attribute<?, ?> attribute) {
+    return ((From) from).get((SingularAttribute) attribute);
+  }
+
+  /**
+   * Joins an attribute of the metamodel: {@code from.join(attribute, joinType)}. {@link From} has
+   * no join of a plural attribute in general, so the join is chosen by the type of the collection.
+   *
+   * @param from owner of the attribute.
+   * @param attribute association or element collection of the metamodel.
+   * @param joinType type of the join.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static Join<?, ?> join(
+      final From<?, ?> from, final Attribute<?, ?> attribute, final JoinType joinType) {
+    final From raw = from;
+    if (attribute instanceof SingularAttribute singular) return raw.join(singular, joinType);
+
+    return switch (((PluralAttribute<?, ?, ?>) attribute).getCollectionType()) {
+      case SET -> raw.join((SetAttribute) attribute, joinType);
+      case LIST -> raw.join((ListAttribute) attribute, joinType);
+      case MAP -> raw.join((MapAttribute) attribute, joinType);
+      default -> raw.join((CollectionAttribute) attribute, joinType);
+    };
+  }
+
+  /**
+   * Fetches an attribute of the metamodel: {@code from.fetch(attribute, joinType)}.
+   *
+   * @param from owner of the attribute.
+   * @param attribute association of the metamodel.
+   * @param joinType type of the join.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static Join<?, ?> fetch(
+      final From<?, ?> from, final Attribute<?, ?> attribute, final JoinType joinType) {
+    final From raw = from;
+    if (attribute instanceof SingularAttribute singular) {
+      return (Join<?, ?>) raw.fetch(singular, joinType);
+    }
+    return (Join<?, ?>) raw.fetch((PluralAttribute) attribute, joinType);
+  }
+}
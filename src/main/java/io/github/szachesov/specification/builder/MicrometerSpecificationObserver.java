@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Observer recording Micrometer metrics of specifications. Micrometer is an optional dependency,
+ * the observer is enabled by {@code SpecificationObservers.register(new
+ * MicrometerSpecificationObserver(registry))}.
+ *
+ * <ul>
+ *   <li>{@code specification.build} - timer of {@link SpecificationBuilder#build()}.
+ *   <li>{@code specification.predicate} - timer of creating a predicate.
+ *   <li>{@code specification.predicates} - counter of predicates by the {@code operator} tag.
+ *   <li>{@code specification.joins} - counter of joins traversed by predicate paths.
+ *   <li>{@code specification.in.size} - distribution of IN list sizes.
+ *   <li>{@code specification.query} - latency histogram of queries by the {@code shape} tag, see
+ *       {@link BuiltSpecification#getShapeId()}.
+ * </ul>
+ */
+public class MicrometerSpecificationObserver implements SpecificationObserver {
+
+  /** The shape tag of queries of specifications not built by {@link SpecificationBuilder}. */
+  public static final String UNKNOWN_SHAPE = "unknown";
+
+  private final MeterRegistry registry;
+  private final Timer buildTimer;
+  private final Timer predicateTimer;
+  private final Counter joinCounter;
+  private final DistributionSummary inSizeSummary;
+  private final Map<String, Counter> predicateCounters = new ConcurrentHashMap<>();
+  private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an observer.
+   *
+   * @param registry registry of the meters.
+   */
+  public MicrometerSpecificationObserver(final MeterRegistry registry) {
+    this.registry = registry;
+    this.buildTimer = registry.timer("specification.build");
+    this.predicateTimer = registry.timer("specification.predicate");
+    this.joinCounter = registry.counter("specification.joins");
+    this.inSizeSummary = registry.summary("specification.in.size");
+  }
+
+  @Override
+  public void onBuild(final BuiltSpecification<?> spec, final long nanos) {
+    buildTimer.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void onPredicate(final CompositeSpecification<?, ?> spec, final long nanos) {
+    predicateTimer.record(nanos, TimeUnit.NANOSECONDS);
+    final String operator = spec.getOperator();
+    Counter counter = predicateCounters.get(operator);
+    if (counter == null) {
+      counter = predicateCounters.computeIfAbsent(operator, this::createPredicateCounter);
+    }
+    counter.increment();
+    if (spec instanceof InSpecification<?, ?> in) {
+      inSizeSummary.record(in.size());
+    }
+  }
+
+  @Override
+  public void onPath(final CompositeSpecification<?, ?> spec, final int joins, final long nanos) {
+    joinCounter.increment(joins);
+  }
+
+  @Override
+  public void onQuery(@Nullable final Specification<?> spec, final long nanos) {
+    final String shape =
+        spec instanceof BuiltSpecification<?> built ? built.getShapeId() : UNKNOWN_SHAPE;
+    Timer timer = queryTimers.get(shape);
+    if (timer == null) {
+      timer = queryTimers.computeIfAbsent(shape, this::createQueryTimer);
+    }
+    timer.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Counter createPredicateCounter(final String operator) {
+    return Counter.builder("specification.predicates").tag("operator", operator).register(registry);
+  }
+
+  private Timer createQueryTimer(final String shape) {
+    return Timer.builder("specification.query")
+        .tag("shape", shape)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+}
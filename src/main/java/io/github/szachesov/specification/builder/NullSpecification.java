@@ -41,11 +41,19 @@ public class NullSpecification<T, P> extends CompositeSpecification<T, P> {
     super(builder);
   }
 
+  @Override
+  String getOperator() {
+    return "IS NULL";
+  }
+
   @Override
   Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder) {
+      final Root<T> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder criteriaBuilder,
+      final boolean fetch) {
 
-    final Path<?> path = getPath(root);
+    final Path<?> path = getPath(root, fetch);
     return isNot ? path.isNotNull() : path.isNull();
   }
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.QueryTimeoutException;
+import jakarta.persistence.criteria.Root;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+/**
+ * Executor of a page of a {@link Specification} running the content query and the count query
+ * concurrently, each with its own {@link EntityManager} and read-only transaction.
+ *
+ * <p>The queries are submitted to the given {@link Executor}, e.g. a bounded thread pool sized to
+ * the connection pool, or {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21. The
+ * content is loaded as by {@link SpecificationExecutor#findAll(Specification, Pageable)} and
+ * returned detached.
+ *
+ * <p>Within a transaction of the caller the page is loaded sequentially by the calling thread with
+ * the transactional entity manager, so that the queries see the changes of the transaction.
+ *
+ * <p>Cancelling the future of {@link #findAllAsync(Specification, Pageable)}, the failure of one
+ * query or the expiry of the timeout cancel the statements of the running queries, the queries
+ * not started yet are not run. Each query is also limited by the query timeout to the time
+ * remaining of the timeout, so that the database stops it within a transaction of the caller too.
+ *
+ * @param <T> the type of the {@link Root} the {@literal Specification} operates on.
+ */
+public class ParallelPageExecutor<T> {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final Class<T> domainClass;
+  private final Executor executor;
+  private final @Nullable Duration timeout;
+
+  /**
+   * Creates an executor waiting for the page without a timeout.
+   *
+   * @param entityManagerFactory factory of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   * @param executor executor of the queries.
+   */
+  public ParallelPageExecutor(
+      final EntityManagerFactory entityManagerFactory,
+      final Class<T> domainClass,
+      final Executor executor) {
+    this(entityManagerFactory, domainClass, executor, null);
+  }
+
+  /**
+   * Creates an executor.
+   *
+   * @param entityManagerFactory factory of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   * @param executor executor of the queries.
+   * @param timeout maximum time {@link #findAll(Specification, Pageable)} waits for the page and
+   *     the queries of the page run, can be {@literal null}.
+   */
+  public ParallelPageExecutor(
+      final EntityManagerFactory entityManagerFactory,
+      final Class<T> domainClass,
+      final Executor executor,
+      @Nullable final Duration timeout) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.domainClass = domainClass;
+    this.executor = executor;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Returns a page of entities matching the given {@link Specification}.
+   *
+   * @param spec can be {@literal null}.
+   * @param pageable page request.
+   * @throws QueryTimeoutException if the page is not loaded within the timeout.
+   * @throws CancellationException if the calling thread is interrupted while waiting.
+   */
+  @SuppressWarnings("PMD.PreserveStackTrace") // the failure of a query is rethrown as is
+  public Page<T> findAll(@Nullable final Specification<T> spec, final Pageable pageable) {
+    final CompletableFuture<Page<T>> page = findAllAsync(spec, pageable);
+    try {
+      return timeout == null ? page.get() : page.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (final TimeoutException e) {
+      page.cancel(true);
+      throw new QueryTimeoutException("The page is not loaded within " + timeout, e);
+    } catch (final InterruptedException e) {
+      page.cancel(true);
+      Thread.currentThread().interrupt();
+      final CancellationException cancelled =
+          new CancellationException("Interrupted while waiting for the page");
+      cancelled.initCause(e);
+      throw cancelled;
+    } catch (final ExecutionException e) {
+      throw RunningQueries.unchecked(e.getCause());
+    }
+  }
+
+  /**
+   * Submits the content and the count queries of a page of entities matching the given {@link
+   * Specification}. Within a transaction of the caller the page is loaded sequentially and a
+   * completed future is returned.
+   *
+   * @param spec can be {@literal null}.
+   * @param pageable page request.
+   */
+  @SuppressWarnings("PMD.CloseResource") // the entity manager of the transaction
+  public CompletableFuture<Page<T>> findAllAsync(
+      @Nullable final Specification<T> spec, final Pageable pageable) {
+    final Long deadline = timeout == null ? null : System.nanoTime() + timeout.toNanos();
+    final EntityManager transactional =
+        EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+    if (transactional != null) {
+      final SpecificationExecutor<T> sequential =
+          new SpecificationExecutor<>(transactional, domainClass, deadline);
+      return CompletableFuture.completedFuture(sequential.findAll(spec, pageable));
+    }
+
+    final RunningQueries running = new RunningQueries();
+    final CompletableFuture<List<T>> content =
+        submit(running, deadline, e -> e.findContent(spec, pageable));
+    final CompletableFuture<Long> count = submit(running, deadline, e -> e.count(spec));
+    final CompletableFuture<Page<T>> page =
+        content.thenCombine(count, (c, total) -> new PageImpl<>(c, pageable, total));
+    page.whenComplete(
+        (p, e) -> {
+          if (e != null) {
+            running.cancel();
+          }
+        });
+    return page;
+  }
+
+  private <R> CompletableFuture<R> submit(
+      final RunningQueries running,
+      @Nullable final Long deadline,
+      final Function<SpecificationExecutor<T>, R> query) {
+    return CompletableFuture.supplyAsync(
+        () ->
+            running.run(
+                entityManagerFactory,
+                e -> query.apply(new SpecificationExecutor<>(e, domainClass, deadline))),
+        executor);
+  }
+}
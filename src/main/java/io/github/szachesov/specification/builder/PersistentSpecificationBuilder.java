@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import io.github.szachesov.specification.builder.BuiltSpecification.InnerSpecification;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * An immutable variant of {@link SpecificationBuilder}: every call returns a new builder that
+ * shares the predicates of its parent.
+ *
+ * <p>A base filter can be built once and extended per request, only the added predicates are
+ * allocated, the predicates of the base (e.g. a large {@code IN} list) are neither copied nor
+ * rebuilt. The builder is thread-safe and can be kept in a static field.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * static final PersistentSpecificationBuilder<User> ACTIVE =
+ *     PersistentSpecificationBuilder.<User>builder().equal(User_.IS_ACTIVE, true);
+ *
+ * Specification<User> spec = ACTIVE.like(User_.USERNAME, search).build();
+ * }</pre>
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ */
+public final class PersistentSpecificationBuilder<T> {
+
+  private static final Options DEFAULT_OPTIONS = new Options(true, false, null);
+
+  private final @Nullable Node<CompositeSpecification<T, ?>> specifications;
+  private final @Nullable Node<InnerSpecification<T>> innerSpecifications;
+  private final Options options;
+
+  private PersistentSpecificationBuilder(
+      @Nullable final Node<CompositeSpecification<T, ?>> specifications,
+      @Nullable final Node<InnerSpecification<T>> innerSpecifications,
+      final Options options) {
+    this.specifications = specifications;
+    this.innerSpecifications = innerSpecifications;
+    this.options = options;
+  }
+
+  /**
+   * Creates an empty builder.
+   *
+   * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+   */
+  public static <T> PersistentSpecificationBuilder<T> builder() {
+    return new PersistentSpecificationBuilder<>(null, null, DEFAULT_OPTIONS);
+  }
+
+  /**
+   * Returns a builder with the given distinct, see {@link SpecificationBuilder#distinct(boolean)}.
+   *
+   * @param distinct whether duplicate results must be eliminated from the query result.
+   */
+  public PersistentSpecificationBuilder<T> distinct(final boolean distinct) {
+    return withOptions(new Options(distinct, options.entityGraph(), options.label()));
+  }
+
+  /**
+   * Returns a builder leaving the requested fetches to an entity graph, see {@link
+   * SpecificationBuilder#entityGraph(boolean)}.
+   *
+   * @param entityGraph whether the fetches are replaced with plain joins.
+   */
+  public PersistentSpecificationBuilder<T> entityGraph(final boolean entityGraph) {
+    return withOptions(new Options(options.distinct(), entityGraph, options.label()));
+  }
+
+  /**
+   * Returns a builder with the label of the queries, see {@link
+   * SpecificationBuilder#label(String)}.
+   *
+   * @param label a stable, low-cardinality name of the query, e.g. {@code user-search}.
+   */
+  public PersistentSpecificationBuilder<T> label(final String label) {
+    return withOptions(new Options(options.distinct(), options.entityGraph(), label));
+  }
+
+  /**
+   * Logical operations AND grouped with parentheses.
+   *
+   * @param spec specification representing grouped logical predicates.
+   */
+  public PersistentSpecificationBuilder<T> andInner(final Specification<T> spec) {
+    return with(b -> b.andInner(spec));
+  }
+
+  /**
+   * Logical operations OR grouped with parentheses.
+   *
+   * @param spec specification representing grouped logical predicates.
+   */
+  public PersistentSpecificationBuilder<T> orInner(final Specification<T> spec) {
+    return with(b -> b.orInner(spec));
+  }
+
+  /**
+   * Logical operations grouped with parentheses.
+   *
+   * @param spec specification representing grouped logical predicates.
+   * @param operator logical of the condition connection.
+   */
+  public PersistentSpecificationBuilder<T> inner(
+      final Specification<T> spec, final BooleanOperator operator) {
+    return with(b -> b.inner(spec, operator));
+  }
+
+  /**
+   * Not Equal to, see {@link SpecificationBuilder#notEqual(String, Object)}.
+   *
+   * @param column column name.
+   * @param value value of predicate.
+   */
+  public PersistentSpecificationBuilder<T> notEqual(final String column, final Object value) {
+    return with(b -> b.notEqual(column, value));
+  }
+
+  /**
+   * Equal to, see {@link SpecificationBuilder#equal(String, Object)}.
+   *
+   * @param column column name.
+   * @param value value of predicate.
+   */
+  public PersistentSpecificationBuilder<T> equal(final String column, final Object value) {
+    return with(b -> b.equal(column, value));
+  }
+
+  /**
+   * Contained in the list of values, see {@link SpecificationBuilder#in(String, Collection)}.
+   *
+   * @param column column name.
+   * @param values values of predicate.
+   */
+  public <V> PersistentSpecificationBuilder<T> in(
+      final String column, final Collection<V> values) {
+    return with(b -> b.in(column, values));
+  }
+
+  /**
+   * Not contained in the list of values, see {@link SpecificationBuilder#notIn(String,
+   * Collection)}.
+   *
+   * @param column column name.
+   * @param values values of predicate.
+   */
+  public <V> PersistentSpecificationBuilder<T> notIn(
+      final String column, final Collection<V> values) {
+    return with(b -> b.notIn(column, values));
+  }
+
+  /**
+   * Contains a character pattern, see {@link SpecificationBuilder#like(String, String)}.
+   *
+   * @param column column name.
+   * @param value value of predicate.
+   */
+  public PersistentSpecificationBuilder<T> like(final String column, final String value) {
+    return with(b -> b.like(column, value));
+  }
+
+  /**
+   * Minimum allowed value, see {@link SpecificationBuilder#min(String, Comparable)}.
+   *
+   * @param column column name.
+   */
+  public <P extends Comparable<? super P>> PersistentSpecificationBuilder<T> min(
+      final String column, final P min) {
+    return with(b -> b.min(column, min));
+  }
+
+  /**
+   * Maximum allowed value, see {@link SpecificationBuilder#max(String, Comparable)}.
+   *
+   * @param column column name.
+   */
+  public <P extends Comparable<? super P>> PersistentSpecificationBuilder<T> max(
+      final String column, final P max) {
+    return with(b -> b.max(column, max));
+  }
+
+  /**
+   * Between the range, the extreme values can be infinite({@code null}), see {@link
+   * SpecificationBuilder#between(String, Comparable, Comparable)}.
+   *
+   * @param column column name.
+   */
+  public <P extends Comparable<? super P>> PersistentSpecificationBuilder<T> between(
+      final String column, @Nullable final P min, @Nullable final P max) {
+    return with(b -> b.between(column, min, max));
+  }
+
+  /**
+   * Compare to not null, see {@link SpecificationBuilder#isNotNull(String)}.
+   *
+   * @param column column name.
+   */
+  public PersistentSpecificationBuilder<T> isNotNull(final String column) {
+    return with(b -> b.isNotNull(column));
+  }
+
+  /**
+   * Compare to null, see {@link SpecificationBuilder#isNull(String)}.
+   *
+   * @param column column name.
+   */
+  public PersistentSpecificationBuilder<T> isNull(final String column) {
+    return with(b -> b.isNull(column));
+  }
+
+  /**
+   * Returns a builder with the predicates added by the function, for the predicates of join
+   * columns and with additional parameters. Only the predicates of the given builder are taken,
+   * not its distinct, entity graph and label.
+   *
+   * <p>Example: {@code base.with(b -> b.equal(List.of(Post_.AUTHOR, User_.USERNAME), name,
+   * CompositeSpecification.Builder::fetch))}
+   *
+   * @param predicates adds the predicates to an empty {@link SpecificationBuilder}.
+   */
+  public PersistentSpecificationBuilder<T> with(
+      final UnaryOperator<SpecificationBuilder<T>> predicates) {
+    final SpecificationBuilder<T> added = predicates.apply(SpecificationBuilder.builder());
+    return new PersistentSpecificationBuilder<>(
+        Node.pushAll(specifications, added.getSpecifications()),
+        Node.pushAll(innerSpecifications, added.getInnerSpecifications()),
+        options);
+  }
+
+  /** Builds a {@link Specification}, {@literal null} if no predicate has been added. */
+  public @Nullable BuiltSpecification<T> build() {
+    final SpecificationBuilder<T> builder =
+        SpecificationBuilder.<T>builder()
+            .distinct(options.distinct())
+            .entityGraph(options.entityGraph())
+            .addAll(Node.toList(specifications), Node.toList(innerSpecifications));
+    final String label = options.label();
+    return label == null ? builder.build() : builder.label(label).build();
+  }
+
+  private PersistentSpecificationBuilder<T> withOptions(final Options options) {
+    return new PersistentSpecificationBuilder<>(specifications, innerSpecifications, options);
+  }
+
+  /**
+   * Settings of the built specification.
+   *
+   * @param distinct whether duplicate results are eliminated.
+   * @param entityGraph whether the fetches are left to an entity graph.
+   * @param label label of the queries.
+   */
+  private record Options(boolean distinct, boolean entityGraph, @Nullable String label) {}
+
+  /**
+   * Node of a persistent linked list, the last added element first.
+   *
+   * @param head the element.
+   * @param tail the elements added before, shared with the parent builder.
+   * @param <E> the type of the elements.
+   */
+  private record Node<E>(E head, @Nullable Node<E> tail) {
+
+    static <E> @Nullable Node<E> pushAll(
+        @Nullable final Node<E> node, final List<? extends E> elements) {
+      Node<E> result = node;
+      for (final E element : elements) {
+        result = push(result, element);
+      }
+      return result;
+    }
+
+    static <E> Node<E> push(@Nullable final Node<E> node, final E element) {
+      return new Node<>(element, node);
+    }
+
+    static <E> List<E> toList(@Nullable final Node<E> node) {
+      final List<E> result = new ArrayList<>();
+      for (Node<E> current = node; current != null; current = current.tail()) {
+        result.add(current.head());
+      }
+      Collections.reverse(result);
+      return result;
+    }
+  }
+}
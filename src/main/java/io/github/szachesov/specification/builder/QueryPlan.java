@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Execution plan of the query of a specification, see {@link SpecificationExplainer}.
+ *
+ * <p>The summary is parsed from the plans of PostgreSQL and H2, for other databases only the raw
+ * plan is available.
+ *
+ * @param sql the SQL of the query.
+ * @param binds values bound to the parameters of the query in order.
+ * @param lines the plan as returned by {@code EXPLAIN}, a row per line.
+ * @param fullScans lower-case names of the tables read with a full (sequential) scan.
+ * @param joinMethods join methods of the plan: {@code Nested Loop}, {@code Hash Join} or {@code
+ *     Merge Join}.
+ * @param estimatedRows the number of rows estimated by the planner, -1 if unknown.
+ */
+public record QueryPlan(
+    String sql,
+    List<Object> binds,
+    List<String> lines,
+    Set<String> fullScans,
+    Set<String> joinMethods,
+    long estimatedRows) {
+
+  /** PostgreSQL: {@code Seq Scan on posts p1_0}, H2: {@code PUBLIC.POSTS.tableScan}. */
+  private static final Pattern FULL_SCAN =
+      Pattern.compile("Seq Scan on \"?(\\w+)|\"?(\\w+)\"?\\.tableScan");
+
+  /**
+   * PostgreSQL: {@code Nested Loop}, {@code Hash Left Join}, {@code Merge Join}. H2 always joins
+   * with nested loops: {@code LEFT OUTER JOIN}.
+   */
+  private static final Pattern JOIN =
+      Pattern.compile("\\b(Hash|Merge)(?: \\w+){0,2} Join\\b|Nested Loop|\\bJOIN\\b");
+
+  /** PostgreSQL: {@code (cost=0.00..1.05 rows=5 width=72)}. */
+  private static final Pattern ROWS = Pattern.compile("\\brows=(\\d+)");
+
+  private static final String NESTED_LOOP = "Nested Loop";
+
+  /**
+   * Creates a plan.
+   *
+   * @param sql the SQL of the query.
+   * @param binds values bound to the parameters of the query in order.
+   * @param lines the plan as returned by {@code EXPLAIN}, a row per line.
+   */
+  static QueryPlan of(final String sql, final List<Object> binds, final List<String> lines) {
+    final Set<String> fullScans = new LinkedHashSet<>();
+    final Set<String> joinMethods = new LinkedHashSet<>();
+    long estimatedRows = -1;
+    for (final String line : lines) {
+      final Matcher scan = FULL_SCAN.matcher(line);
+      while (scan.find()) {
+        final String table = scan.group(1) == null ? scan.group(2) : scan.group(1);
+        fullScans.add(table.toLowerCase(Locale.ROOT));
+      }
+      final Matcher join = JOIN.matcher(line);
+      while (join.find()) {
+        joinMethods.add(join.group(1) == null ? NESTED_LOOP : join.group(1) + " Join");
+      }
+      final Matcher rows = ROWS.matcher(line);
+      if (estimatedRows < 0 && rows.find()) {
+        estimatedRows = Long.parseLong(rows.group(1));
+      }
+    }
+    return new QueryPlan(
+        sql,
+        List.copyOf(binds),
+        List.copyOf(lines),
+        Collections.unmodifiableSet(fullScans),
+        Collections.unmodifiableSet(joinMethods),
+        estimatedRows);
+  }
+
+  /**
+   * Whether the table is read with a full (sequential) scan.
+   *
+   * <p>Example: {@code assertThat(plan.hasFullScan("posts")).isFalse()}
+   *
+   * @param table name of the table.
+   */
+  public boolean hasFullScan(final String table) {
+    return fullScans.contains(table.toLowerCase(Locale.ROOT));
+  }
+
+  @Override
+  public String toString() {
+    return sql + System.lineSeparator() + String.join(System.lineSeparator(), lines);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a {@link Comparable} field or record component of a filter object to one end of a range:
+ * {@link SpecificationBuilder#min(java.util.List, Comparable)} or {@link
+ * SpecificationBuilder#max(java.util.List, Comparable)}.
+ *
+ * <p>Example: {@code @Range(column = "createdAt", bound = Bound.EXCLUSIVE) LocalDate createdFrom}
+ *
+ * @see FilterBinder
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Range {
+
+  /** Property path, joins separated by a dot. By default, the name of the field. */
+  String column() default "";
+
+  /** The boundary type of the value. */
+  Bound bound() default Bound.INCLUSIVE;
+
+  /** The end of the range bound by the value. */
+  End end() default End.MIN;
+
+  /** End of a range. */
+  enum End {
+    /** The value is the minimum allowed value. */
+    MIN,
+    /** The value is the maximum allowed value. */
+    MAX
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import java.sql.Connection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.JDBCException;
+import org.hibernate.Session;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Queries of one page running each with its own session, cancelled together.
+ *
+ * <p>Cancelling calls {@link java.sql.Statement#cancel()} on the statement a query is running, so
+ * that the database stops it and the connection goes back to the pool. A query between two
+ * statements is stopped before its next statement, a statement prepared at the very moment of the
+ * cancel may still run to its end.
+ */
+@Slf4j
+final class RunningQueries {
+
+  private final Set<JdbcCoordinator> coordinators = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+
+  /**
+   * Runs the query with its own session in a read-only transaction, rolled back at the end. The
+   * connection is read-only for the transaction, so that the database rejects the changes.
+   *
+   * @param entityManagerFactory factory of the persistence unit.
+   * @param query the query.
+   * @throws CancellationException if the queries are cancelled.
+   */
+  @SuppressWarnings("checkstyle:IllegalCatch") // the failure keeps the failure of the rollback
+  <R> R run(
+      final EntityManagerFactory entityManagerFactory, final Function<EntityManager, R> query) {
+    final SessionFactoryImplementor sessionFactory =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    final StatementInspector inspector =
+        Objects.requireNonNullElse(
+            sessionFactory.getSessionFactoryOptions().getStatementInspector(), String::toString);
+    try (Session session =
+        sessionFactory
+            .withOptions()
+            .statementInspector(sql -> inspector.inspect(check(sql)))
+            .connectionHandlingMode(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_HOLD)
+            .openSession()) {
+      session.setDefaultReadOnly(true);
+      final boolean isReadOnly = session.doReturningWork(Connection::isReadOnly);
+      session.doWork(c -> c.setReadOnly(true));
+      final EntityTransaction transaction = session.getTransaction();
+      transaction.begin();
+      final JdbcCoordinator coordinator =
+          session.unwrap(SharedSessionContractImplementor.class).getJdbcCoordinator();
+      RuntimeException failure = null;
+      try {
+        add(coordinator);
+        return query.apply(session);
+      } catch (final RuntimeException e) {
+        failure = e;
+        throw e;
+      } finally {
+        remove(coordinator);
+        end(session, isReadOnly, failure);
+      }
+    }
+  }
+
+  /**
+   * Registers the statements of a query about to run.
+   *
+   * @throws CancellationException if the queries are already cancelled.
+   */
+  void add(final JdbcCoordinator coordinator) {
+    coordinators.add(coordinator);
+    if (cancelled.get()) {
+      coordinators.remove(coordinator);
+      throw new CancellationException("The page query is cancelled");
+    }
+  }
+
+  /** Unregisters the statements of a finished query. */
+  void remove(final JdbcCoordinator coordinator) {
+    coordinators.remove(coordinator);
+  }
+
+  /** Cancels the statements of the running queries, the queries not started are not run. */
+  void cancel() {
+    cancelled.set(true);
+    for (final JdbcCoordinator coordinator : coordinators) {
+      try {
+        coordinator.cancelLastQuery();
+      } catch (final JDBCException e) {
+        log.warn("Failed to cancel the statement of a cancelled page query", e);
+      }
+    }
+  }
+
+  /** Returns the failure of a query to be rethrown as is, the queries throw no checked one. */
+  static RuntimeException unchecked(final Throwable e) {
+    if (e instanceof RuntimeException runtime) return runtime;
+    throw (Error) e;
+  }
+
+  private String check(final String sql) {
+    if (cancelled.get()) throw new CancellationException("The page query is cancelled");
+    return sql;
+  }
+
+  /** Rolls back the transaction and restores the connection, keeping the failure of the query. */
+  @SuppressWarnings("checkstyle:IllegalCatch") // any failure of the rollback is kept
+  private static void end(
+      final Session session, final boolean isReadOnly, @Nullable final RuntimeException failure) {
+    try {
+      try {
+        session.getTransaction().rollback();
+      } finally {
+        session.doWork(c -> c.setReadOnly(isReadOnly));
+      }
+    } catch (final RuntimeException e) {
+      if (failure == null) throw e;
+      failure.addSuppressed(e);
+    }
+  }
+}
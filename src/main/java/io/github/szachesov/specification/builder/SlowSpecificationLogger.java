@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * {@link SpecificationObserver} logging the queries slower than a threshold with the structure of
+ * the specification (see {@link BuiltSpecification#getStructure()}), the generated SQL, the number
+ * of bind parameters and the elapsed time. Values of the specification are never logged.
+ *
+ * <p>The SQL is only available when {@link SpecificationStatementInspector} is registered. A slow
+ * query is logged at most once per interval for each shape, so a hot query does not flood the log.
+ *
+ * <p>Example: {@code SpecificationObservers.register(new
+ * SlowSpecificationLogger(Duration.ofMillis(500)))}
+ */
+@Slf4j
+public class SlowSpecificationLogger implements SpecificationObserver {
+
+  /** The default minimum interval between two logs of the same shape. */
+  public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1);
+
+  /** The shape of specifications not built by {@link SpecificationBuilder}. */
+  public static final String UNKNOWN_SHAPE = "unknown";
+
+  private static final Pattern NOT_BIND =
+      Pattern.compile("/\\*.*?\\*/|--[^\\n]*|'(?:[^']|'')*'|\"(?:[^\"]|\"\")*\"", Pattern.DOTALL);
+
+  private final long thresholdNanos;
+  private final long intervalNanos;
+  private final Map<String, Long> loggedAt = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a logger with the {@link #DEFAULT_INTERVAL}.
+   *
+   * @param threshold the minimum elapsed time of a logged query.
+   */
+  public SlowSpecificationLogger(final Duration threshold) {
+    this(threshold, DEFAULT_INTERVAL);
+  }
+
+  /**
+   * Creates a logger.
+   *
+   * @param threshold the minimum elapsed time of a logged query.
+   * @param interval the minimum interval between two logs of the same shape.
+   */
+  public SlowSpecificationLogger(final Duration threshold, final Duration interval) {
+    this.thresholdNanos = threshold.toNanos();
+    this.intervalNanos = interval.toNanos();
+  }
+
+  @Override
+  public void onQuery(@Nullable final Specification<?> spec, final long nanos) {
+    if (nanos < thresholdNanos) return;
+
+    final long now = System.nanoTime();
+    final BuiltSpecification<?> built = spec instanceof BuiltSpecification<?> b ? b : null;
+    if (tryAcquire(built == null ? UNKNOWN_SHAPE : built.getShape(), now)) {
+      logQuery(built, nanos, SpecificationStatementInspector.getStatements(now - nanos));
+    }
+  }
+
+  private static void logQuery(
+      @Nullable final BuiltSpecification<?> spec,
+      final long nanos,
+      final List<String> statements) {
+    log.warn(
+        "Slow specification query {} took {} ms, {} statements, {} binds\n{}\nSQL:\n{}",
+        spec == null ? UNKNOWN_SHAPE : spec.getShapeId(),
+        TimeUnit.NANOSECONDS.toMillis(nanos),
+        statements.size(),
+        countBinds(statements),
+        spec == null ? UNKNOWN_SHAPE : spec.getStructure(),
+        statements.isEmpty() ? "<not captured>" : String.join(";\n", statements));
+  }
+
+  /** Whether the shape may be logged now, i.e. it was not logged within the interval. */
+  private boolean tryAcquire(final String shape, final long now) {
+    final Long current = now;
+    final Long logged =
+        loggedAt.compute(
+            shape, (s, last) -> last == null || now - last >= intervalNanos ? current : last);
+    return current.equals(logged);
+  }
+
+  /**
+   * Counts the JDBC bind parameters of the statements: the {@code ?} outside comments, e.g. the
+   * label of the specification, string literals and quoted identifiers.
+   */
+  static long countBinds(final List<String> statements) {
+    return statements.stream()
+        .map(s -> NOT_BIND.matcher(s).replaceAll(" "))
+        .flatMapToInt(String::chars)
+        .filter(c -> c == '?')
+        .count();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event of {@link SpecificationBuilder#build()}. */
+@Name("io.github.szachesov.specification.Build")
+@Label("Specification Build")
+@Category({"Spring Data", "Specification Builder"})
+@Description("Building of a specification.")
+@Enabled(false)
+@StackTrace(false)
+final class SpecificationBuildEvent extends Event {
+
+  private static final EventType EVENT_TYPE = EventType.getEventType(SpecificationBuildEvent.class);
+
+  /** Placeholder returned while the event is disabled, it is never committed. */
+  private static final SpecificationBuildEvent DISABLED = new SpecificationBuildEvent();
+
+  @Label("Shape")
+  @Description("Structure of the specification without values.")
+  String shape;
+
+  @Label("Predicates")
+  int predicates;
+
+  @Label("Inner Specifications")
+  int innerSpecifications;
+
+  /** Creates the event and starts its timing, unless the event is disabled. */
+  static SpecificationBuildEvent start() {
+    if (!EVENT_TYPE.isEnabled()) return DISABLED;
+
+    final SpecificationBuildEvent event = new SpecificationBuildEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends the timing and commits the event if it is enabled.
+   *
+   * @param spec the built specification.
+   * @param predicates number of predicates.
+   * @param innerSpecifications number of inner specifications.
+   */
+  void complete(
+      final BuiltSpecification<?> spec, final int predicates, final int innerSpecifications) {
+    if (this == DISABLED) return;
+
+    end();
+    if (shouldCommit()) {
+      this.shape = spec.getShape();
+      this.predicates = predicates;
+      this.innerSpecifications = innerSpecifications;
+      commit();
+    }
+  }
+}
@@ -17,13 +17,14 @@
 
 package io.github.szachesov.specification.builder;
 
+import io.github.szachesov.specification.builder.BuiltSpecification.InnerSpecification;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
-import lombok.NoArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -32,14 +33,35 @@ import org.springframework.data.jpa.domain.Specification;
  *
  * <p><a href="https://en.wikipedia.org/wiki/SQL_syntax#Operators">SQL operators</a>
  *
+ * <p>A column is given by its name, joins separated by a dot, by a list of join column names, or
+ * by an attribute or an {@link AttributePath} of the JPA metamodel. The attributes of the
+ * metamodel check the type of the value at compile time and are resolved by {@code
+ * From.get(attribute)} and {@code From.join(attribute)}, without splitting and looking the names
+ * up.
+ *
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  */
-@NoArgsConstructor(staticName = "builder")
+@SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.ExcessivePublicCount"}) // overloads per column
 public class SpecificationBuilder<T> {
 
   private final List<CompositeSpecification<T, ?>> specifications = new ArrayList<>();
   private final List<InnerSpecification<T>> innerSpecifications = new ArrayList<>();
   private boolean distinct = true;
+  private boolean entityGraph;
+  private @Nullable String label;
+
+  private SpecificationBuilder() {
+    SpecificationBuilderCreatedEvent.emit();
+  }
+
+  /**
+   * Creates a builder.
+   *
+   * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+   */
+  public static <T> SpecificationBuilder<T> builder() {
+    return new SpecificationBuilder<>();
+  }
 
   /**
    * Specify whether duplicate query results will be eliminated. A true value will cause duplicates
@@ -55,6 +77,50 @@ public class SpecificationBuilder<T> {
     return this;
   }
 
+  /**
+   * Specify whether the requested fetches are left to an entity graph. A true value will replace
+   * fetch joins with plain joins, so they are not mixed with filtering joins, DISTINCT and count
+   * queries, while the persistence provider chooses how to load the associations of the graph.
+   *
+   * <p>Example: {@code repository.findAll(spec, DynamicEntityGraph.loading(List.copyOf(
+   * spec.getFetchPaths(entityManager, User.class))))}
+   *
+   * @param entityGraph boolean value specifying whether the fetches are exposed by {@link
+   *     BuiltSpecification#getFetchPaths} and {@link BuiltSpecification#createEntityGraph}
+   *     instead of fetch joins.
+   */
+  public SpecificationBuilder<T> entityGraph(final boolean entityGraph) {
+    this.entityGraph = entityGraph;
+    return this;
+  }
+
+  /**
+   * Specify the label of the queries of the specification, passed to the database as an SQL
+   * comment. By default, the label is derived from the shape of the specification, see {@link
+   * BuiltSpecification#getLabel()}.
+   *
+   * <p>Example: <code>/* user-search *&#47; SELECT ...</code>
+   *
+   * @param label a stable, low-cardinality name of the query, e.g. {@code user-search}.
+   */
+  public SpecificationBuilder<T> label(final String label) {
+    this.label = label;
+    return this;
+  }
+
+  /**
+   * Adds the predicates of a specification built by the same builder, e.g. a predicate of a typed
+   * {@link AttributePath}: {@code builder.add(UserSpecs.username().like(name))}. The predicates
+   * are added without parentheses, connected as they were built.
+   *
+   * @param spec can be {@literal null}, then nothing is added.
+   */
+  public SpecificationBuilder<T> add(@Nullable final BuiltSpecification<T> spec) {
+    if (spec == null) return this;
+
+    return addAll(spec.getSpecifications(), spec.getInnerSpecifications());
+  }
+
   /**
    * Logical operations AND grouped with parentheses.
    *
@@ -108,6 +174,33 @@ public class SpecificationBuilder<T> {
     return equal(column, value, EqualsSpecification.Builder::not);
   }
 
+  /**
+   * Not Equal to.
+   *
+   * <p>Example: {@code ...WHERE column != 1...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param value value of predicate.
+   */
+  public <V> SpecificationBuilder<T> notEqual(
+      final SingularAttribute<? super T, V> attribute, @Nullable final V value) {
+    return notEqual(AttributePath.of(attribute), value);
+  }
+
+  /**
+   * Not Equal to.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column != 1...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param value value of predicate.
+   */
+  public <V> SpecificationBuilder<T> notEqual(
+      final AttributePath<T, V> path, @Nullable final V value) {
+    return equal(path, value, EqualsSpecification.Builder::not);
+  }
+
   /**
    * Equal to.
    *
@@ -169,6 +262,66 @@ public class SpecificationBuilder<T> {
     return this;
   }
 
+  /**
+   * Equal to.
+   *
+   * <p>Example: {@code ...WHERE column = 1...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param value value of predicate.
+   */
+  public <V> SpecificationBuilder<T> equal(
+      final SingularAttribute<? super T, V> attribute, @Nullable final V value) {
+    return equal(AttributePath.of(attribute), value, EqualsSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to.
+   *
+   * <p>Example: {@code ...WHERE column = 1...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param value value of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public <V> SpecificationBuilder<T> equal(
+      final SingularAttribute<? super T, V> attribute,
+      @Nullable final V value,
+      final Function<EqualsSpecification.Builder<T>, ObjectBuilder<EqualsSpecification<T>>> fn) {
+    return equal(AttributePath.of(attribute), value, fn);
+  }
+
+  /**
+   * Equal to.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column = 1...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param value value of predicate.
+   */
+  public <V> SpecificationBuilder<T> equal(
+      final AttributePath<T, V> path, @Nullable final V value) {
+    return equal(path, value, EqualsSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column = 1...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param value value of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public <V> SpecificationBuilder<T> equal(
+      final AttributePath<T, V> path,
+      @Nullable final V value,
+      final Function<EqualsSpecification.Builder<T>, ObjectBuilder<EqualsSpecification<T>>> fn) {
+    return equal(path.getColumns(), value, b -> fn.apply(b.path(path)));
+  }
+
   /**
    * Equal to one of multiple possible values.
    *
@@ -232,6 +385,199 @@ public class SpecificationBuilder<T> {
     return this;
   }
 
+  /**
+   * Equal to one of multiple possible values.
+   *
+   * <p>Example: {@code WHERE column IN (101, 103, 209)...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param values values of predicate.
+   */
+  public <V> SpecificationBuilder<T> in(
+      final SingularAttribute<? super T, V> attribute, @Nullable final Collection<V> values) {
+    return in(AttributePath.of(attribute), values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to one of multiple possible values.
+   *
+   * <p>Example: {@code WHERE column IN (101, 103, 209)...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public <V> SpecificationBuilder<T> in(
+      final SingularAttribute<? super T, V> attribute,
+      @Nullable final Collection<V> values,
+      final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
+    return in(AttributePath.of(attribute), values, fn);
+  }
+
+  /**
+   * Equal to one of multiple possible values.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column IN (101, 103, 209)...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param values values of predicate.
+   */
+  public <V> SpecificationBuilder<T> in(
+      final AttributePath<T, V> path, @Nullable final Collection<V> values) {
+    return in(path, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to one of multiple possible values.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column IN (101, 103, 209)...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public <V> SpecificationBuilder<T> in(
+      final AttributePath<T, V> path,
+      @Nullable final Collection<V> values,
+      final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
+    return in(path.getColumns(), values, b -> fn.apply(b.path(path)));
+  }
+
+  /**
+   * Not equal to any of multiple possible values, a column without a value is not in the values
+   * unless they contain {@literal null}.
+   *
+   * <p>Example: {@code WHERE column NOT IN (101, 103, 209) OR column IS NULL...}
+   *
+   * @param column column name.
+   * @param values values of predicate.
+   */
+  public <V> SpecificationBuilder<T> notIn(final String column, final Collection<V> values) {
+    return notIn(column, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Not equal to any of multiple possible values, a column without a value is not in the values
+   * unless they contain {@literal null}.
+   *
+   * <p>Example: {@code WHERE column NOT IN (101, 103, 209) OR column IS NULL...}
+   *
+   * @param column column name.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters, e.g. {@code
+   *     InSpecification.Builder::exists} for {@code NOT EXISTS}.
+   */
+  public <V> SpecificationBuilder<T> notIn(
+      final String column,
+      final Collection<V> values,
+      final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
+    return notIn(splitColumn(column), values, fn);
+  }
+
+  /**
+   * Not equal to any of multiple possible values, a column without a value is not in the values
+   * unless they contain {@literal null}.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column NOT IN (101, 103,
+   * 209) OR table_join.column IS NULL...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param values values of predicate.
+   */
+  public <V> SpecificationBuilder<T> notIn(
+      final List<String> columns, final Collection<V> values) {
+    return notIn(columns, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Not equal to any of multiple possible values, a column without a value is not in the values
+   * unless they contain {@literal null}.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column NOT IN (101, 103,
+   * 209) OR table_join.column IS NULL...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters, e.g. {@code
+   *     InSpecification.Builder::exists} for {@code NOT EXISTS}.
+   */
+  public <V> SpecificationBuilder<T> notIn(
+      final List<String> columns,
+      final Collection<V> values,
+      final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
+    return in(columns, values, b -> fn.apply(b.not()));
+  }
+
+  /**
+   * Not equal to any of multiple possible values, a column without a value is not in the values
+   * unless they contain {@literal null}.
+   *
+   * <p>Example: {@code WHERE column NOT IN (101, 103, 209) OR column IS NULL...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param values values of predicate.
+   */
+  public <V> SpecificationBuilder<T> notIn(
+      final SingularAttribute<? super T, V> attribute, @Nullable final Collection<V> values) {
+    return notIn(AttributePath.of(attribute), values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Not equal to any of multiple possible values, a column without a value is not in the values
+   * unless they contain {@literal null}.
+   *
+   * <p>Example: {@code WHERE column NOT IN (101, 103, 209) OR column IS NULL...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters, e.g. {@code
+   *     InSpecification.Builder::exists} for {@code NOT EXISTS}.
+   */
+  public <V> SpecificationBuilder<T> notIn(
+      final SingularAttribute<? super T, V> attribute,
+      @Nullable final Collection<V> values,
+      final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
+    return notIn(AttributePath.of(attribute), values, fn);
+  }
+
+  /**
+   * Not equal to any of multiple possible values, a column without a value is not in the values
+   * unless they contain {@literal null}.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column NOT IN (101, 103,
+   * 209) OR table_join.column IS NULL...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param values values of predicate.
+   */
+  public <V> SpecificationBuilder<T> notIn(
+      final AttributePath<T, V> path, @Nullable final Collection<V> values) {
+    return notIn(path, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Not equal to any of multiple possible values, a column without a value is not in the values
+   * unless they contain {@literal null}.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column NOT IN (101, 103,
+   * 209) OR table_join.column IS NULL...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters, e.g. {@code
+   *     InSpecification.Builder::exists} for {@code NOT EXISTS}.
+   */
+  public <V> SpecificationBuilder<T> notIn(
+      final AttributePath<T, V> path,
+      @Nullable final Collection<V> values,
+      final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
+    return in(path, values, b -> fn.apply(b.not()));
+  }
+
   /**
    * Contains a character pattern.
    *
@@ -299,6 +645,66 @@ public class SpecificationBuilder<T> {
     return this;
   }
 
+  /**
+   * Contains a character pattern.
+   *
+   * <p>Example: {@code ... WHERE column LIKE '%Will%'...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param value value of predicate.
+   */
+  public SpecificationBuilder<T> like(
+      final SingularAttribute<? super T, String> attribute, @Nullable final String value) {
+    return like(AttributePath.of(attribute), value, LikeSpecification.Builder::self);
+  }
+
+  /**
+   * Contains a character pattern.
+   *
+   * <p>Example: {@code ... WHERE column LIKE '%Will%'...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param value value of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> like(
+      final SingularAttribute<? super T, String> attribute,
+      @Nullable final String value,
+      final Function<LikeSpecification.Builder<T>, ObjectBuilder<LikeSpecification<T>>> fn) {
+    return like(AttributePath.of(attribute), value, fn);
+  }
+
+  /**
+   * Contains a character pattern.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column LIKE '%Will%'...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param value value of predicate.
+   */
+  public SpecificationBuilder<T> like(
+      final AttributePath<T, String> path, @Nullable final String value) {
+    return like(path, value, LikeSpecification.Builder::self);
+  }
+
+  /**
+   * Contains a character pattern.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column LIKE '%Will%'...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param value value of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> like(
+      final AttributePath<T, String> path,
+      @Nullable final String value,
+      final Function<LikeSpecification.Builder<T>, ObjectBuilder<LikeSpecification<T>>> fn) {
+    return like(path.getColumns(), value, b -> fn.apply(b.path(path)));
+  }
+
   // Comparison: BETWEEN, >, <, >=, <=
 
   /**
@@ -378,30 +784,108 @@ public class SpecificationBuilder<T> {
   }
 
   /**
-   * Maximum allowed value.
+   * Minimum allowed value.
    *
    * <p>Examples:
    *
    * <ul>
-   *   <li>{@code ... WHERE column < 50000.00 ...}
-   *   <li>{@code ... WHERE column <= 0.05 ...}
+   *   <li>{@code ... WHERE column > '2012-01-31' ...}
+   *   <li>{@code ... WHERE column >= 2 ...}
    * </ul>
    *
-   * @param column column name.
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
    */
-  public <P extends Comparable<? super P>> SpecificationBuilder<T> max(
-      final String column, final P max) {
-    return between(column, null, max, ComparisonSpecification.Builder::self);
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> min(
+      final SingularAttribute<? super T, P> attribute, @Nullable final P min) {
+    return min(AttributePath.of(attribute), min, ComparisonSpecification.Builder::self);
   }
 
   /**
-   * Maximum allowed value.
+   * Minimum allowed value.
    *
    * <p>Examples:
    *
    * <ul>
-   *   <li>{@code ... WHERE column < 50000.00 ...}
-   *   <li>{@code ... WHERE column <= 0.05 ...}
+   *   <li>{@code ... WHERE column > '2012-01-31' ...}
+   *   <li>{@code ... WHERE column >= 2 ...}
+   * </ul>
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param fn function of the builder of min and max values, additional predicate parameters.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> min(
+      final SingularAttribute<? super T, P> attribute,
+      @Nullable final P min,
+      final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
+          fn) {
+    return min(AttributePath.of(attribute), min, fn);
+  }
+
+  /**
+   * Minimum allowed value.
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column > '2012-01-31' ...}
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column >= 2 ...}
+   * </ul>
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> min(
+      final AttributePath<T, P> path, @Nullable final P min) {
+    return min(path, min, ComparisonSpecification.Builder::self);
+  }
+
+  /**
+   * Minimum allowed value.
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column > '2012-01-31' ...}
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column >= 2 ...}
+   * </ul>
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param fn function of the builder of min and max values, additional predicate parameters.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> min(
+      final AttributePath<T, P> path,
+      @Nullable final P min,
+      final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
+          fn) {
+    return between(path, min, null, fn);
+  }
+
+  /**
+   * Maximum allowed value.
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... WHERE column < 50000.00 ...}
+   *   <li>{@code ... WHERE column <= 0.05 ...}
+   * </ul>
+   *
+   * @param column column name.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> max(
+      final String column, final P max) {
+    return between(column, null, max, ComparisonSpecification.Builder::self);
+  }
+
+  /**
+   * Maximum allowed value.
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... WHERE column < 50000.00 ...}
+   *   <li>{@code ... WHERE column <= 0.05 ...}
    * </ul>
    *
    * @param column column name.
@@ -453,6 +937,84 @@ public class SpecificationBuilder<T> {
     return between(columns, null, max, fn);
   }
 
+  /**
+   * Maximum allowed value.
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... WHERE column < 50000.00 ...}
+   *   <li>{@code ... WHERE column <= 0.05 ...}
+   * </ul>
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> max(
+      final SingularAttribute<? super T, P> attribute, @Nullable final P max) {
+    return max(AttributePath.of(attribute), max, ComparisonSpecification.Builder::self);
+  }
+
+  /**
+   * Maximum allowed value.
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... WHERE column < 50000.00 ...}
+   *   <li>{@code ... WHERE column <= 0.05 ...}
+   * </ul>
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param fn function of the builder of min and max values, additional predicate parameters.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> max(
+      final SingularAttribute<? super T, P> attribute,
+      @Nullable final P max,
+      final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
+          fn) {
+    return max(AttributePath.of(attribute), max, fn);
+  }
+
+  /**
+   * Maximum allowed value.
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column < 50000.00 ...}
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column <= 0.05 ...}
+   * </ul>
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> max(
+      final AttributePath<T, P> path, @Nullable final P max) {
+    return max(path, max, ComparisonSpecification.Builder::self);
+  }
+
+  /**
+   * Maximum allowed value.
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column < 50000.00 ...}
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column <= 0.05 ...}
+   * </ul>
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param fn function of the builder of min and max values, additional predicate parameters.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> max(
+      final AttributePath<T, P> path,
+      @Nullable final P max,
+      final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
+          fn) {
+    return between(path, null, max, fn);
+  }
+
   /**
    * Between the range, the extreme values can be infinite({@code null}).
    *
@@ -551,6 +1113,90 @@ public class SpecificationBuilder<T> {
     return this;
   }
 
+  /**
+   * Between the range, the extreme values can be infinite({@code null}).
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... WHERE column BETWEEN 100.00 AND 500.00 ...}
+   *   <li>{@code ... WHERE column >= 2 ...}
+   * </ul>
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> between(
+      final SingularAttribute<? super T, P> attribute,
+      @Nullable final P min,
+      @Nullable final P max) {
+    return between(AttributePath.of(attribute), min, max, ComparisonSpecification.Builder::self);
+  }
+
+  /**
+   * Between the range, the extreme values can be infinite({@code null}).
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... WHERE column BETWEEN 100.00 AND 500.00 ...}
+   *   <li>{@code ... WHERE column >= 2 ...}
+   * </ul>
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param fn function of the builder of min and max values, additional predicate parameters.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> between(
+      final SingularAttribute<? super T, P> attribute,
+      @Nullable final P min,
+      @Nullable final P max,
+      final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
+          fn) {
+    return between(AttributePath.of(attribute), min, max, fn);
+  }
+
+  /**
+   * Between the range, the extreme values can be infinite({@code null}).
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column BETWEEN 100.00 AND 500.00
+   *       ...}
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column >= 2 ...}
+   * </ul>
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> between(
+      final AttributePath<T, P> path, @Nullable final P min, @Nullable final P max) {
+    return between(path, min, max, ComparisonSpecification.Builder::self);
+  }
+
+  /**
+   * Between the range, the extreme values can be infinite({@code null}).
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column BETWEEN 100.00 AND 500.00
+   *       ...}
+   *   <li>{@code ... LEFT JOIN table_join ... WHERE table_join.column >= 2 ...}
+   * </ul>
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param fn function of the builder of min and max values, additional predicate parameters.
+   */
+  public <P extends Comparable<? super P>> SpecificationBuilder<T> between(
+      final AttributePath<T, P> path,
+      @Nullable final P min,
+      @Nullable final P max,
+      final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
+          fn) {
+    return between(path.getColumns(), min, max, b -> fn.apply(b.path(path)));
+  }
+
   /**
    * Compare to not null.
    *
@@ -573,6 +1219,29 @@ public class SpecificationBuilder<T> {
     return isNull(columns, true, CompositeSpecification.Builder::not);
   }
 
+  /**
+   * Compare to not null.
+   *
+   * <p>Examples: {@code ... WHERE column IS NOT NULL ...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   */
+  public SpecificationBuilder<T> isNotNull(final SingularAttribute<? super T, ?> attribute) {
+    return isNotNull(AttributePath.of(attribute));
+  }
+
+  /**
+   * Compare to not null.
+   *
+   * <p>Examples: {@code ... LEFT JOIN table_join ... WHERE table_join.column IS NOT NULL ...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   */
+  public SpecificationBuilder<T> isNotNull(final AttributePath<T, ?> path) {
+    return isNull(path, true, CompositeSpecification.Builder::not);
+  }
+
   /**
    * Compare to null (missing data).
    *
@@ -658,25 +1327,205 @@ public class SpecificationBuilder<T> {
     return this;
   }
 
+  /**
+   * Compare to null (missing data).
+   *
+   * <p>Examples: {@code ... WHERE column IS NULL ...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   */
+  public SpecificationBuilder<T> isNull(final SingularAttribute<? super T, ?> attribute) {
+    return isNull(AttributePath.of(attribute), true);
+  }
+
+  /**
+   * Compare to null (missing data).
+   *
+   * <p>Examples: {@code ... WHERE column IS NULL ...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param active - activate the predicate?
+   */
+  public SpecificationBuilder<T> isNull(
+      final SingularAttribute<? super T, ?> attribute, final Boolean active) {
+    return isNull(AttributePath.of(attribute), active);
+  }
+
+  /**
+   * Compare to null (missing data).
+   *
+   * <p>Examples: {@code ... WHERE column IS NULL ...}
+   *
+   * @param attribute attribute of the metamodel, e.g. {@code User_.username}.
+   * @param active - activate the predicate?
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public <P> SpecificationBuilder<T> isNull(
+      final SingularAttribute<? super T, P> attribute,
+      final Boolean active,
+      final Function<NullSpecification.Builder<T, P>, ObjectBuilder<NullSpecification<T, P>>> fn) {
+    return isNull(AttributePath.of(attribute), active, fn);
+  }
+
+  /**
+   * Compare to null (missing data).
+   *
+   * <p>Examples: {@code ... LEFT JOIN table_join ... WHERE table_join.column IS NULL ...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   */
+  public SpecificationBuilder<T> isNull(final AttributePath<T, ?> path) {
+    return isNull(path, true);
+  }
+
+  /**
+   * Compare to null (missing data).
+   *
+   * <p>Examples: {@code ... LEFT JOIN table_join ... WHERE table_join.column IS NULL ...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param active - activate the predicate?
+   */
+  public SpecificationBuilder<T> isNull(final AttributePath<T, ?> path, final Boolean active) {
+    return isNull(path, active, NullSpecification.Builder::self);
+  }
+
+  /**
+   * Compare to null (missing data).
+   *
+   * <p>Examples: {@code ... LEFT JOIN table_join ... WHERE table_join.column IS NULL ...}
+   *
+   * @param path typed path of the metamodel, e.g. {@code
+   *     AttributePath.of(Post_.author).get(User_.username)}.
+   * @param active - activate the predicate?
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public <P> SpecificationBuilder<T> isNull(
+      final AttributePath<T, P> path,
+      final Boolean active,
+      final Function<NullSpecification.Builder<T, P>, ObjectBuilder<NullSpecification<T, P>>> fn) {
+    return this.<P>isNull(path.getColumns(), active, b -> fn.apply(b.path(path)));
+  }
+
+  /**
+   * Existence of a row of another entity correlated with the root, the predicates of the subquery
+   * are built by a nested builder.
+   *
+   * <p>Example: {@code ... WHERE EXISTS (SELECT 1 FROM comments c WHERE c.author_id = u.id AND
+   * c.text = ?) ...}
+   *
+   * @param entityClass the entity of the subquery, e.g. {@code Comment.class}.
+   * @param column property path of the subquery entity referencing the root, joins separated by a
+   *     dot, e.g. {@code author}.
+   * @param subquery function of the builder of the subquery predicates, e.g. {@code sub ->
+   *     sub.equal(Comment_.TEXT, text)}.
+   * @param <S> the type of the {@link Root} of the subquery.
+   */
+  public <S> SpecificationBuilder<T> existsIn(
+      final Class<S> entityClass,
+      final String column,
+      final Function<SpecificationBuilder<S>, SpecificationBuilder<S>> subquery) {
+    specifications.add(SubquerySpecification.exists(entityClass, column, subquery, false));
+    return this;
+  }
+
+  /**
+   * Absence of a row of another entity correlated with the root, the predicates of the subquery are
+   * built by a nested builder.
+   *
+   * <p>Example: {@code ... WHERE NOT EXISTS (SELECT 1 FROM comments c WHERE c.author_id = u.id AND
+   * c.text = ?) ...}
+   *
+   * @param entityClass the entity of the subquery, e.g. {@code Comment.class}.
+   * @param column property path of the subquery entity referencing the root, joins separated by a
+   *     dot, e.g. {@code author}.
+   * @param subquery function of the builder of the subquery predicates.
+   * @param <S> the type of the {@link Root} of the subquery.
+   */
+  public <S> SpecificationBuilder<T> notExistsIn(
+      final Class<S> entityClass,
+      final String column,
+      final Function<SpecificationBuilder<S>, SpecificationBuilder<S>> subquery) {
+    specifications.add(SubquerySpecification.exists(entityClass, column, subquery, true));
+    return this;
+  }
+
+  /**
+   * Equal to one of the values selected by a subquery on another entity, the predicates of the
+   * subquery are built by a nested builder.
+   *
+   * <p>Example: {@code ... WHERE u.id IN (SELECT p.author_id FROM posts p WHERE p.title = ?) ...}
+   *
+   * @param column column name of the root, joins separated by a dot.
+   * @param entityClass the entity of the subquery, e.g. {@code Post.class}.
+   * @param subqueryColumn property path of the subquery entity to select, joins separated by a
+   *     dot, e.g. {@code author.id}.
+   * @param subquery function of the builder of the subquery predicates.
+   * @param <S> the type of the {@link Root} of the subquery.
+   */
+  public <S> SpecificationBuilder<T> inSubquery(
+      final String column,
+      final Class<S> entityClass,
+      final String subqueryColumn,
+      final Function<SpecificationBuilder<S>, SpecificationBuilder<S>> subquery) {
+    specifications.add(
+        SubquerySpecification.in(splitColumn(column), entityClass, subqueryColumn, subquery));
+    return this;
+  }
+
   private List<String> splitColumn(final String column) {
     return Arrays.asList(column.split("\\."));
   }
 
-  /** Builds a {@link Specification}. */
-  public Specification<T> build() {
+  /** Builds a {@link Specification}, {@literal null} if no predicate has been added. */
+  public @Nullable BuiltSpecification<T> build() {
     if (specifications.isEmpty() && innerSpecifications.isEmpty()) return null;
 
-    Specification<T> result = Specification.unrestricted();
-    for (final CompositeSpecification<T, ?> spec : specifications) {
-      spec.setDistinct(distinct);
-      result = spec.connection.connect(result, spec);
-    }
-    for (final InnerSpecification<T> inner : innerSpecifications) {
-      result = inner.operator.connect(result, inner.spec);
-    }
-
+    final long start = SpecificationObservers.start();
+    final SpecificationBuildEvent event = SpecificationBuildEvent.start();
+    final BuiltSpecification<T> result = create();
+    event.complete(result, specifications.size(), innerSpecifications.size());
+    SpecificationObservers.build(result, start);
     return result;
   }
 
-  private record InnerSpecification<T>(Specification<T> spec, BooleanOperator operator) {}
+  /**
+   * Builds a part of another specification, e.g. a typed predicate added by {@link
+   * #add(BuiltSpecification)} or the specification of a subquery: the observers and the JFR events
+   * are not notified, the specification containing the part is reported when it is built.
+   */
+  @Nullable BuiltSpecification<T> buildPart() {
+    return specifications.isEmpty() && innerSpecifications.isEmpty() ? null : create();
+  }
+
+  private BuiltSpecification<T> create() {
+    final BuiltSpecification<T> spec =
+        new BuiltSpecification<>(specifications, innerSpecifications, label, distinct);
+    return entityGraph ? spec.withoutFetch(spec.getFetchColumnPaths()) : spec;
+  }
+
+  /** Returns the predicates added to the builder, without the inner specifications. */
+  List<CompositeSpecification<T, ?>> getSpecifications() {
+    return specifications;
+  }
+
+  /** Returns the inner specifications added to the builder. */
+  List<InnerSpecification<T>> getInnerSpecifications() {
+    return innerSpecifications;
+  }
+
+  /**
+   * Adds predicates and inner specifications created by another builder.
+   *
+   * @param specs predicates in the order of addition.
+   * @param inners inner specifications in the order of addition.
+   */
+  SpecificationBuilder<T> addAll(
+      final List<CompositeSpecification<T, ?>> specs, final List<InnerSpecification<T>> inners) {
+    specifications.addAll(specs);
+    innerSpecifications.addAll(inners);
+    return this;
+  }
 }
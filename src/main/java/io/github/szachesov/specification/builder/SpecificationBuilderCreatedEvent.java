@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event of the construction of a {@link SpecificationBuilder}. */
+@Name("io.github.szachesov.specification.BuilderCreated")
+@Label("Specification Builder Created")
+@Category({"Spring Data", "Specification Builder"})
+@Description("A specification builder has been created, the stack trace shows the caller.")
+@Enabled(false)
+final class SpecificationBuilderCreatedEvent extends Event {
+
+  private static final EventType EVENT_TYPE =
+      EventType.getEventType(SpecificationBuilderCreatedEvent.class);
+
+  /** Commits the event if it is enabled, nothing is allocated otherwise. */
+  static void emit() {
+    if (EVENT_TYPE.isEnabled()) {
+      new SpecificationBuilderCreatedEvent().commit();
+    }
+  }
+}
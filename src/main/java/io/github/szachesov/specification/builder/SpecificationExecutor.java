@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Executor of a {@link Specification} through an {@link EntityManager}, complementing {@link
+ * org.springframework.data.jpa.repository.JpaSpecificationExecutor} where the built specification
+ * needs a different query plan.
+ *
+ * <p>The queries of a {@link BuiltSpecification} carry its {@link BuiltSpecification#getLabel()}
+ * as an SQL comment, written to the SQL with {@code hibernate.use_sql_comments=true}.
+ *
+ * @param <T> the type of the {@link Root} the {@literal Specification} operates on.
+ */
+public class SpecificationExecutor<T> {
+
+  /** The maximum number of identifiers bound to one {@code IN} of a secondary fetch query. */
+  public static final int IN_BATCH_SIZE = 1000;
+
+  private final EntityManager entityManager;
+  private final Class<T> domainClass;
+  private final JpaEntityInformation<T, ?> entityInformation;
+  private final ManagedType<T> managedType;
+  private final @Nullable Long deadline;
+
+  /**
+   * Creates an executor.
+   *
+   * @param entityManager entity manager of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   */
+  public SpecificationExecutor(final EntityManager entityManager, final Class<T> domainClass) {
+    this(entityManager, domainClass, null);
+  }
+
+  /**
+   * Creates an executor limiting each query by the query timeout to the time remaining until the
+   * deadline.
+   *
+   * @param entityManager entity manager of the persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   * @param deadline {@link System#nanoTime()} by which the queries end, can be {@literal null}.
+   */
+  SpecificationExecutor(
+      final EntityManager entityManager,
+      final Class<T> domainClass,
+      @Nullable final Long deadline) {
+    this.entityManager = entityManager;
+    this.domainClass = domainClass;
+    this.entityInformation =
+        JpaEntityInformationSupport.getEntityInformation(domainClass, entityManager);
+    this.managedType = entityManager.getMetamodel().managedType(domainClass);
+    this.deadline = deadline;
+  }
+
+  /**
+   * Returns all entities matching the given {@link Specification} in the given order.
+   *
+   * <p>Collections fetched by the specification are loaded as described in {@link
+   * #findAll(Specification, Pageable)}.
+   *
+   * @param spec can be {@literal null}.
+   * @param sort sort order of the result.
+   */
+  public List<T> findAll(@Nullable final Specification<T> spec, final Sort sort) {
+    return findAll(spec, Pageable.unpaged(sort)).getContent();
+  }
+
+  /**
+   * Returns a page of entities matching the given {@link Specification}.
+   *
+   * <p>A fetch join of a collection with {@code LIMIT/OFFSET} makes Hibernate load the whole result
+   * and paginate in memory. In this case the page is loaded in two phases:
+   *
+   * <ol>
+   *   <li>{@code SELECT DISTINCT id ... WHERE ... ORDER BY ... LIMIT ... OFFSET ...}
+   *   <li>{@code SELECT ... JOIN FETCH ... WHERE ... AND id IN (:pageIds)}, the order of the first
+   *       phase is kept.
+   * </ol>
+   *
+   * <p>Only the first collection fetched by a {@link BuiltSpecification} is fetched by the query,
+   * each further collection is loaded by a secondary query restricted to the identifiers of the
+   * result: {@code SELECT ... LEFT JOIN FETCH ... WHERE id IN (:parentIds)}. The secondary queries
+   * initialize the collections of the same entity instances, so the executor must run within a
+   * transaction sharing one persistence context.
+   *
+   * @param spec can be {@literal null}.
+   * @param pageable page request, can be {@link Pageable#unpaged()}.
+   */
+  public Page<T> findAll(@Nullable final Specification<T> spec, final Pageable pageable) {
+    final List<T> content = findContent(spec, pageable);
+    return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+  }
+
+  /**
+   * Returns the content of the page of entities matching the given {@link Specification}, without
+   * counting the total, see {@link #findAll(Specification, Pageable)}.
+   *
+   * @param spec can be {@literal null}.
+   * @param pageable page request, can be {@link Pageable#unpaged()}.
+   */
+  List<T> findContent(@Nullable final Specification<T> spec, final Pageable pageable) {
+    return findContent(spec, pageable, pageable.isPaged() ? pageable.getPageSize() : 0);
+  }
+
+  private List<T> findContent(
+      @Nullable final Specification<T> spec, final Pageable pageable, final int maxResults) {
+    final long start = SpecificationObservers.start();
+    final FetchPlan<T> plan = FetchPlan.of(spec, managedType);
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<T> query = builder.createQuery(domainClass);
+    final Root<T> root = createContentQuery(plan.spec(), query, pageable.getSort());
+
+    final List<T> content;
+    if (pageable.isUnpaged()) {
+      content = createQuery(spec, query).getResultList();
+    } else if (SpecificationQueryUtils.hasCollectionFetch(root)) {
+      content = findPageByIds(plan.spec(), pageable, maxResults);
+    } else {
+      content =
+          createQuery(spec, query)
+              .setFirstResult(Math.toIntExact(pageable.getOffset()))
+              .setMaxResults(maxResults)
+              .getResultList();
+    }
+    for (final FetchPlan.SecondaryFetch<?> fetch : plan.secondaryFetches()) {
+      fetch(spec, content, fetch);
+    }
+    SpecificationObservers.query(domainClass, spec, start);
+    return content;
+  }
+
+  /**
+   * Returns the number of entities matching the given {@link Specification}.
+   *
+   * @param spec can be {@literal null}.
+   */
+  public long count(@Nullable final Specification<T> spec) {
+    final long start = SpecificationObservers.start();
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Long> query = builder.createQuery(Long.class);
+    final Root<T> root =
+        SpecificationQueryUtils.applySpecification(spec, domainClass, query, builder);
+    query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+
+    final Long count = createQuery(spec, query).getSingleResult();
+    SpecificationObservers.query(domainClass, spec, start);
+    return count;
+  }
+
+  /**
+   * Returns the first entities matching the given {@link Specification} in the given order, the
+   * limit is applied by the database.
+   *
+   * <p>Example: {@code ... ORDER BY column LIMIT 5}
+   *
+   * <p>Collections fetched by the specification are loaded as described in {@link
+   * #findAll(Specification, Pageable)}.
+   *
+   * @param spec can be {@literal null}.
+   * @param sort sort order of the result.
+   * @param limit maximum number of entities.
+   */
+  public List<T> findTop(@Nullable final Specification<T> spec, final Sort sort, final int limit) {
+    return findContent(spec, PageRequest.of(0, limit, sort));
+  }
+
+  /**
+   * Whether an entity matches the given {@link Specification}. The fetch joins of the
+   * specification are replaced with plain joins and the query is not distinct.
+   *
+   * <p>Example: {@code SELECT 1 ... WHERE ... LIMIT 1}
+   *
+   * @param spec can be {@literal null}.
+   */
+  public boolean exists(@Nullable final Specification<T> spec) {
+    final long start = SpecificationObservers.start();
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Integer> query = builder.createQuery(Integer.class);
+    SpecificationQueryUtils.applySpecification(spec, domainClass, query, builder);
+    query.select(builder.literal(1)).distinct(false);
+
+    final boolean exists = !createQuery(spec, query).setMaxResults(1).getResultList().isEmpty();
+    SpecificationObservers.query(domainClass, spec, start);
+    return exists;
+  }
+
+  /**
+   * Returns the number of entities matching the given {@link Specification}, counting at most one
+   * entity more than the limit, e.g. to show "1000+" instead of counting millions of rows.
+   *
+   * <p>Example: {@code SELECT count(*) FROM (SELECT DISTINCT id ... WHERE ... LIMIT 1001)}
+   *
+   * @param spec can be {@literal null}.
+   * @param limit the maximum exact count, not negative.
+   * @return the number of entities if it is at most {@code limit}, otherwise {@code limit + 1}.
+   * @throws IllegalArgumentException if the limit is negative.
+   */
+  public long countAtMost(@Nullable final Specification<T> spec, final int limit) {
+    final long start = SpecificationObservers.start();
+    final CriteriaQuery<Long> query =
+        LimitedCountQuery.create(
+            entityManager, entityManager.getMetamodel().entity(domainClass), spec, limit);
+
+    final Long count = createQuery(spec, query).getSingleResult();
+    SpecificationObservers.query(domainClass, spec, start);
+    return count;
+  }
+
+  /**
+   * Returns a slice of entities matching the given {@link Specification} without counting them:
+   * one entity more than the page size is queried to tell whether a next slice exists.
+   *
+   * <p>Collections fetched by the specification are loaded as described in {@link
+   * #findAll(Specification, Pageable)}.
+   *
+   * @param spec can be {@literal null}.
+   * @param pageable page request, can be {@link Pageable#unpaged()}.
+   */
+  public Slice<T> findSlice(@Nullable final Specification<T> spec, final Pageable pageable) {
+    if (pageable.isUnpaged()) return new SliceImpl<>(findContent(spec, pageable), pageable, false);
+
+    final int size = pageable.getPageSize();
+    final List<T> content = findContent(spec, pageable, size + 1);
+    final boolean hasNext = content.size() > size;
+    return new SliceImpl<>(hasNext ? content.subList(0, size) : content, pageable, hasNext);
+  }
+
+  private Root<T> createContentQuery(
+      @Nullable final Specification<T> spec, final CriteriaQuery<T> query, final Sort sort) {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final Root<T> root =
+        SpecificationQueryUtils.applySpecification(spec, domainClass, query, builder);
+    query.select(root);
+    if (sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, root, builder));
+    }
+    return root;
+  }
+
+  private List<T> findPageByIds(
+      @Nullable final Specification<T> spec, final Pageable pageable, final int maxResults) {
+    final List<Object> ids = findPageIds(spec, pageable, maxResults);
+    if (ids.isEmpty()) return List.of();
+
+    final Specification<T> pageIds = (root, query, builder) -> root.get(idAttribute()).in(ids);
+    final CriteriaQuery<T> query = entityManager.getCriteriaBuilder().createQuery(domainClass);
+    createContentQuery(Specification.allOf(spec, pageIds), query, Sort.unsorted());
+
+    final Map<Object, Integer> positions = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      positions.put(ids.get(i), i);
+    }
+    final List<T> content = new ArrayList<>(createQuery(spec, query).getResultList());
+    content.sort(Comparator.comparing(e -> positions.get(entityInformation.getId(e))));
+    return content;
+  }
+
+  private List<Object> findPageIds(
+      @Nullable final Specification<T> spec, final Pageable pageable, final int maxResults) {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    final Root<T> root =
+        SpecificationQueryUtils.applySpecification(spec, domainClass, query, builder);
+
+    // One row per id: a sort by a joined collection orders an id by its first value in the sort.
+    // With DISTINCT the ORDER BY expressions must be selected as well.
+    final Path<?> id = root.get(idAttribute());
+    final List<Order> orders = new ArrayList<>();
+    final List<Selection<?>> selections = new ArrayList<>();
+    selections.add(id);
+    for (final Order order : QueryUtils.toOrders(pageable.getSort(), root, builder)) {
+      final Expression<?> first = firstInOrder(builder, order);
+      selections.add(first);
+      orders.add(order.isAscending() ? builder.asc(first) : builder.desc(first));
+    }
+    query.multiselect(selections).groupBy(id).orderBy(orders);
+
+    return createQuery(spec, query)
+        .setFirstResult(Math.toIntExact(pageable.getOffset()))
+        .setMaxResults(maxResults)
+        .getResultList()
+        .stream()
+        .map(t -> t.get(0))
+        .toList();
+  }
+
+  /** Returns the least value of the sorted expression for an ascending order, else the greatest. */
+  @SuppressWarnings({"unchecked", "rawtypes"}) // the sorted expressions are comparable
+  private static Expression<?> firstInOrder(final CriteriaBuilder builder, final Order order) {
+    final Expression expression = order.getExpression();
+    return order.isAscending() ? builder.least(expression) : builder.greatest(expression);
+  }
+
+  private void fetch(
+      @Nullable final Specification<T> spec,
+      final List<T> entities,
+      final FetchPlan.SecondaryFetch<?> fetch) {
+    final List<?> ids = entities.stream().map(entityInformation::getId).toList();
+    for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+      final List<?> batch = ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size()));
+      createQuery(
+              spec,
+              fetch.createQuery(
+                  entityManager.getCriteriaBuilder(), domainClass, idAttribute(), batch))
+          .getResultList();
+    }
+  }
+
+  /**
+   * Creates the query with the label of the specification as an SQL comment, limited by the query
+   * timeout to the deadline.
+   */
+  private <R> TypedQuery<R> createQuery(
+      @Nullable final Specification<T> spec, final CriteriaQuery<R> query) {
+    final TypedQuery<R> typed =
+        SpecificationQueryUtils.comment(spec, entityManager.createQuery(query));
+    return deadline == null ? typed : SpecificationQueryUtils.timeout(deadline, typed);
+  }
+
+  @SuppressWarnings("unchecked")
+  private SingularAttribute<? super T, Object> idAttribute() {
+    return (SingularAttribute<? super T, Object>) entityInformation.getRequiredIdAttribute();
+  }
+}
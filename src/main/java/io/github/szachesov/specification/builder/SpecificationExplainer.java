@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Captures the execution plan of the query of a {@link Specification}.
+ *
+ * <p>The query is prepared on the connection of the entity manager to record the exact SQL and
+ * binds Hibernate uses, but not executed: an empty result is returned to Hibernate instead. Then
+ * {@code EXPLAIN} (or {@code EXPLAIN ANALYZE}) of this SQL is executed with the same binds.
+ * Intended for tests and diagnostics, e.g. against PostgreSQL or an in-memory H2 database.
+ *
+ * <p>Example: {@code assertThat(explainer.explain(spec).hasFullScan("posts")).isFalse()}
+ *
+ * @param <T> the type of the {@link Root} the {@literal Specification} operates on.
+ */
+public class SpecificationExplainer<T> {
+
+  private final EntityManager entityManager;
+  private final Class<T> domainClass;
+
+  /**
+   * Creates an explainer.
+   *
+   * @param entityManager entity manager of a Hibernate persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   */
+  public SpecificationExplainer(final EntityManager entityManager, final Class<T> domainClass) {
+    this.entityManager = entityManager;
+    this.domainClass = domainClass;
+  }
+
+  /**
+   * Returns the plan estimated by the database: {@code EXPLAIN SELECT ...}.
+   *
+   * @param spec can be {@literal null}.
+   */
+  public QueryPlan explain(@Nullable final Specification<T> spec) {
+    return capture(spec, "EXPLAIN ");
+  }
+
+  /**
+   * Returns the plan with the actual execution statistics: {@code EXPLAIN ANALYZE SELECT ...}.
+   *
+   * @param spec can be {@literal null}.
+   */
+  public QueryPlan explainAnalyze(@Nullable final Specification<T> spec) {
+    return capture(spec, "EXPLAIN ANALYZE ");
+  }
+
+  @SuppressWarnings("PMD.CloseResource") // the session of the entity manager
+  private QueryPlan capture(@Nullable final Specification<T> spec, final String explain) {
+    final Session session = entityManager.unwrap(Session.class);
+    return session.doReturningWork(
+        connection -> {
+          final Recorder recorder =
+              new Recorder(connection, new AtomicReference<>(""), new TreeMap<>());
+          execute(session, recorder.proxy(Connection.class), spec);
+          final List<Object> binds = new ArrayList<>(recorder.binds.values());
+          return executeExplain(connection, explain, recorder.sql.get(), binds);
+        });
+  }
+
+  private void execute(
+      final Session session, final Connection connection, @Nullable final Specification<T> spec) {
+    try (StatelessSession stateless =
+        session
+            .getSessionFactory()
+            .withStatelessOptions()
+            .connection(connection)
+            .openStatelessSession()) {
+      final CriteriaBuilder builder = stateless.getCriteriaBuilder();
+      final CriteriaQuery<T> query = builder.createQuery(domainClass);
+      query.select(SpecificationQueryUtils.applySpecification(spec, domainClass, query, builder));
+      stateless.createQuery(query).getResultList();
+    }
+  }
+
+  private static QueryPlan executeExplain(
+      final Connection connection,
+      final String explain,
+      final String sql,
+      final List<Object> binds)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(explain + sql)) {
+      for (int i = 0; i < binds.size(); i++) {
+        statement.setObject(i + 1, binds.get(i));
+      }
+      final List<String> lines = new ArrayList<>();
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          lines.add(resultSet.getString(1));
+        }
+      }
+      return QueryPlan.of(sql, binds, lines);
+    }
+  }
+
+  /**
+   * Forwards the calls of a JDBC proxy to the target, recording the SQL and the binds of the first
+   * prepared statement, i.e. the query without the loads of eager associations.
+   */
+  private static final class Recorder implements InvocationHandler {
+
+    private final Object target;
+    private final AtomicReference<String> sql;
+    private final Map<Integer, Object> binds;
+
+    Recorder(
+        final Object target,
+        final AtomicReference<String> sql,
+        final Map<Integer, Object> binds) {
+      this.target = target;
+      this.sql = sql;
+      this.binds = binds;
+    }
+
+    <P> P proxy(final Class<P> type) {
+      final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      return type.cast(Proxy.newProxyInstance(classLoader, new Class<?>[] {type}, this));
+    }
+
+    @Override
+    public @Nullable Object invoke(
+        final Object proxy, final Method method, final Object @Nullable [] args) throws Throwable {
+      if (target instanceof PreparedStatement && "executeQuery".equals(method.getName())) {
+        return emptyResultSet();
+      }
+      final Object result;
+      try {
+        result = method.invoke(target, args);
+      } catch (final InvocationTargetException e) {
+        throw e.getCause();
+      }
+      if (result instanceof PreparedStatement statement && sql.get().isEmpty()) {
+        sql.set((String) args[0]);
+        return new Recorder(statement, sql, binds).proxy(PreparedStatement.class);
+      }
+      // Criteria queries render null values as literals, so a bind is never null.
+      if (target instanceof PreparedStatement && isBind(method)) {
+        binds.put((Integer) args[0], args[1]);
+      }
+      return result;
+    }
+
+    /**
+     * Whether the method binds a parameter: {@code setXxx(int parameterIndex, ...)} of {@link
+     * PreparedStatement}, e.g. {@code setString(1, "value")}.
+     */
+    private static boolean isBind(final Method method) {
+      return method.getName().startsWith("set")
+          && method.getParameterCount() > 1
+          && method.getParameterTypes()[0] == int.class;
+    }
+
+    /** Returns a result set without rows, so that the recorded statement is never executed. */
+    private static ResultSet emptyResultSet() {
+      final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      return (ResultSet)
+          Proxy.newProxyInstance(
+              classLoader,
+              new Class<?>[] {ResultSet.class},
+              (proxy, method, args) -> defaultValue(method.getReturnType()));
+    }
+
+    /** Returns {@code false}, zero or {@literal null}, e.g. no next row of the result set. */
+    private static @Nullable Object defaultValue(final Class<?> type) {
+      return type.isPrimitive() && type != void.class
+          ? Array.get(Array.newInstance(type, 1), 0)
+          : null;
+    }
+  }
+}
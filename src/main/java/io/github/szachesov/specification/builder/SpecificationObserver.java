@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Observer of building and executing specifications, e.g. for metrics or profiling.
+ *
+ * <p>Observers are registered with {@link SpecificationObservers#register(SpecificationObserver)}
+ * and called on the hot path from any thread, so they must be thread-safe, fast and must not
+ * throw.
+ */
+public interface SpecificationObserver {
+
+  /**
+   * Called after {@link SpecificationBuilder#build()}.
+   *
+   * @param spec the built specification.
+   * @param nanos elapsed time in nanoseconds.
+   */
+  default void onBuild(final BuiltSpecification<?> spec, final long nanos) {
+    // nothing by default
+  }
+
+  /**
+   * Called after a predicate has been created by {@link
+   * CompositeSpecification#toPredicate(jakarta.persistence.criteria.Root,
+   * jakarta.persistence.criteria.CriteriaQuery, jakarta.persistence.criteria.CriteriaBuilder)}.
+   *
+   * @param spec the specification of the predicate.
+   * @param nanos elapsed time in nanoseconds, including the path resolution.
+   */
+  default void onPredicate(final CompositeSpecification<?, ?> spec, final long nanos) {
+    // nothing by default
+  }
+
+  /**
+   * Called after the path of a predicate has been resolved.
+   *
+   * @param spec the specification of the predicate.
+   * @param joins number of joins traversed by the path.
+   * @param nanos elapsed time in nanoseconds.
+   */
+  default void onPath(final CompositeSpecification<?, ?> spec, final int joins, final long nanos) {
+    // nothing by default
+  }
+
+  /**
+   * Called after a query of the specification has been executed.
+   *
+   * @param spec the executed specification, can be {@literal null}.
+   * @param nanos elapsed time in nanoseconds.
+   */
+  default void onQuery(@Nullable final Specification<?> spec, final long nanos) {
+    // nothing by default
+  }
+
+  /**
+   * Called after a query of the specification has been executed when the type of the root is
+   * known, i.e. by the executors and {@link SpecificationObservers#observeQuery(Class,
+   * Specification, java.util.function.Supplier)}. Calls {@link #onQuery(Specification, long)} by
+   * default.
+   *
+   * @param domainClass the type of the root.
+   * @param spec the executed specification, can be {@literal null}.
+   * @param nanos elapsed time in nanoseconds.
+   */
+  default void onQuery(
+      final Class<?> domainClass, @Nullable final Specification<?> spec, final long nanos) {
+    onQuery(spec, nanos);
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Registry of the {@link SpecificationObserver}s notified by all specifications.
+ *
+ * <p>Observers are kept in a copy-on-write array, so a notification only reads a volatile
+ * reference. Without observers no time is measured and nothing is allocated.
+ */
+@UtilityClass
+public class SpecificationObservers {
+
+  /** The start time returned when no observer is registered. */
+  private static final long DISABLED = Long.MIN_VALUE;
+
+  private static final AtomicReference<SpecificationObserver[]> OBSERVERS =
+      new AtomicReference<>(new SpecificationObserver[0]);
+
+  /**
+   * Registers an observer.
+   *
+   * @param observer the observer to notify.
+   */
+  public static void register(final SpecificationObserver observer) {
+    OBSERVERS.updateAndGet(
+        observers -> {
+          final SpecificationObserver[] result = Arrays.copyOf(observers, observers.length + 1);
+          result[observers.length] = observer;
+          return result;
+        });
+  }
+
+  /**
+   * Unregisters an observer.
+   *
+   * @param observer the registered observer.
+   */
+  public static void unregister(final SpecificationObserver observer) {
+    OBSERVERS.updateAndGet(
+        observers ->
+            Arrays.stream(observers)
+                .filter(o -> !o.equals(observer))
+                .toArray(SpecificationObserver[]::new));
+  }
+
+  /**
+   * Executes a query of the specification, e.g. a repository call, notifying the observers.
+   *
+   * <p>Example: {@code observeQuery(spec, () -> repository.findAll(spec, pageable))}
+   *
+   * @param spec the executed specification, can be {@literal null}.
+   * @param query the query.
+   * @param <R> the type of the query result.
+   */
+  public static <R> R observeQuery(
+      @Nullable final Specification<?> spec, final Supplier<R> query) {
+    final long start = start();
+    final R result = query.get();
+    query(null, spec, start);
+    return result;
+  }
+
+  /**
+   * Executes a query of the specification, e.g. a repository call, notifying the observers with
+   * the type of the root.
+   *
+   * <p>Example: {@code observeQuery(User.class, spec, () -> repository.findAll(spec))}
+   *
+   * @param domainClass the type of the root.
+   * @param spec the executed specification, can be {@literal null}.
+   * @param query the query.
+   * @param <T> the type of the root.
+   * @param <R> the type of the query result.
+   */
+  public static <T, R> R observeQuery(
+      final Class<T> domainClass, @Nullable final Specification<T> spec, final Supplier<R> query) {
+    final long start = start();
+    final R result = query.get();
+    query(domainClass, spec, start);
+    return result;
+  }
+
+  /** Returns the start time of a measurement. */
+  static long start() {
+    return OBSERVERS.get().length == 0 ? DISABLED : System.nanoTime();
+  }
+
+  static void build(final BuiltSpecification<?> spec, final long start) {
+    if (start == DISABLED) return;
+    final long nanos = System.nanoTime() - start;
+    for (final SpecificationObserver observer : OBSERVERS.get()) {
+      observer.onBuild(spec, nanos);
+    }
+  }
+
+  static void predicate(final CompositeSpecification<?, ?> spec, final long start) {
+    if (start == DISABLED) return;
+    final long nanos = System.nanoTime() - start;
+    for (final SpecificationObserver observer : OBSERVERS.get()) {
+      observer.onPredicate(spec, nanos);
+    }
+  }
+
+  static void path(final CompositeSpecification<?, ?> spec, final int joins, final long start) {
+    if (start == DISABLED) return;
+    final long nanos = System.nanoTime() - start;
+    for (final SpecificationObserver observer : OBSERVERS.get()) {
+      observer.onPath(spec, joins, nanos);
+    }
+  }
+
+  /**
+   * Notifies the observers of an executed query.
+   *
+   * @param domainClass the type of the root, {@literal null} if unknown.
+   */
+  static void query(
+      @Nullable final Class<?> domainClass,
+      @Nullable final Specification<?> spec,
+      final long start) {
+    if (start == DISABLED) return;
+    final long nanos = System.nanoTime() - start;
+    for (final SpecificationObserver observer : OBSERVERS.get()) {
+      if (domainClass == null) {
+        observer.onQuery(spec, nanos);
+      } else {
+        observer.onQuery(domainClass, spec, nanos);
+      }
+    }
+  }
+}
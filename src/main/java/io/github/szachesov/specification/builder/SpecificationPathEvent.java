@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event of resolving the path of a {@link CompositeSpecification}. */
+@Name("io.github.szachesov.specification.Path")
+@Label("Specification Path")
+@Category({"Spring Data", "Specification Builder"})
+@Description("Resolution of a property path, hop by hop from the root.")
+@Enabled(false)
+@StackTrace(false)
+final class SpecificationPathEvent extends Event {
+
+  private static final EventType EVENT_TYPE = EventType.getEventType(SpecificationPathEvent.class);
+
+  /** Placeholder returned while the event is disabled, it is never committed. */
+  private static final SpecificationPathEvent DISABLED = new SpecificationPathEvent();
+
+  @Label("Path")
+  @Description("Property path, joins separated by a dot.")
+  String path;
+
+  @Label("Hops")
+  @Description("Number of joins traversed by the path.")
+  int hops;
+
+  @Label("Reused Joins")
+  @Description("Number of traversed joins already present in the query.")
+  int reusedJoins;
+
+  /** Creates the event and starts its timing, unless the event is disabled. */
+  static SpecificationPathEvent start() {
+    if (!EVENT_TYPE.isEnabled()) return DISABLED;
+
+    final SpecificationPathEvent event = new SpecificationPathEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends the timing and commits the event if it is enabled.
+   *
+   * @param spec the specification of the path.
+   * @param hops number of joins traversed by the path.
+   * @param reusedJoins number of traversed joins already present in the query.
+   */
+  void complete(final CompositeSpecification<?, ?> spec, final int hops, final int reusedJoins) {
+    if (this == DISABLED) return;
+
+    end();
+    if (shouldCommit()) {
+      this.path = spec.getColumnPath();
+      this.hops = hops;
+      this.reusedJoins = reusedJoins;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.Root;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event of creating the predicate of a {@link CompositeSpecification}. */
+@Name("io.github.szachesov.specification.Predicate")
+@Label("Specification Predicate")
+@Category({"Spring Data", "Specification Builder"})
+@Description("Creation of a criteria predicate, including the path resolution.")
+@Enabled(false)
+@StackTrace(false)
+final class SpecificationPredicateEvent extends Event {
+
+  private static final EventType EVENT_TYPE =
+      EventType.getEventType(SpecificationPredicateEvent.class);
+
+  /** Placeholder returned while the event is disabled, it is never committed. */
+  private static final SpecificationPredicateEvent DISABLED = new SpecificationPredicateEvent();
+
+  @Label("Path")
+  @Description("Property path, joins separated by a dot.")
+  String path;
+
+  @Label("Operator")
+  String operator;
+
+  @Label("Joins")
+  @Description("Number of joins traversed by the path.")
+  int joins;
+
+  @Label("Fetch")
+  boolean fetch;
+
+  /** Creates the event and starts its timing, unless the event is disabled. */
+  static SpecificationPredicateEvent start() {
+    if (!EVENT_TYPE.isEnabled()) return DISABLED;
+
+    final SpecificationPredicateEvent event = new SpecificationPredicateEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends the timing and commits the event if it is enabled.
+   *
+   * @param spec the specification of the predicate.
+   * @param root root of the query.
+   * @param fetch whether the joins of the path are fetched.
+   */
+  void complete(final CompositeSpecification<?, ?> spec, final Root<?> root, final boolean fetch) {
+    if (this == DISABLED) return;
+
+    end();
+    if (shouldCommit()) {
+      this.path = spec.getColumnPath();
+      this.operator = spec.getOperator();
+      this.joins = SpecificationQueryUtils.getAssociations(root.getModel(), path).size();
+      this.fetch = fetch;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.Query;
+import jakarta.persistence.QueryTimeoutException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.FetchParent;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.UtilityClass;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Helpers for applying a {@link Specification} to criteria queries of the executors. */
+@UtilityClass
+class SpecificationQueryUtils {
+
+  /**
+   * Creates the root of the query and applies the specification to it.
+   *
+   * @param spec can be {@literal null}.
+   * @param domainClass the type of the {@link Root}.
+   * @param query the query to which the predicate is applied.
+   * @param builder criteria builder of the query.
+   */
+  static <T> Root<T> applySpecification(
+      @Nullable final Specification<T> spec,
+      final Class<T> domainClass,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder builder) {
+    final Root<T> root = query.from(domainClass);
+    if (spec == null) return root;
+
+    final Predicate predicate = spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return root;
+  }
+
+  /**
+   * Passes the label of a {@link BuiltSpecification} to the query as an SQL comment.
+   *
+   * @param spec can be {@literal null}.
+   * @param query the query of the specification.
+   */
+  static <Q extends Query> Q comment(@Nullable final Specification<?> spec, final Q query) {
+    if (spec instanceof BuiltSpecification<?> built) {
+      query.setHint(HibernateHints.HINT_COMMENT, built.getLabel());
+    }
+    return query;
+  }
+
+  /**
+   * Limits the query by the query timeout to the time remaining until the deadline, rounded up to
+   * whole seconds of the JDBC query timeout.
+   *
+   * @param deadline {@link System#nanoTime()} by which the query ends.
+   * @param query the query.
+   * @throws QueryTimeoutException if the deadline has passed.
+   */
+  static <Q extends Query> Q timeout(final long deadline, final Q query) {
+    final long remaining = deadline - System.nanoTime();
+    if (remaining <= 0) throw new QueryTimeoutException("The deadline of the query has passed");
+    final long seconds = TimeUnit.NANOSECONDS.toSeconds(remaining - 1) + 1;
+    final long millis = TimeUnit.SECONDS.toMillis(seconds);
+    query.setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, (int) Math.min(millis, Integer.MAX_VALUE));
+    return query;
+  }
+
+  /** Whether a plural attribute is fetched anywhere below the given parent. */
+  static boolean hasCollectionFetch(final FetchParent<?, ?> parent) {
+    for (final Fetch<?, ?> fetch : parent.getFetches()) {
+      if (fetch.getAttribute().isCollection() || hasCollectionFetch(fetch)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the leading associations of the property path, i.e. the joins traversed by the path.
+   *
+   * @param root metamodel type of the root.
+   * @param path property path, joins separated by a dot, empty for a subquery predicate.
+   */
+  static List<Attribute<?, ?>> getAssociations(final ManagedType<?> root, final String path) {
+    if (path.isEmpty()) return List.of();
+
+    final List<Attribute<?, ?>> associations = new ArrayList<>();
+    ManagedType<?> type = root;
+    for (final String column : path.split("\\.")) {
+      final Attribute<?, ?> attribute = type.getAttribute(column);
+      if (!attribute.isAssociation() && !attribute.isCollection()) break;
+
+      associations.add(attribute);
+      if (!(getTargetType(attribute) instanceof ManagedType<?> managed)) break;
+      type = managed;
+    }
+    return associations;
+  }
+
+  /** Returns the type of the attribute, the element type for a collection. */
+  static Type<?> getTargetType(final Attribute<?, ?> attribute) {
+    return attribute instanceof PluralAttribute<?, ?, ?> plural
+        ? plural.getElementType()
+        : ((SingularAttribute<?, ?>) attribute).getType();
+  }
+}
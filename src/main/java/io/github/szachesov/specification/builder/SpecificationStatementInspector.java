@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.io.Serial;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} keeping the last SQL statements prepared by the current
+ * thread, so that an observer can report the SQL of a query, see {@link SlowSpecificationLogger}.
+ *
+ * <p>Registered by its class name with the {@code hibernate.session_factory.statement_inspector}
+ * property, in Spring Boot: {@code spring.jpa.properties.hibernate.session_factory
+ * .statement_inspector}. The SQL is returned unchanged.
+ */
+public class SpecificationStatementInspector implements StatementInspector {
+
+  /** The maximum number of statements kept per thread. */
+  public static final int MAX_STATEMENTS = 32;
+
+  @Serial private static final long serialVersionUID = -1180530316893410465L;
+
+  private static final ThreadLocal<Deque<Statement>> STATEMENTS =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  @Override
+  public String inspect(final String sql) {
+    final Deque<Statement> statements = STATEMENTS.get();
+    if (statements.size() == MAX_STATEMENTS) {
+      statements.removeFirst();
+    }
+    statements.addLast(new Statement(System.nanoTime(), sql));
+    return sql;
+  }
+
+  /**
+   * Returns the statements prepared by the current thread since the given time.
+   *
+   * @param since {@link System#nanoTime()} of the start of the query.
+   */
+  static List<String> getStatements(final long since) {
+    return STATEMENTS.get().stream()
+        .filter(s -> s.nanos() - since >= 0)
+        .map(Statement::sql)
+        .toList();
+  }
+
+  private record Statement(long nanos, String sql) {}
+}
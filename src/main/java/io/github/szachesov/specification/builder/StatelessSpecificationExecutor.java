@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.Query;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
+
+/**
+ * Executor of a {@link Specification} through a Hibernate {@link StatelessSession}.
+ *
+ * <p>Intended for read-only paths (reports, exports): entities are returned detached, without a
+ * persistence context, dirty checking and first-level caching. Lazy associations that are not
+ * fetched by the specification remain uninitialized.
+ *
+ * <p>The queries of a {@link BuiltSpecification} carry its {@link BuiltSpecification#getLabel()}
+ * as an SQL comment, written to the SQL with {@code hibernate.use_sql_comments=true}.
+ *
+ * @param <T> the type of the {@link Root} the {@literal Specification} operates on.
+ */
+public class StatelessSpecificationExecutor<T> {
+
+  /** The default number of rows fetched from the database per round trip when streaming. */
+  public static final int DEFAULT_FETCH_SIZE = 1000;
+
+  private final SessionFactory sessionFactory;
+  private final Class<T> domainClass;
+
+  /**
+   * Creates an executor.
+   *
+   * @param entityManagerFactory factory of the Hibernate persistence unit.
+   * @param domainClass the type of the {@link Root}.
+   */
+  public StatelessSpecificationExecutor(
+      final EntityManagerFactory entityManagerFactory, final Class<T> domainClass) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    this.domainClass = domainClass;
+  }
+
+  /**
+   * Returns all entities matching the given {@link Specification}.
+   *
+   * @param spec can be {@literal null}.
+   */
+  public List<T> findAll(@Nullable final Specification<T> spec) {
+    return findAll(spec, Sort.unsorted(), Limit.unlimited());
+  }
+
+  /**
+   * Returns all entities matching the given {@link Specification} in the given order.
+   *
+   * @param spec can be {@literal null}.
+   * @param sort sort order of the result.
+   */
+  public List<T> findAll(@Nullable final Specification<T> spec, final Sort sort) {
+    return findAll(spec, sort, Limit.unlimited());
+  }
+
+  /**
+   * Returns the first entities matching the given {@link Specification} in the given order.
+   *
+   * <p>Example: {@code ... ORDER BY column LIMIT 10}
+   *
+   * @param spec can be {@literal null}.
+   * @param sort sort order of the result.
+   * @param limit maximum number of entities.
+   */
+  public List<T> findAll(
+      @Nullable final Specification<T> spec, final Sort sort, final Limit limit) {
+    final long start = SpecificationObservers.start();
+    try (StatelessSession session = sessionFactory.openStatelessSession()) {
+      final Query<T> query = createQuery(session, spec, sort);
+      if (limit.isLimited()) {
+        query.setMaxResults(limit.max());
+      }
+      final List<T> result = query.getResultList();
+      SpecificationObservers.query(domainClass, spec, start);
+      return result;
+    }
+  }
+
+  /**
+   * Returns the projections of all entities matching the given {@link Specification}. The
+   * projection is instantiated through the constructor whose parameters match the columns.
+   *
+   * <p>Example: {@code SELECT column_1, table_join.column_2 FROM ... LEFT JOIN table_join ...}
+   *
+   * @param spec can be {@literal null}.
+   * @param projection the type of the result, e.g. a record.
+   * @param columns property paths of the projection in constructor order, joins separated by a
+   *     dot.
+   * @param <R> the type of the result.
+   */
+  public <R> List<R> findAll(
+      @Nullable final Specification<T> spec,
+      final Class<R> projection,
+      final List<String> columns) {
+    final long start = SpecificationObservers.start();
+    try (StatelessSession session = sessionFactory.openStatelessSession()) {
+      final CriteriaBuilder builder = session.getCriteriaBuilder();
+      final CriteriaQuery<R> query = builder.createQuery(projection);
+      final Root<T> root =
+          SpecificationQueryUtils.applySpecification(spec, domainClass, query, builder);
+
+      final Selection<?>[] selections =
+          columns.stream()
+              .map(c -> PropertyPath.from(c, domainClass))
+              .map(p -> QueryUtils.toExpressionRecursively(root, p, true))
+              .toArray(Selection<?>[]::new);
+      query.select(builder.construct(projection, selections));
+
+      final List<R> result =
+          SpecificationQueryUtils.comment(spec, session.createQuery(query)).getResultList();
+      SpecificationObservers.query(domainClass, spec, start);
+      return result;
+    }
+  }
+
+  /**
+   * Returns a lazily fetched stream of entities matching the given {@link Specification}.
+   *
+   * <p>The stream holds an open session and a database cursor, it must be closed by the caller:
+   * {@code try (Stream<T> stream = executor.stream(spec, sort)) {...}}
+   *
+   * @param spec can be {@literal null}.
+   * @param sort sort order of the result.
+   */
+  public Stream<T> stream(@Nullable final Specification<T> spec, final Sort sort) {
+    return stream(spec, sort, DEFAULT_FETCH_SIZE);
+  }
+
+  /**
+   * Returns a lazily fetched stream of entities matching the given {@link Specification}.
+   *
+   * <p>The stream holds an open session and a database cursor, it must be closed by the caller:
+   * {@code try (Stream<T> stream = executor.stream(spec, sort, 500)) {...}}. Closing the stream
+   * rolls back the transaction of the cursor and closes the session.
+   *
+   * @param spec can be {@literal null}.
+   * @param sort sort order of the result.
+   * @param fetchSize number of rows fetched from the database per round trip.
+   */
+  @SuppressWarnings("PMD.UseTryWithResources") // closed with the stream
+  public Stream<T> stream(
+      @Nullable final Specification<T> spec, final Sort sort, final int fetchSize) {
+    final StatelessSession session = sessionFactory.openStatelessSession();
+    boolean isOpened = false;
+    try {
+      // Some drivers (PostgreSQL) only use a cursor inside a transaction.
+      final Transaction transaction = session.beginTransaction();
+      final Stream<T> stream =
+          createQuery(session, spec, sort)
+              .setFetchSize(fetchSize)
+              .getResultStream()
+              .onClose(
+                  () -> {
+                    try {
+                      // the cursor only reads, there is nothing to commit
+                      transaction.rollback();
+                    } finally {
+                      session.close();
+                    }
+                  });
+      isOpened = true;
+      return stream;
+    } finally {
+      if (!isOpened) {
+        session.close();
+      }
+    }
+  }
+
+  private Query<T> createQuery(
+      final StatelessSession session, @Nullable final Specification<T> spec, final Sort sort) {
+    final CriteriaBuilder builder = session.getCriteriaBuilder();
+    final CriteriaQuery<T> query = builder.createQuery(domainClass);
+    final Root<T> root =
+        SpecificationQueryUtils.applySpecification(spec, domainClass, query, builder);
+    query.select(root);
+    if (sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, root, builder));
+    }
+    return SpecificationQueryUtils.comment(spec, session.createQuery(query));
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A typed property path of a string attribute, see {@link AttributePath}.
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ */
+public class StringAttributePath<T> extends ComparableAttributePath<T, String> {
+
+  StringAttributePath(
+      final List<String> columns,
+      final List<AttributeKind> kinds,
+      final List<Attribute<?, ?>> attributes) {
+    super(columns, kinds, attributes);
+  }
+
+  /**
+   * Contains a character pattern, case-insensitive, see {@link
+   * SpecificationBuilder#like(AttributePath, String)}.
+   *
+   * @param value value of predicate.
+   */
+  public @Nullable BuiltSpecification<T> like(@Nullable final String value) {
+    return like(value, Wildcard.ABSENCE);
+  }
+
+  /**
+   * Contains a character pattern, case-insensitive, see {@link
+   * SpecificationBuilder#like(AttributePath, String)}.
+   *
+   * @param value value of predicate.
+   * @param wildcard the location of the SQL wildcard.
+   */
+  public @Nullable BuiltSpecification<T> like(
+      @Nullable final String value, final Wildcard wildcard) {
+    return build(b -> b.like(this, value, s -> s.wildcard(wildcard)));
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.Attribute;
+import java.io.Serial;
+import java.util.List;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Predicate of a subquery on another entity (EXISTS, IN).
+ *
+ * <p>The predicates of the subquery are built by a nested {@link SpecificationBuilder} and applied
+ * to the {@link Root} of the {@link Subquery}, their fetch joins are replaced with plain joins.
+ * Subqueries cannot be nested in a subquery.
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ * @param <S> the type of the {@link Root} of the subquery.
+ */
+public class SubquerySpecification<T, S> extends CompositeSpecification<T, Object> {
+
+  @Serial private static final long serialVersionUID = -2309581717207536283L;
+
+  private final Class<S> entityClass;
+  private final String subqueryColumn;
+  private final @Nullable BuiltSpecification<S> spec;
+  private final boolean isExists;
+
+  private SubquerySpecification(final Builder<T, S> builder) {
+    super(builder);
+    this.entityClass = builder.entityClass;
+    this.subqueryColumn = builder.subqueryColumn;
+    this.spec = builder.spec;
+    this.isExists = builder.isExists;
+  }
+
+  /**
+   * Creates an EXISTS predicate correlated with the root.
+   *
+   * @param entityClass the entity of the subquery.
+   * @param column property path of the subquery entity referencing the root.
+   * @param subquery function of the builder of the subquery predicates.
+   * @param isNot whether the predicate is NOT EXISTS.
+   */
+  static <T, S> SubquerySpecification<T, S> exists(
+      final Class<S> entityClass,
+      final String column,
+      final Function<SpecificationBuilder<S>, SpecificationBuilder<S>> subquery,
+      final boolean isNot) {
+    final Builder<T, S> builder = new Builder<>(List.of(), entityClass, column, subquery);
+    return (isNot ? builder.not() : builder).exists().build();
+  }
+
+  /**
+   * Creates an IN predicate of the column of the root.
+   *
+   * @param columns the column of the root, join column names are listed before the target one.
+   * @param entityClass the entity of the subquery.
+   * @param subqueryColumn property path of the subquery entity to select.
+   * @param subquery function of the builder of the subquery predicates.
+   */
+  static <T, S> SubquerySpecification<T, S> in(
+      final List<String> columns,
+      final Class<S> entityClass,
+      final String subqueryColumn,
+      final Function<SpecificationBuilder<S>, SpecificationBuilder<S>> subquery) {
+    return new Builder<T, S>(columns, entityClass, subqueryColumn, subquery).build();
+  }
+
+  @Override
+  String getOperator() {
+    final String from = " FROM " + entityClass.getSimpleName();
+    final String shape = spec == null ? null : spec.getShape();
+    if (isExists) {
+      final String where = shape == null ? "" : " AND (" + shape + ")";
+      return "EXISTS (SELECT 1" + from + " WHERE " + subqueryColumn + " = root" + where + ")";
+    }
+    final String where = shape == null ? "" : " WHERE " + shape;
+    return "IN (SELECT " + subqueryColumn + from + where + ")";
+  }
+
+  /** An EXISTS predicate is correlated with the root itself, it has no column. */
+  @Override
+  String getShape() {
+    return isExists ? (isNot ? "NOT " : "") + getOperator() : super.getShape();
+  }
+
+  @Override
+  Predicate toCriteriaPredicate(
+      final Root<T> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder criteriaBuilder,
+      final boolean fetch) {
+    if (query == null) {
+      throw new IllegalArgumentException(
+          "A subquery of " + entityClass.getSimpleName() + " requires a CriteriaQuery");
+    }
+    final Predicate predicate =
+        isExists
+            ? toExists(root, query, criteriaBuilder, fetch)
+            : toIn(root, query, criteriaBuilder, fetch);
+    return isNot ? criteriaBuilder.not(predicate) : predicate;
+  }
+
+  private Predicate toExists(
+      final Root<T> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder criteriaBuilder,
+      final boolean fetch) {
+    final Subquery<Integer> subquery = query.subquery(Integer.class);
+    final Root<S> subqueryRoot = subquery.from(entityClass);
+    final Predicate correlation =
+        criteriaBuilder.equal(getSubqueryPath(subqueryRoot), getPath(root, fetch));
+    final Predicate filter = getFilter(subqueryRoot, criteriaBuilder);
+    subquery
+        .select(criteriaBuilder.literal(1))
+        .where(filter == null ? correlation : criteriaBuilder.and(correlation, filter));
+    return criteriaBuilder.exists(subquery);
+  }
+
+  private Predicate toIn(
+      final Root<T> root,
+      final CriteriaQuery<?> query,
+      final CriteriaBuilder criteriaBuilder,
+      final boolean fetch) {
+    final Path<Object> path = getPath(root, fetch);
+    return path.in(select(query.subquery(path.getJavaType()), criteriaBuilder));
+  }
+
+  /** Selects the column of the subquery, typed as the compared column of the root. */
+  private <V> Subquery<V> select(
+      final Subquery<V> subquery, final CriteriaBuilder criteriaBuilder) {
+    final Root<S> subqueryRoot = subquery.from(entityClass);
+    subquery.select(getSubqueryPath(subqueryRoot));
+    final Predicate filter = getFilter(subqueryRoot, criteriaBuilder);
+    if (filter != null) {
+      subquery.where(filter);
+    }
+    return subquery;
+  }
+
+  /**
+   * Returns the column of the subquery: collections are joined, the other attributes are
+   * navigated, so a foreign key column is read without joining the referenced table.
+   */
+  @SuppressWarnings("unchecked")
+  private <V> Expression<V> getSubqueryPath(final Root<S> subqueryRoot) {
+    final String[] columns = subqueryColumn.split("\\.");
+    final List<Attribute<?, ?>> associations =
+        SpecificationQueryUtils.getAssociations(subqueryRoot.getModel(), subqueryColumn);
+    int lastCollection = -1;
+    for (int i = 0; i < associations.size(); i++) {
+      if (associations.get(i).isCollection()) {
+        lastCollection = i;
+      }
+    }
+    Path<?> path = subqueryRoot;
+    for (int i = 0; i < columns.length; i++) {
+      path = i <= lastCollection ? ((From<?, ?>) path).join(columns[i]) : path.get(columns[i]);
+    }
+    return (Expression<V>) path;
+  }
+
+  private @Nullable Predicate getFilter(
+      final Root<S> subqueryRoot, final CriteriaBuilder criteriaBuilder) {
+    return spec == null ? null : spec.toPredicate(subqueryRoot, null, criteriaBuilder);
+  }
+
+  /**
+   * Builder for {@link SubquerySpecification}.
+   *
+   * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+   * @param <S> the type of the {@link Root} of the subquery.
+   */
+  public static class Builder<T, S> extends CompositeSpecification.Builder<Builder<T, S>>
+      implements ObjectBuilder<SubquerySpecification<T, S>> {
+
+    private final Class<S> entityClass;
+    private final String subqueryColumn;
+    private final @Nullable BuiltSpecification<S> spec;
+    private boolean isExists;
+
+    Builder(
+        final List<String> columns,
+        final Class<S> entityClass,
+        final String subqueryColumn,
+        final Function<SpecificationBuilder<S>, SpecificationBuilder<S>> subquery) {
+      super(columns);
+      this.entityClass = entityClass;
+      this.subqueryColumn = subqueryColumn;
+      final BuiltSpecification<S> built =
+          subquery.apply(SpecificationBuilder.builder()).buildPart();
+      this.spec = built == null ? null : built.withoutFetch(built.getFetchColumnPaths());
+    }
+
+    /** Checks the existence of a row of the subquery instead of comparing the column with it. */
+    Builder<T, S> exists() {
+      this.isExists = true;
+      return this;
+    }
+
+    @Override
+    public SubquerySpecification<T, S> build() {
+      return new SubquerySpecification<>(this);
+    }
+
+    @Override
+    protected Builder<T, S> self() {
+      return this;
+    }
+  }
+}
@@ -18,6 +18,7 @@
 package io.github.szachesov.specification.builder;
 
 import java.util.function.Function;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -25,11 +26,16 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum Wildcard {
-  ABSENCE("s", v -> v),
-  LEADING("%s", v -> "%" + v),
-  ENDING("s%", v -> v + "%"),
-  MULTIPLE("%s%", v -> "%" + v + "%");
+  ABSENCE("s", "?", v -> v),
+  LEADING("%s", "%?", v -> "%" + v),
+  ENDING("s%", "?%", v -> v + "%"),
+  MULTIPLE("%s%", "%?%", v -> "%" + v + "%");
 
   private final String description;
+
+  /** The pattern with a placeholder instead of the value, part of the shape of a predicate. */
+  @Getter(AccessLevel.PACKAGE)
+  private final String shape;
+
   private final Function<String, String> withWildcard;
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class AggregationExecutorTest extends SpecificationBuilderTest {
+
+  private static final String AUTHOR = DbUtils.joinPath(Post_.AUTHOR, User_.USERNAME);
+
+  @Autowired private EntityManager entityManager;
+
+  private AggregationExecutor<Post> postExecutor;
+
+  @BeforeEach
+  void setUp() {
+    postExecutor = new AggregationExecutor<>(entityManager, Post.class);
+  }
+
+  @Test
+  void aggregate_getGroups_byFilterOfRating() {
+    final BuiltSpecification<Post> spec =
+        SpecificationBuilder.<Post>builder().min(Post_.RATING, new BigDecimal("3.7")).build();
+    final Aggregation aggregation =
+        Aggregation.builder()
+            .groupBy(AUTHOR)
+            .count("posts")
+            .aggregate("words", AggregateFunction.SUM, Post_.WORD_COUNT)
+            .aggregate("maxWords", AggregateFunction.MAX, Post_.WORD_COUNT)
+            .aggregate("firstTitle", AggregateFunction.MIN, Post_.TITLE)
+            .build();
+
+    final List<Tuple> tuples =
+        capture(() -> postExecutor.aggregate(spec, aggregation))
+            .expectStatements(1)
+            .expectNotDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(tuples)
+        .extracting(
+            t -> t.get(AUTHOR),
+            t -> t.get("posts"),
+            t -> t.get("words", Number.class).longValue(),
+            t -> t.get("maxWords"),
+            t -> t.get("firstTitle"))
+        .containsExactlyInAnyOrder(
+            tuple(
+                TestConstants.USER_1_USERNAME,
+                2L,
+                47L,
+                TestConstants.WORD_COUNT_POST_2_USER_1,
+                TestConstants.TITLE_POST_2_USER_1),
+            tuple(
+                TestConstants.USER_2_USERNAME,
+                1L,
+                77L,
+                TestConstants.WORD_COUNT_POST_1_USER_2,
+                TestConstants.TITLE_POST_1_USER_2));
+  }
+
+  @Test
+  void aggregate_getFilteredGroups_byHaving() {
+    final Aggregation aggregation =
+        Aggregation.builder()
+            .groupBy(AUTHOR)
+            .aggregate("posts", AggregateFunction.COUNT_DISTINCT, Post_.ID)
+            .aggregate("rating", AggregateFunction.AVG, Post_.RATING)
+            .having(
+                h ->
+                    h.min("posts", 2L)
+                        .max("posts", 2L, Bound.EXCLUSIVE)
+                        .between("rating", 1.0, 100.0)
+                        .equal("posts", null)
+                        .in("posts", List.of())
+                        .in(AUTHOR, List.of(TestConstants.USER_1_USERNAME)))
+            .build();
+
+    final List<Tuple> tuples =
+        capture(() -> postExecutor.aggregate(null, aggregation))
+            .expectStatements(1)
+            .expectRows(0)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(tuples).isEmpty();
+  }
+
+  @Test
+  void aggregate_getGroup_byHavingOfEachOperator() {
+    final Aggregation aggregation =
+        Aggregation.builder()
+            .groupBy(AUTHOR)
+            .count("posts")
+            .having(
+                h ->
+                    h.min("posts", 1L, Bound.EXCLUSIVE)
+                        .max("posts", 2L)
+                        .equal("posts", 2L)
+                        .notEqual(AUTHOR, TestConstants.USER_2_USERNAME))
+            .build();
+
+    final List<Tuple> tuples = postExecutor.aggregate(null, aggregation);
+
+    assertThat(tuples)
+        .singleElement()
+        .satisfies(t -> assertThat(t.get(AUTHOR)).isEqualTo(TestConstants.USER_1_USERNAME));
+  }
+
+  @Test
+  void aggregate_getSingleRow_byAggregateWithoutGroups() {
+    final AggregationExecutor<User> userExecutor =
+        new AggregationExecutor<>(entityManager, User.class);
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .existsIn(Post.class, Post_.AUTHOR, sub -> sub)
+            .label("authors")
+            .build();
+    final Aggregation aggregation = Aggregation.builder().count("users").build();
+    final long start = System.nanoTime();
+
+    final List<Tuple> tuples = userExecutor.aggregate(spec, aggregation);
+
+    assertThat(tuples).singleElement().satisfies(t -> assertThat(t.get("users")).isEqualTo(2L));
+    assertThat(SpecificationStatementInspector.getStatements(start))
+        .singleElement()
+        .satisfies(sql -> assertThat(sql).startsWith("/* authors */ select count(u1_0.id)"));
+  }
+
+  @Test
+  void aggregate_throws_byUnknownAlias() {
+    final Aggregation aggregation =
+        Aggregation.builder().count("posts").having(h -> h.equal("unknown", 1L)).build();
+
+    assertThrows(IllegalArgumentException.class, () -> postExecutor.aggregate(null, aggregation));
+  }
+
+  @Test
+  void build_throws_byEmptyAggregation() {
+    final Aggregation.Builder builder = Aggregation.builder();
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.PostSpecs;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.UserSpecs;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+class AttributePathTest extends SpecificationBuilderTest {
+
+  @Test
+  void min_getResult_byJoinPath() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().add(UserSpecs.posts().wordCount().min(70)).build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_2_USERNAME);
+  }
+
+  @Test
+  void equal_getResult_byElementCollection() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .add(PostSpecs.tags().equal(TestConstants.PROGRAMMING_NAME_TAG))
+            .build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsExactly(TestConstants.TITLE_POST_2_USER_1);
+  }
+
+  @Test
+  void like_getResult_byWildcard() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .add(UserSpecs.username().like("ADMIN", Wildcard.ENDING))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.ADMIN_USERNAME);
+  }
+
+  @Test
+  void add_getResult_byPredicatesOfPaths() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .add(UserSpecs.username().like(TestConstants.USER_1_USERNAME))
+            .add(UserSpecs.phone().isNotNull())
+            .add(UserSpecs.registrationDate().max(TestConstants.USER_1_REGISTRATION_DATE))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void add_getResult_byNegativePredicatesOfPaths() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .add(
+                UserSpecs.username()
+                    .in(List.of(TestConstants.ADMIN_USERNAME, TestConstants.USER_2_USERNAME)))
+            .add(UserSpecs.username().notEqual(TestConstants.ADMIN_USERNAME))
+            .add(UserSpecs.phone().isNull())
+            .add(
+                UserSpecs.registrationDate()
+                    .between(
+                        TestConstants.USER_1_REGISTRATION_DATE,
+                        TestConstants.USER_2_REGISTRATION_DATE))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_2_USERNAME);
+  }
+
+  @Test
+  void add_getNull_byAbsentValue() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().add(UserSpecs.username().equal(null)).build();
+
+    assertThat(spec).isNull();
+  }
+
+  @Test
+  void getColumns_getPropertyPath_byJoins() {
+    final List<String> columns = PostSpecs.author().posts().title().getColumns();
+
+    assertThat(columns).containsExactly("author", "posts", "title");
+  }
+}
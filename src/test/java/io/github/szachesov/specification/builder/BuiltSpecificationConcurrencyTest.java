@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class BuiltSpecificationConcurrencyTest extends SpecificationBuilderTest {
+
+  private static final int THREADS = 16;
+  private static final int TASKS = 64;
+  private static final int QUERIES_PER_TASK = 10;
+
+  /** One specification shared by all threads, as a cached filter. */
+  private static final BuiltSpecification<User> SPEC =
+      SpecificationBuilder.<User>builder()
+          .distinct(false)
+          .like(User_.USERNAME, "USER", b -> b.wildcard(Wildcard.MULTIPLE))
+          .isNull(List.of(User_.POSTS, Post_.TITLE), true, NullSpecification.Builder::not)
+          .build();
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void toPredicate_getSameResult_byConcurrentQueries()
+      throws InterruptedException, ExecutionException {
+    final List<String> expected = findUsernames(1).get(0);
+    final List<Callable<List<List<String>>>> tasks =
+        Collections.nCopies(TASKS, () -> findUsernames(QUERIES_PER_TASK));
+
+    final List<List<String>> results = new ArrayList<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      for (final Future<List<List<String>>> future : executor.invokeAll(tasks)) {
+        results.addAll(future.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(expected)
+        .containsExactly(TestConstants.USER_1_USERNAME, TestConstants.USER_2_USERNAME);
+    assertThat(results).hasSize(TASKS * QUERIES_PER_TASK).containsOnly(expected);
+    assertThat(SPEC.getStructure()).doesNotContain("distinct");
+  }
+
+  /** Applies the shared specification to new criteria queries of a new entity manager. */
+  private List<List<String>> findUsernames(final int queries) {
+    final List<List<String>> result = new ArrayList<>(queries);
+    try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+      final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+      for (int i = 0; i < queries; i++) {
+        final CriteriaQuery<User> query = builder.createQuery(User.class);
+        final Root<User> root = query.from(User.class);
+        query.select(root).where(SPEC.toPredicate(root, query, builder));
+        query.orderBy(builder.asc(root.get(User_.USERNAME)));
+        assertThat(query.isDistinct()).isEqualTo(false);
+        final List<User> users = entityManager.createQuery(query).getResultList();
+        result.add(users.stream().map(User::getUsername).toList());
+      }
+    }
+    return result;
+  }
+}
@@ -26,21 +26,31 @@ import io.github.szachesov.specification.builder.sample.entity.Group;
 import io.github.szachesov.specification.builder.sample.entity.Group_;
 import io.github.szachesov.specification.builder.sample.entity.Post;
 import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.Profile_;
 import io.github.szachesov.specification.builder.sample.entity.User;
 import io.github.szachesov.specification.builder.sample.entity.User_;
 import io.github.szachesov.specification.builder.testutils.DbUtils;
 import io.github.szachesov.specification.builder.testutils.TestConstants;
 import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.JoinType;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 
 class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
 
+  @Autowired private EntityManager entityManager;
+
   @Test
   void distinct_throws_orderJoinColumnWithDistinct() {
     final Specification<User> spec =
@@ -61,7 +71,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
             .build();
 
     final Sort sort = Sort.by(DbUtils.joinPath(User_.POSTS, Post_.TITLE));
-    final List<User> entities = userRepository.findAll(spec, sort);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec, sort))
+            .expectStatements(1)
+            .expectJoins(2)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty();
   }
@@ -83,7 +100,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
             .build();
 
     final EntityGraph eg = DynamicEntityGraph.loading(List.of(User_.POSTS, User_.PROFILE));
-    final List<User> entities = userRepository.findAll(spec, eg);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -105,7 +129,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
         SpecificationBuilder.<User>builder().andInner(innerSpec).isNotNull(User_.POSTS).build();
 
     final EntityGraph eg = DynamicEntityGraph.loading(List.of(User_.POSTS, User_.PROFILE));
-    final List<User> entities = userRepository.findAll(spec, eg);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -127,7 +158,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
         SpecificationBuilder.<User>builder().orInner(innerSpec).isNotNull(User_.POSTS).build();
 
     final EntityGraph eg = DynamicEntityGraph.loading(List.of(User_.POSTS, User_.PROFILE));
-    final List<User> entities = userRepository.findAll(spec, eg);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(4)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -143,7 +181,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
   void emptyAllSpecification_getResult() {
     final Specification<Post> spec = SpecificationBuilder.<Post>builder().build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
@@ -162,7 +207,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
         SpecificationBuilder.<User>builder().orInner(innerSpec).build();
 
     final EntityGraph eg = DynamicEntityGraph.loading(List.of(User_.POSTS, User_.PROFILE));
-    final List<User> entities = userRepository.findAll(spec, eg);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(2)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -180,7 +232,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
         SpecificationBuilder.<Post>builder().equal(Post_.TAGS, value).build();
 
     final EntityGraph eg = DynamicEntityGraph.loading(List.of(Post_.TAGS));
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(2)
+            .expectDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -197,7 +256,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
     final EntityGraph eg =
         DynamicEntityGraph.loading(
             List.of(DbUtils.joinPath(User_.POSTS, Post_.TAGS), User_.PROFILE));
-    final List<User> entities = userRepository.findAll(spec, eg);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(5)
+            .expectDistinct()
+            .expectRows(5)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -223,7 +289,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
             DbUtils.joinPath(Post_.AUTHOR, User_.GROUPS),
             DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE));
     final EntityGraph eg = DynamicEntityGraph.loading(attributePaths);
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(7)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -245,7 +318,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final EntityGraph eg =
         DynamicEntityGraph.loading(List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE)));
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(2)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -260,7 +340,14 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
             .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
             .build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(2)
+            .expectDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -273,8 +360,156 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().isNotNull(List.of(User_.PROFILE)).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(2)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty().extracting(User::getProfile).isNotEmpty();
   }
+
+  @Test
+  void entityGraph_getResult_byEntityGraphRepository() {
+    final BuiltSpecification<User> spec = withPostsEntityGraph();
+
+    final Set<String> paths = spec.getFetchPaths(entityManager, User.class);
+
+    final List<User> entities =
+        userRepository.findAll(spec, DynamicEntityGraph.loading(List.copyOf(paths)));
+
+    assertThat(paths).containsExactly(User_.POSTS);
+    assertThat(entities)
+        .hasSize(2)
+        .extracting(User::getPosts)
+        .allSatisfy(p -> assertThat(Hibernate.isInitialized(p)).isEqualTo(true));
+  }
+
+  @Test
+  void entityGraph_getResult_bySpecificationExecutor() {
+    final BuiltSpecification<User> spec = withPostsEntityGraph();
+
+    final List<User> entities =
+        userRepository.findBy(
+            spec, q -> q.project(spec.getFetchPaths(entityManager, User.class)).all());
+
+    assertThat(entities)
+        .hasSize(2)
+        .extracting(User::getPosts)
+        .allSatisfy(p -> assertThat(Hibernate.isInitialized(p)).isEqualTo(true));
+  }
+
+  @Test
+  void entityGraph_getResult_byLoadGraphHint() {
+    final BuiltSpecification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .entityGraph(true)
+            .equal(
+                List.of(Post_.AUTHOR, User_.USERNAME),
+                TestConstants.USER_1_USERNAME,
+                CompositeSpecification.Builder::fetch)
+            .isNull(List.of(Post_.TAGS), true, b -> b.not().fetch())
+            .isNull(List.of(Post_.AUTHOR, User_.GROUPS, Group_.NAME), true, b -> b.not().fetch())
+            .isNull(
+                List.of(Post_.AUTHOR, User_.PROFILE, Profile_.USER, User_.USERNAME),
+                true,
+                b -> b.not().fetch())
+            .isNull(List.of(Post_.AUTHOR, User_.PROFILE), true, b -> b.not().fetch())
+            .isNull(List.of(Post_.TITLE), true, b -> b.not().fetch())
+            .build();
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Post> query = builder.createQuery(Post.class);
+    query.select(SpecificationQueryUtils.applySpecification(spec, Post.class, query, builder));
+
+    assertThat(spec.getFetchPaths(entityManager, Post.class))
+        .containsExactly(
+            Post_.AUTHOR,
+            Post_.TAGS,
+            DbUtils.joinPath(Post_.AUTHOR, User_.GROUPS),
+            DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE, Profile_.USER),
+            DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE));
+
+    final List<Post> entities =
+        entityManager
+            .createQuery(query)
+            .setHint(
+                EntityGraphType.LOAD.getKey(), spec.createEntityGraph(entityManager, Post.class))
+            .getResultList();
+
+    assertThat(entities)
+        .hasSize(2)
+        .allSatisfy(p -> assertThat(Hibernate.isInitialized(p.getAuthor())).isTrue())
+        .allSatisfy(p -> assertThat(Hibernate.isInitialized(p.getTags())).isTrue())
+        .allSatisfy(p -> assertThat(Hibernate.isInitialized(p.getAuthor().getGroups())).isTrue());
+  }
+
+  @Test
+  void getShape_getStructureWithoutValues_byAllOperators() {
+    final BuiltSpecification<Post> inner =
+        SpecificationBuilder.<Post>builder().equal(Post_.TITLE, "inner").build();
+    final BuiltSpecification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(Post_.TITLE, "title")
+            .in(Post_.WORD_COUNT, List.of(1, 2))
+            .like(Post_.CONTENT, "content", b -> b.wildcard(Wildcard.LEADING))
+            .isNotNull(List.of(Post_.AUTHOR, User_.PHONE))
+            .between(
+                Post_.RATING,
+                BigDecimal.ONE,
+                BigDecimal.TEN,
+                b -> b.minBound(Bound.EXCLUSIVE).maxBound(Bound.EXCLUSIVE))
+            .between(Post_.WORD_COUNT, 1, null)
+            .orInner(inner)
+            .andInner(Specification.unrestricted())
+            .build();
+
+    assertThat(spec.getShape())
+        .isEqualTo(
+            "title = ? AND wordCount IN ? AND content LIKE %? AND NOT author.phone IS NULL"
+                + " AND rating BETWEEN ? AND ? AND wordCount >= ? OR (title = ?) AND (?)");
+    assertThat(spec.getShapeId())
+        .isEqualTo(Integer.toHexString(spec.getShape().hashCode()))
+        .isNotEqualTo(inner.getShapeId());
+  }
+
+  @Test
+  void getStructure_getTreeWithoutValues_byInnerSpecifications() {
+    final BuiltSpecification<User> inner =
+        SpecificationBuilder.<User>builder()
+            .like(User_.USERNAME, "user", b -> b.wildcard(Wildcard.MULTIPLE))
+            .isNull(
+                List.of(User_.POSTS, Post_.TITLE),
+                true,
+                b -> b.connection(BooleanOperator.OR).join(JoinType.LEFT).fetch())
+            .build();
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(false)
+            .equal(User_.IS_ACTIVE, true)
+            .andInner(inner)
+            .orInner(Specification.unrestricted())
+            .build();
+
+    assertThat(spec.getStructure())
+        .isEqualTo(
+            """
+            isActive = ? [INNER]
+            AND (
+              username LIKE %?% [INNER, distinct]
+              OR posts.title IS NULL [LEFT, fetch, distinct]
+            )
+            OR (
+              ?
+            )""");
+  }
+
+  private static BuiltSpecification<User> withPostsEntityGraph() {
+    return SpecificationBuilder.<User>builder()
+        .entityGraph(true)
+        .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
+        .build();
+  }
 }
@@ -41,7 +41,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().min(Post_.WORD_COUNT, null).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
@@ -54,7 +61,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
             .min(Post_.WORD_COUNT, value, b -> b.minBound(Bound.EXCLUSIVE))
             .build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -70,7 +84,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
             .min(Post_.WORD_COUNT, value, b -> b.minBound(Bound.INCLUSIVE))
             .build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -88,7 +109,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final List<String> attributePaths = List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE));
     final EntityGraph eg = DynamicEntityGraph.loading(attributePaths);
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -110,7 +138,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final List<String> attributePaths = List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE));
     final EntityGraph eg = DynamicEntityGraph.loading(attributePaths);
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -124,7 +159,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().max(Post_.WORD_COUNT, null).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
@@ -137,7 +179,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
             .max(Post_.WORD_COUNT, value, b -> b.maxBound(Bound.EXCLUSIVE))
             .build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -153,7 +202,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
             .max(Post_.WORD_COUNT, value, b -> b.maxBound(Bound.INCLUSIVE))
             .build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -171,7 +227,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final List<String> attributePaths = List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE));
     final EntityGraph eg = DynamicEntityGraph.loading(attributePaths);
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -193,7 +256,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final List<String> attributePaths = List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE));
     final EntityGraph eg = DynamicEntityGraph.loading(attributePaths);
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -207,7 +277,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().between(Post_.WORD_COUNT, null, null).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
@@ -219,7 +296,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().between(Post_.CREATED_AT, min, max).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -236,7 +320,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
             .between(Post_.CREATED_AT, min, max, b -> b.minBound(Bound.EXCLUSIVE))
             .build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -257,7 +348,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
                 b -> b.minBound(Bound.EXCLUSIVE).maxBound(Bound.EXCLUSIVE))
             .build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -275,7 +373,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final List<String> attributePaths = List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE));
     final EntityGraph eg = DynamicEntityGraph.loading(attributePaths);
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -296,7 +401,14 @@ class ComparisonSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final List<String> attributePaths = List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE));
     final EntityGraph eg = DynamicEntityGraph.loading(attributePaths);
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -46,7 +46,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Group> spec =
         SpecificationBuilder.<Group>builder().equal(Group_.NAME, value).build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(Group::getName).contains(value);
   }
@@ -56,11 +63,36 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Group> spec =
         SpecificationBuilder.<Group>builder().equal(Group_.NAME, "Unknown").build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(0)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(0);
   }
 
+  @Test
+  void equal_getResult_byStandaloneSpecification() {
+    final String value = TestConstants.USER_NAME_GROUP;
+    final Specification<Group> spec =
+        new EqualsSpecification.Builder<Group>(List.of(Group_.NAME), value).build();
+
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities).extracting(Group::getName).containsExactly(value);
+  }
+
   @Test
   void equal_getResult_byNotVarchar() {
     final String value = TestConstants.USER_NAME_GROUP;
@@ -69,7 +101,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
             .equal(Group_.NAME, value, CompositeSpecification.Builder::not)
             .build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(Group::getName).doesNotContain(value);
   }
@@ -80,7 +119,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().equal(User_.IS_ACTIVE, value).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(User::getIsActive).contains(value);
   }
@@ -91,7 +137,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().notEqual(User_.IS_ACTIVE, value).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(User::getIsActive).doesNotContain(value);
   }
@@ -102,7 +155,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().equal(User_.ID, value).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(User::getId).contains(value);
   }
@@ -113,7 +173,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().equal(Post_.RATING, value).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .extracting(Post::getRating)
@@ -127,7 +194,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().equal(User_.REGISTRATION_DATE, value).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(User::getRegistrationDate).contains(value);
   }
@@ -138,7 +212,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().equal(Post_.CREATED_AT, value).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(Post::getCreatedAt).contains(value);
   }
@@ -151,7 +232,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final EntityGraph eg =
         DynamicEntityGraph.loading(List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE)));
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -167,7 +255,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
         SpecificationBuilder.<Post>builder().equal(Post_.AUTHOR, user).build();
 
     final EntityGraph eg = DynamicEntityGraph.loading(List.of(Post_.AUTHOR));
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(2)
+            .expectDistinct()
+            .expectRows(0)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(0);
   }
@@ -182,7 +277,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final EntityGraph eg =
         DynamicEntityGraph.loading(List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE)));
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -196,7 +298,14 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().equal(Post_.AUTHOR, null).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
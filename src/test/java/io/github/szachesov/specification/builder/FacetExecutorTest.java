@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.FacetExecutor.Facet;
+import io.github.szachesov.specification.builder.sample.entity.Group_;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.QueryTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class FacetExecutorTest extends SpecificationBuilderTest {
+
+  private static final String GROUP = DbUtils.joinPath(User_.GROUPS, Group_.NAME);
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private ExecutorService threads;
+
+  @BeforeEach
+  void setUp() {
+    threads = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    threads.shutdownNow();
+  }
+
+  @Test
+  void count_getCountsOfFacets_byUnionAll() {
+    final FacetExecutor<User> executor = new FacetExecutor<>(entityManagerFactory, User.class);
+    final List<Facet> facets = List.of(Facet.of(User_.IS_ACTIVE), Facet.of(GROUP));
+
+    final Map<String, Map<Object, Long>> counts =
+        capture(() -> executor.count(null, facets))
+            .expectStatements(1)
+            .expectRows(4)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(counts)
+        .containsExactly(
+            Map.entry(User_.IS_ACTIVE, Map.of(true, 2L, false, 1L)),
+            Map.entry(
+                GROUP,
+                Map.of(TestConstants.ADMIN_NAME_GROUP, 1L, TestConstants.USER_NAME_GROUP, 3L)));
+  }
+
+  @Test
+  void count_excludeOwnFilter_byMultiSelectFacet() {
+    final FacetExecutor<User> executor = new FacetExecutor<>(entityManagerFactory, User.class);
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.IS_ACTIVE, true)
+            .andInner(
+                SpecificationBuilder.<User>builder()
+                    .in(GROUP, List.of(TestConstants.ADMIN_NAME_GROUP))
+                    .build())
+            .build();
+    final List<Facet> facets = List.of(Facet.multiSelect(User_.IS_ACTIVE), Facet.of(GROUP));
+
+    final Map<String, Map<Object, Long>> counts = executor.count(spec, facets);
+
+    assertThat(counts)
+        .containsEntry(User_.IS_ACTIVE, Map.of(true, 1L))
+        .containsEntry(GROUP, Map.of(TestConstants.ADMIN_NAME_GROUP, 1L));
+  }
+
+  @Test
+  void count_excludeOwnFilterOfInnerSpecification_byMultiSelectFacet() {
+    final FacetExecutor<User> executor = new FacetExecutor<>(entityManagerFactory, User.class);
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .andInner((root, query, builder) -> builder.isTrue(root.get(User_.IS_ACTIVE)))
+            .andInner(
+                SpecificationBuilder.<User>builder()
+                    .in(GROUP, List.of(TestConstants.ADMIN_NAME_GROUP))
+                    .build())
+            .build();
+
+    final Map<String, Map<Object, Long>> counts =
+        executor.count(spec, List.of(Facet.multiSelect(GROUP)));
+
+    assertThat(counts)
+        .containsExactly(
+            Map.entry(
+                GROUP,
+                Map.of(TestConstants.ADMIN_NAME_GROUP, 1L, TestConstants.USER_NAME_GROUP, 2L)));
+  }
+
+  @Test
+  void count_getCountsOfEachFacet_byParallelQueries() {
+    final FacetExecutor<Post> executor =
+        new FacetExecutor<>(entityManagerFactory, Post.class, threads);
+    final BuiltSpecification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(Post_.TAGS, TestConstants.AI_NAME_TAG)
+            .build();
+    final String author = DbUtils.joinPath(Post_.AUTHOR, User_.USERNAME);
+    final List<Facet> facets = List.of(Facet.multiSelect(Post_.TAGS), Facet.of(author));
+
+    final Map<String, Map<Object, Long>> counts = executor.count(spec, facets);
+
+    assertThat(counts)
+        .containsExactly(
+            Map.entry(
+                Post_.TAGS,
+                Map.of(
+                    TestConstants.AI_NAME_TAG, 2L,
+                    TestConstants.TECH_NAME_TAG, 2L,
+                    TestConstants.PROGRAMMING_NAME_TAG, 1L)),
+            Map.entry(author, Map.of(TestConstants.USER_1_USERNAME, 2L)));
+  }
+
+  @Test
+  void count_getCountsInOneStatement_byTransaction() {
+    final FacetExecutor<User> executor =
+        new FacetExecutor<>(
+            entityManagerFactory,
+            User.class,
+            r -> {
+              throw new IllegalStateException("Not sequential");
+            });
+
+    final Map<String, Map<Object, Long>> counts =
+        new TransactionTemplate(transactionManager)
+            .execute(s -> executor.count(null, List.of(Facet.of(User_.IS_ACTIVE))));
+
+    assertThat(counts).containsEntry(User_.IS_ACTIVE, Map.of(true, 2L, false, 1L));
+  }
+
+  @Test
+  void count_getEmpty_byNoFacets() {
+    final FacetExecutor<User> executor = new FacetExecutor<>(entityManagerFactory, User.class);
+
+    assertThat(executor.count(null, List.of())).isEmpty();
+  }
+
+  @Test
+  void count_throws_byUnknownColumn() {
+    final FacetExecutor<User> executor =
+        new FacetExecutor<>(entityManagerFactory, User.class, threads);
+    final List<Facet> facets = List.of(Facet.of(User_.IS_ACTIVE), Facet.of("unknown"));
+
+    assertThrows(PropertyReferenceException.class, () -> executor.count(null, facets));
+  }
+
+  @Test
+  void count_getCounts_withinTimeout() {
+    final FacetExecutor<User> executor =
+        new FacetExecutor<>(entityManagerFactory, User.class, threads, Duration.ofMinutes(1));
+
+    final Map<String, Map<Object, Long>> counts =
+        executor.count(null, List.of(Facet.of(User_.IS_ACTIVE)));
+
+    assertThat(counts).containsExactly(Map.entry(User_.IS_ACTIVE, Map.of(true, 2L, false, 1L)));
+  }
+
+  @Test
+  void count_throwsAndCancel_byTimeout() {
+    final List<Runnable> tasks = new ArrayList<>();
+    final FacetExecutor<User> executor =
+        new FacetExecutor<>(entityManagerFactory, User.class, tasks::add, Duration.ofMillis(100));
+    final long start = System.nanoTime();
+
+    assertThrows(
+        QueryTimeoutException.class, () -> executor.count(null, List.of(Facet.of(GROUP))));
+    tasks.forEach(Runnable::run);
+
+    assertThat(SpecificationStatementInspector.getStatements(start)).isEmpty();
+  }
+
+  @Test
+  void count_throws_byInterrupt() {
+    final FacetExecutor<User> executor =
+        new FacetExecutor<>(entityManagerFactory, User.class, r -> {});
+
+    Thread.currentThread().interrupt();
+
+    assertThrows(CancellationException.class, () -> executor.count(null, List.of(Facet.of(GROUP))));
+    assertThat(Thread.interrupted()).isTrue();
+  }
+
+  @Test
+  void count_throwsAndCancelSubmitted_byRejectedQuery() {
+    final List<Runnable> tasks = new ArrayList<>();
+    final FacetExecutor<User> executor =
+        new FacetExecutor<>(
+            entityManagerFactory,
+            User.class,
+            r -> {
+              if (!tasks.isEmpty()) throw new RejectedExecutionException("Full");
+              tasks.add(r);
+            });
+    final List<Facet> facets = List.of(Facet.of(User_.IS_ACTIVE), Facet.of(GROUP));
+    final long start = System.nanoTime();
+
+    assertThrows(RejectedExecutionException.class, () -> executor.count(null, facets));
+    tasks.forEach(Runnable::run);
+
+    assertThat(SpecificationStatementInspector.getStatements(start)).isEmpty();
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class FilterBinderTest extends SpecificationBuilderTest {
+
+  @Test
+  void build_getResult_byRecordJoinAndRange() {
+    final PostFilter filter = new PostFilter(TestConstants.USER_1_USERNAME, null, 23, 100, null, 0);
+
+    final List<Post> entities =
+        postRepository.findAll(FilterBinder.of(PostFilter.class).<Post>build(filter));
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsExactly(TestConstants.TITLE_POST_2_USER_1);
+  }
+
+  @Test
+  void build_getResult_byRecordLikeAndCollection() {
+    final PostFilter filter =
+        new PostFilter(null, "44!", null, null, Set.of(TestConstants.TECH_NAME_TAG), 0);
+
+    final List<Post> entities =
+        postRepository.findAll(FilterBinder.of(PostFilter.class).<Post>build(filter));
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsExactly(TestConstants.TITLE_POST_1_USER_2);
+  }
+
+  @Test
+  void bind_getResult_byGettersOfClassHierarchy() {
+    final UserFilter filter = new UserFilter("admin", true);
+
+    final SpecificationBuilder<User> builder =
+        FilterBinder.of(UserFilter.class).bind(SpecificationBuilder.builder(), filter);
+
+    final List<User> entities = userRepository.findAll(builder.build());
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.ADMIN_USERNAME);
+  }
+
+  @Test
+  void build_getAll_byNullFilter() {
+    final List<User> entities =
+        userRepository.findAll(FilterBinder.of(UserFilter.class).<User>build(null));
+
+    assertThat(entities).hasSize(TestData.USERS.size());
+  }
+
+  @Test
+  void build_getNull_byEmptyFilter() {
+    final PostFilter filter = new PostFilter(null, null, null, null, null, 1);
+
+    assertThat(FilterBinder.of(PostFilter.class).<Post>build(filter)).isNull();
+  }
+
+  @Test
+  void of_getCachedBinder_byClass() {
+    assertThat(FilterBinder.of(PostFilter.class)).isSameAs(FilterBinder.of(PostFilter.class));
+  }
+
+  @Test
+  void of_throws_byInvalidFilter() {
+    assertThrows(IllegalArgumentException.class, () -> FilterBinder.of(LikeFilter.class));
+    assertThrows(IllegalArgumentException.class, () -> FilterBinder.of(RangeFilter.class));
+    assertThrows(IllegalArgumentException.class, () -> FilterBinder.of(NoAccessorFilter.class));
+    assertThrows(IllegalArgumentException.class, () -> FilterBinder.of(StaticFilter.class));
+    assertThrows(IllegalArgumentException.class, () -> FilterBinder.of(PrimitiveFilter.class));
+  }
+
+  record PostFilter(
+      @Equal("author.username") String author,
+      @Like(wildcard = Wildcard.MULTIPLE) String title,
+      @Range(column = "wordCount", bound = Bound.EXCLUSIVE) Integer minWords,
+      @Range(column = "wordCount", end = Range.End.MAX) Integer maxWords,
+      @Equal Set<String> tags,
+      int page) {}
+
+  static class BaseUserFilter {
+
+    @Like(wildcard = Wildcard.ENDING)
+    private final String username;
+
+    BaseUserFilter(final String username) {
+      this.username = username;
+    }
+
+    String getUsername() {
+      return username;
+    }
+  }
+
+  static class UserFilter extends BaseUserFilter {
+
+    @Equal("isActive")
+    private final Boolean active;
+
+    UserFilter(final String username, final Boolean active) {
+      super(username);
+      this.active = active;
+    }
+
+    Boolean isActive() {
+      return active;
+    }
+  }
+
+  record LikeFilter(@Like Integer wordCount) {}
+
+  record RangeFilter(@Range Object wordCount) {}
+
+  record PrimitiveFilter(@Equal int wordCount) {}
+
+  static class NoAccessorFilter {
+
+    @Equal private String title;
+  }
+
+  static class StaticFilter {
+
+    @Equal private String title;
+
+    static String title() {
+      return TestConstants.TITLE_POST_1_USER_1;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.H2Database;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+class H2SpecificationExplainerTest {
+
+  private static EntityManagerFactory entityManagerFactory;
+
+  @BeforeAll
+  static void init() {
+    entityManagerFactory = H2Database.create("explainer");
+  }
+
+  @AfterAll
+  static void close() {
+    entityManagerFactory.close();
+  }
+
+  @Test
+  void explain_getPlan_byJoin() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(List.of(Post_.AUTHOR, User_.USERNAME), TestConstants.USER_1_USERNAME)
+            .isNull(Post_.RATING, false)
+            .build();
+
+    try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+      final QueryPlan plan = new SpecificationExplainer<>(entityManager, Post.class).explain(spec);
+
+      assertThat(plan.binds()).containsExactly(TestConstants.USER_1_USERNAME);
+      assertThat(plan.hasFullScan("posts")).isFalse();
+      assertThat(plan.hasFullScan("users")).isFalse();
+      assertThat(plan.joinMethods()).containsExactly("Nested Loop");
+      assertThat(plan.estimatedRows()).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  void explain_throws_byStatementNotPrepared() {
+    final Specification<Post> spec =
+        (root, query, builder) ->
+            builder.equal(builder.function("unknown_function", Integer.class), 1);
+
+    try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+      final SpecificationExplainer<Post> explainer =
+          new SpecificationExplainer<>(entityManager, Post.class);
+
+      assertThrows(PersistenceException.class, () -> explainer.explain(spec));
+    }
+  }
+}
@@ -21,6 +21,7 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 import com.cosium.spring.data.jpa.entity.graph.domain2.DynamicEntityGraph;
 import com.cosium.spring.data.jpa.entity.graph.domain2.EntityGraph;
+import io.github.szachesov.specification.builder.sample.entity.Group_;
 import io.github.szachesov.specification.builder.sample.entity.Post;
 import io.github.szachesov.specification.builder.sample.entity.Post_;
 import io.github.szachesov.specification.builder.sample.entity.User;
@@ -28,6 +29,9 @@ import io.github.szachesov.specification.builder.sample.entity.User_;
 import io.github.szachesov.specification.builder.testutils.DbUtils;
 import io.github.szachesov.specification.builder.testutils.TestConstants;
 import io.github.szachesov.specification.builder.testutils.TestData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.domain.Specification;
@@ -41,17 +45,47 @@ class InSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().in(User_.USERNAME, usernames).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty().extracting(User::getUsername).containsAll(usernames);
   }
 
+  @Test
+  void in_getResult_byChangedArgumentsAfterBuild() {
+    final List<String> columns = new ArrayList<>(List.of(User_.USERNAME));
+    final List<String> usernames = new ArrayList<>(List.of(TestConstants.USER_1_USERNAME));
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().in(columns, usernames).build();
+    columns.set(0, User_.PHONE);
+    usernames.add(TestConstants.USER_2_USERNAME);
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME);
+  }
+
   @Test
   void in_getAll_byNullValues() {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().in(Post_.RATING, null).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
@@ -61,7 +95,14 @@ class InSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Post> spec =
         SpecificationBuilder.<Post>builder().in(Post_.RATING, List.of()).build();
 
-    final List<Post> entities = postRepository.findAll(spec);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
@@ -74,7 +115,14 @@ class InSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final EntityGraph eg =
         DynamicEntityGraph.loading(List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE)));
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -82,4 +130,117 @@ class InSpecificationBuilderTest extends SpecificationBuilderTest {
         .extracting(User::getId)
         .containsAnyElementsOf(values);
   }
+
+  @Test
+  void notIn_getResultWithNull_byNullableVarchar() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .notIn(User_.phone, List.of(TestConstants.ADMIN_PHONE))
+            .build();
+
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactlyInAnyOrder(TestConstants.USER_1_USERNAME, TestConstants.USER_2_USERNAME);
+  }
+
+  @Test
+  void notIn_getResultWithoutNull_byNullValue() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .notIn(
+                AttributePath.of(User_.phone),
+                Arrays.asList(TestConstants.ADMIN_PHONE, null),
+                b -> b.connection(BooleanOperator.AND))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void notIn_getNotNull_byOnlyNullValue() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .notIn(User_.PHONE, Collections.singletonList(null))
+            .notIn(AttributePath.of(User_.username), List.of(TestConstants.USER_2_USERNAME))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactlyInAnyOrder(TestConstants.ADMIN_USERNAME, TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void notIn_getResult_byNotExistsOfCollection() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .notIn(
+                List.of(User_.GROUPS, Group_.NAME),
+                List.of(TestConstants.ADMIN_NAME_GROUP),
+                InSpecification.Builder::exists)
+            .build();
+
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(2)
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactlyInAnyOrder(TestConstants.USER_1_USERNAME, TestConstants.USER_2_USERNAME);
+    assertThat(spec.getShape()).isEqualTo("NOT groups.name IN ? (EXISTS)");
+  }
+
+  @Test
+  void notIn_getResultOfEachRow_byJoinOfCollection() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .notIn(
+                DbUtils.joinPath(User_.GROUPS, Group_.NAME),
+                List.of(TestConstants.ADMIN_NAME_GROUP))
+            .notIn(User_.phone, List.of(), InSpecification.Builder::exists)
+            .notIn(List.of(User_.USERNAME), null)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities).hasSize(TestData.USERS.size());
+  }
+
+  @Test
+  void in_getResultWithoutDuplicates_byExistsOfCollection() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(false)
+            .in(
+                List.of(User_.GROUPS, Group_.NAME),
+                List.of(TestConstants.USER_NAME_GROUP, TestConstants.ADMIN_NAME_GROUP),
+                InSpecification.Builder::exists)
+            .build();
+
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities).hasSize(TestData.USERS.size());
+  }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import io.github.szachesov.specification.builder.IndexAdvisor.IndexSuggestion;
+import io.github.szachesov.specification.builder.IndexAdvisor.Operator;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+class IndexAdvisorTest extends SpecificationBuilderTest {
+
+  @Autowired private EntityManager entityManager;
+
+  private IndexAdvisor advisor;
+
+  @BeforeEach
+  void setUp() {
+    advisor = new IndexAdvisor(entityManager.getMetamodel());
+    SpecificationObservers.register(advisor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SpecificationObservers.unregister(advisor);
+  }
+
+  @Test
+  void getColumnUsages_getUsagePerEntity_byExecutorQueries() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.IS_ACTIVE, true)
+            .like(User_.PHONE, "+79", b -> b.wildcard(Wildcard.ENDING))
+            .in(List.of(User_.POSTS, Post_.WORD_COUNT), List.of(1, 2))
+            .isNull(List.of(User_.POSTS, Post_.TAGS), true)
+            .existsIn(Post.class, Post_.AUTHOR, sub -> sub.equal(Post_.WORD_COUNT, 1))
+            .build();
+    final SpecificationExecutor<User> executor =
+        new SpecificationExecutor<>(entityManager, User.class);
+
+    executor.findAll(spec, Sort.unsorted());
+    executor.count(spec);
+
+    assertThat(advisor.getColumnUsages())
+        .extracting("entity", "column", "operator", "count")
+        .containsExactlyInAnyOrder(
+            tuple(User.class, User_.IS_ACTIVE, Operator.EQUALITY, 2L),
+            tuple(User.class, User_.PHONE, Operator.IGNORE_CASE, 2L),
+            tuple(Post.class, Post_.WORD_COUNT, Operator.IN, 2L));
+    assertThat(advisor.getColumnUsages()).allSatisfy(u -> assertThat(u.totalTime()).isPositive());
+  }
+
+  @Test
+  void getSuggestions_getCompositeIndexes_byConjunction() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .between(User_.REGISTRATION_DATE, LocalDate.MIN, LocalDate.MAX)
+            .equal(User_.IS_ACTIVE, true)
+            .like(User_.PHONE, "+79")
+            .isNull(User_.PHONE, true, CompositeSpecification.Builder::not)
+            .equal(List.of(User_.POSTS, Post_.WORD_COUNT), 1)
+            .equal(List.of(User_.POSTS, Post_.TITLE), TestConstants.TITLE_POST_1_USER_1)
+            .build();
+
+    advisor.onQuery(User.class, spec, 1000);
+
+    assertThat(advisor.getSuggestions())
+        .extracting(IndexSuggestion::entity, IndexSuggestion::columns, IndexSuggestion::count)
+        .containsExactlyInAnyOrder(
+            tuple(User.class, List.of(User_.IS_ACTIVE, User_.REGISTRATION_DATE), 1L),
+            tuple(Post.class, List.of(Post_.TITLE, Post_.WORD_COUNT), 1L));
+  }
+
+  @Test
+  void getSuggestions_skipNegationAndIgnoreCase_byConjunction() {
+    final BuiltSpecification<User> ignoreCase =
+        SpecificationBuilder.<User>builder()
+            .notEqual(User_.USERNAME, TestConstants.USER_1_USERNAME)
+            .notIn(User_.REGISTRATION_DATE, List.of(LocalDate.MIN))
+            .equal(User_.IS_ACTIVE, true)
+            .like(User_.PHONE, "+79")
+            .build();
+    final BuiltSpecification<User> caseSensitive =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.IS_ACTIVE, true)
+            .isNull(User_.REGISTRATION_DATE)
+            .like(User_.PHONE, "+79", LikeSpecification.Builder::noIgnoreCase)
+            .build();
+
+    advisor.onQuery(User.class, ignoreCase, 1000);
+    advisor.onQuery(User.class, caseSensitive, 10);
+
+    assertThat(advisor.getColumnUsages())
+        .extracting("column", "operator")
+        .contains(
+            tuple(User_.USERNAME, Operator.NEGATION),
+            tuple(User_.REGISTRATION_DATE, Operator.NEGATION),
+            tuple(User_.REGISTRATION_DATE, Operator.NULL),
+            tuple(User_.PHONE, Operator.IGNORE_CASE),
+            tuple(User_.PHONE, Operator.PREFIX));
+    assertThat(advisor.getSuggestions())
+        .extracting(IndexSuggestion::columns, IndexSuggestion::count)
+        .containsExactly(
+            tuple(List.of(User_.IS_ACTIVE), 1L),
+            tuple(List.of(User_.IS_ACTIVE, User_.REGISTRATION_DATE, User_.PHONE), 1L));
+  }
+
+  @Test
+  void getSuggestions_getSingleColumnIndexes_byDisjunction() {
+    final BuiltSpecification<Post> inner =
+        SpecificationBuilder.<Post>builder()
+            .like(Post_.TITLE, "post", b -> b.wildcard(Wildcard.MULTIPLE))
+            .like(Post_.CONTENT, "post", b -> b.connection(BooleanOperator.OR).noIgnoreCase())
+            .build();
+    final BuiltSpecification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(Post_.WORD_COUNT, 1)
+            .equal(Post_.CREATED_AT, LocalDateTime.MIN, b -> b.connection(BooleanOperator.OR))
+            .equal(List.of(Post_.AUTHOR, User_.USERNAME), TestConstants.USER_1_USERNAME)
+            .andInner(inner)
+            .andInner((root, query, builder) -> null)
+            .build();
+
+    advisor.onQuery(Post.class, spec, 10);
+    advisor.onQuery(Post.class, inner, 1000);
+
+    assertThat(advisor.getSuggestions())
+        .extracting(IndexSuggestion::entity, IndexSuggestion::columns, IndexSuggestion::count)
+        .containsExactly(
+            tuple(Post.class, List.of(Post_.CONTENT), 2L),
+            tuple(Post.class, List.of(Post_.CREATED_AT), 1L));
+  }
+
+  @Test
+  void reset_clearUsage_byRecordedQuery() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder().equal(User_.PHONE, "+7").build();
+    SpecificationObservers.observeQuery(User.class, spec, () -> userRepository.findAll(spec));
+    SpecificationObservers.observeQuery(User.class, null, userRepository::findAll);
+
+    assertThat(advisor.getSuggestions()).hasSize(1);
+    advisor.reset();
+
+    assertThat(advisor.getColumnUsages()).isEmpty();
+    assertThat(advisor.getSuggestions()).isEmpty();
+  }
+}
@@ -37,7 +37,14 @@ class IsNullSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().isNotNull(User_.PHONE).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty().extracting(User::getPhone).doesNotContainNull();
   }
@@ -47,7 +54,14 @@ class IsNullSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().isNull(User_.PHONE).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty().extracting(User::getPhone).containsNull();
   }
@@ -57,7 +71,14 @@ class IsNullSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().isNull(User_.PHONE, true).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty().extracting(User::getPhone).containsNull();
   }
@@ -67,7 +88,14 @@ class IsNullSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<User> spec =
         SpecificationBuilder.<User>builder().isNull(User_.PHONE, false).build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectNotDistinct()
+            .expectRows(3)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty().extracting(User::getPhone).containsNull();
   }
@@ -79,7 +107,14 @@ class IsNullSpecificationBuilderTest extends SpecificationBuilderTest {
             .isNull(User_.PHONE, true, CompositeSpecification.Builder::not)
             .build();
 
-    final List<User> entities = userRepository.findAll(spec);
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty().extracting(User::getPhone).doesNotContainNull();
   }
@@ -91,7 +126,14 @@ class IsNullSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final EntityGraph eg =
         DynamicEntityGraph.loading(List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE)));
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -43,7 +43,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Group> spec =
         SpecificationBuilder.<Group>builder().like(Group_.NAME, value).build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isNotEmpty().extracting(Group::getName).contains(value);
   }
@@ -53,7 +60,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Group> spec =
         SpecificationBuilder.<Group>builder().like(Group_.NAME, null).build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.GROUPS.size());
   }
@@ -63,7 +77,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Group> spec =
         SpecificationBuilder.<Group>builder().like(Group_.NAME, "   ").build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.GROUPS.size());
   }
@@ -74,7 +95,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
     final Specification<Group> spec =
         SpecificationBuilder.<Group>builder().like(Group_.NAME, value).build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectNotDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).hasSize(TestData.GROUPS.size());
   }
@@ -87,7 +115,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
             .like(Group_.NAME, value, b -> b.minChar(2).wildcard(Wildcard.ENDING))
             .build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .extracting(Group::getName)
@@ -103,7 +138,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
             .like(Group_.NAME, value, b -> b.minChar(2).wildcard(Wildcard.LEADING))
             .build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(Group::getName).allSatisfy(n -> assertThat(n).endsWith(value));
   }
@@ -117,7 +159,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
             .like(Group_.NAME, value, b -> b.minChar(2).wildcard(Wildcard.MULTIPLE))
             .build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).extracting(Group::getName).allSatisfy(n -> assertThat(n).contains(value));
   }
@@ -130,7 +179,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
             .like(Group_.NAME, value, LikeSpecification.Builder::noIgnoreCase)
             .build();
 
-    final List<Group> entities = groupRepository.findAll(spec);
+    final List<Group> entities =
+        capture(() -> groupRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(0)
+            .expectDistinct()
+            .expectRows(0)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities).isEmpty();
   }
@@ -145,7 +201,14 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
 
     final EntityGraph eg =
         DynamicEntityGraph.loading(List.of(DbUtils.joinPath(Post_.AUTHOR, User_.PROFILE)));
-    final List<Post> entities = postRepository.findAll(spec, eg);
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec, eg))
+            .expectStatements(1)
+            .expectJoins(3)
+            .expectDistinct()
+            .expectRows(2)
+            .matchesSnapshot()
+            .result();
 
     assertThat(entities)
         .isNotEmpty()
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Group_;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+
+class MetamodelSpecificationBuilderTest extends SpecificationBuilderTest {
+
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void equal_getResult_byAttribute() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.username, TestConstants.USER_1_USERNAME)
+            .equal(User_.isActive, true, EqualsSpecification.Builder::not)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void equal_getResultWithFetch_byJoinPath() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(
+                AttributePath.of(Post_.author).get(User_.username),
+                TestConstants.USER_2_USERNAME,
+                CompositeSpecification.Builder::fetch)
+            .build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .singleElement()
+        .satisfies(p -> assertThat(Hibernate.isInitialized(p.getAuthor())).isTrue())
+        .extracting(Post::getTitle)
+        .isEqualTo(TestConstants.TITLE_POST_1_USER_2);
+  }
+
+  @Test
+  void equal_reuseJoinByAttribute_byJoinPathsOfBothKinds() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(Post_.TAGS, TestConstants.TECH_NAME_TAG)
+            .equal(List.of(Post_.AUTHOR, User_.USERNAME), TestConstants.USER_2_USERNAME)
+            .equal(AttributePath.of(Post_.author).get(User_.isActive), true)
+            .build();
+
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec)).expectStatements(1).expectJoins(2).result();
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsExactly(TestConstants.TITLE_POST_1_USER_2);
+  }
+
+  @Test
+  void getFetchPaths_getAssociations_byJoinPaths() {
+    final BuiltSpecification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(
+                AttributePath.of(Post_.author).get(User_.username),
+                TestConstants.USER_2_USERNAME,
+                CompositeSpecification.Builder::fetch)
+            .equal(
+                AttributePath.of(Post_.tags),
+                TestConstants.TECH_NAME_TAG,
+                CompositeSpecification.Builder::fetch)
+            .equal(
+                AttributePath.of(Post_.title),
+                TestConstants.TITLE_POST_1_USER_2,
+                CompositeSpecification.Builder::fetch)
+            .build();
+
+    assertThat(spec.getFetchPaths(entityManager, Post.class))
+        .containsExactly(Post_.AUTHOR, Post_.TAGS);
+  }
+
+  @Test
+  void equal_getResult_byElementCollection() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(AttributePath.of(Post_.tags), TestConstants.PROGRAMMING_NAME_TAG)
+            .build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsExactly(TestConstants.TITLE_POST_2_USER_1);
+  }
+
+  @Test
+  void equal_getResult_byCollectionAndMap() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(AttributePath.of(Post_.links), TestConstants.LINK_POST_1_USER_1)
+            .equal(AttributePath.of(Post_.metadata), TestConstants.LANGUAGE_POST_1_USER_1)
+            .build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsExactly(TestConstants.TITLE_POST_1_USER_1);
+  }
+
+  @Test
+  void notEqual_getResult_byAttributeAndPath() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .notEqual(User_.username, TestConstants.ADMIN_USERNAME)
+            .notEqual(
+                AttributePath.of(User_.groups).get(Group_.name), TestConstants.USER_NAME_GROUP)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities).isEmpty();
+  }
+
+  @Test
+  void in_getResult_byAttributeAndPath() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .in(
+                User_.username,
+                List.of(TestConstants.USER_1_USERNAME, TestConstants.ADMIN_USERNAME))
+            .in(User_.isActive, List.of(false), b -> b.connection(BooleanOperator.AND))
+            .in(
+                AttributePath.of(User_.groups).get(Group_.name),
+                List.of(TestConstants.USER_NAME_GROUP))
+            .in(
+                AttributePath.of(User_.posts).get(Post_.wordCount),
+                List.of(TestConstants.WORD_COUNT_POST_2_USER_1),
+                b -> b.join(JoinType.LEFT))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void like_getResult_byAttributeAndPath() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .like(User_.username, "user", b -> b.wildcard(Wildcard.MULTIPLE))
+            .like(User_.phone, TestConstants.USER_1_PHONE)
+            .like(
+                AttributePath.of(User_.groups).get(Group_.name),
+                "us",
+                b -> b.wildcard(Wildcard.ENDING).minChar(2))
+            .like(AttributePath.of(User_.groups).get(Group_.name), TestConstants.USER_NAME_GROUP)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void minMax_getResult_byAttributeAndPath() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .min(Post_.wordCount, TestConstants.WORD_COUNT_POST_2_USER_1)
+            .max(Post_.rating, BigDecimal.TEN, b -> b.maxBound(Bound.EXCLUSIVE))
+            .min(
+                AttributePath.of(Post_.author).get(User_.registrationDate),
+                TestConstants.USER_1_REGISTRATION_DATE,
+                b -> b.minBound(Bound.EXCLUSIVE))
+            .max(
+                AttributePath.of(Post_.author).get(User_.registrationDate),
+                TestConstants.USER_2_REGISTRATION_DATE)
+            .build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsExactly(TestConstants.TITLE_POST_1_USER_2);
+  }
+
+  @Test
+  void minMax_getResult_byJoinPath() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .min(
+                User_.registrationDate,
+                TestConstants.USER_1_REGISTRATION_DATE,
+                b -> b.minBound(Bound.EXCLUSIVE))
+            .max(User_.registrationDate, TestConstants.USER_2_REGISTRATION_DATE)
+            .min(AttributePath.of(User_.posts).get(Post_.wordCount), 70)
+            .max(
+                AttributePath.of(User_.posts).get(Post_.wordCount),
+                100,
+                b -> b.maxBound(Bound.EXCLUSIVE))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_2_USERNAME);
+  }
+
+  @Test
+  void between_getResult_byAttributeAndPath() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .between(
+                Post_.rating,
+                TestConstants.RATING_POST_2_USER_1,
+                TestConstants.RATING_POST_1_USER_1)
+            .between(
+                Post_.wordCount,
+                TestConstants.WORD_COUNT_POST_1_USER_1,
+                TestConstants.WORD_COUNT_POST_1_USER_2,
+                b -> b.minBound(Bound.EXCLUSIVE))
+            .between(
+                AttributePath.of(Post_.author).get(User_.registrationDate),
+                TestConstants.USER_1_REGISTRATION_DATE,
+                null)
+            .between(
+                AttributePath.of(Post_.author).get(User_.registrationDate),
+                null,
+                TestConstants.USER_2_REGISTRATION_DATE,
+                b -> b.maxBound(Bound.EXCLUSIVE))
+            .build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsExactly(TestConstants.TITLE_POST_2_USER_1);
+  }
+
+  @Test
+  void isNull_getResult_byAttributeAndPath() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNull(User_.phone)
+            .isNull(User_.username, false)
+            .isNull(User_.registrationDate, true, CompositeSpecification.Builder::not)
+            .isNull(AttributePath.of(User_.posts).get(Post_.rating), false)
+            .isNotNull(AttributePath.of(User_.posts).get(Post_.title))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_2_USERNAME);
+  }
+
+  @Test
+  void isNull_getResultWithFetch_byPluralPath() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNotNull(User_.phone)
+            .isNull(AttributePath.of(User_.posts).get(Post_.title), true, b -> b.not().fetch())
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .singleElement()
+        .satisfies(u -> assertThat(Hibernate.isInitialized(u.getPosts())).isTrue())
+        .extracting(User::getUsername)
+        .isEqualTo(TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void isNull_getResult_byPathWithNamedAttribute() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNull(AttributePath.of(User_.posts).string(Post_.TITLE, AttributeKind.BASIC))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.ADMIN_USERNAME);
+  }
+
+  @Test
+  void getColumns_getPropertyPath_byAttributes() {
+    final List<String> columns =
+        AttributePath.of(Post_.author).get(User_.groups).get(Group_.name).getColumns();
+
+    assertThat(columns).containsExactly(Post_.AUTHOR, User_.GROUPS, Group_.NAME);
+  }
+}
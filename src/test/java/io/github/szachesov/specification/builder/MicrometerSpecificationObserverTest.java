@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+
+class MicrometerSpecificationObserverTest extends SpecificationBuilderTest {
+
+  @Autowired private EntityManager entityManager;
+
+  private SimpleMeterRegistry registry;
+  private MicrometerSpecificationObserver observer;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    observer = new MicrometerSpecificationObserver(registry);
+    SpecificationObservers.register(observer);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SpecificationObservers.unregister(observer);
+  }
+
+  @Test
+  void build_recordBuildTimer_byBuild() {
+    SpecificationBuilder.<User>builder().equal(User_.IS_ACTIVE, true).build();
+
+    assertThat(registry.get("specification.build").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void build_recordOnlyOuterBuild_byTypedPredicate() {
+    SpecificationBuilder.<User>builder()
+        .add(AttributePath.<User, String>of(User_.username).equal(TestConstants.ADMIN_USERNAME))
+        .build();
+
+    assertThat(registry.get("specification.build").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void build_recordOnlyOuterBuild_bySubquery() {
+    SpecificationBuilder.<User>builder()
+        .<Post>existsIn(Post.class, Post_.AUTHOR, b -> b.isNotNull(Post_.TITLE))
+        .build();
+
+    assertThat(registry.get("specification.build").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void findAll_recordPredicateMetrics_byExecutor() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .in(User_.USERNAME, TestData.USERS.stream().map(User::getUsername).toList())
+            .isNotNull(List.of(User_.POSTS, Post_.TITLE))
+            .isNotNull(List.of(User_.POSTS, Post_.TITLE))
+            .build();
+
+    new SpecificationExecutor<>(entityManager, User.class).findAll(spec, Pageable.unpaged());
+
+    assertThat(registry.get("specification.predicate").timer().count()).isEqualTo(3);
+    assertThat(registry.get("specification.predicates").tag("operator", "IN ?").counter().count())
+        .isEqualTo(1);
+    assertThat(
+            registry.get("specification.predicates").tag("operator", "IS NULL").counter().count())
+        .isEqualTo(2);
+    assertThat(registry.get("specification.joins").counter().count()).isEqualTo(2);
+    assertThat(registry.get("specification.in.size").summary().max())
+        .isEqualTo(TestData.USERS.size());
+    assertThat(registry.get("specification.query").tag("shape", spec.getShapeId()).timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void observeQuery_recordQueryLatencyByShape_byRepository() {
+    final BuiltSpecification<User> spec1 =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.USERNAME, TestConstants.ADMIN_USERNAME)
+            .build();
+    final BuiltSpecification<User> spec2 =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.USERNAME, TestConstants.USER_1_USERNAME)
+            .build();
+
+    SpecificationObservers.observeQuery(spec1, () -> userRepository.findAll(spec1));
+    SpecificationObservers.observeQuery(spec2, () -> userRepository.findAll(spec2));
+    SpecificationObservers.observeQuery(null, userRepository::findAll);
+
+    assertThat(registry.get("specification.query").tag("shape", spec1.getShapeId()).timer().count())
+        .isEqualTo(2);
+    assertThat(
+            registry
+                .get("specification.query")
+                .tag("shape", MicrometerSpecificationObserver.UNKNOWN_SHAPE)
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void build_notifyAllObservers_byDefaultObserver() {
+    final SpecificationObserver noop = new NoopObserver();
+    SpecificationObservers.register(noop);
+    try {
+      final BuiltSpecification<User> spec =
+          SpecificationBuilder.<User>builder().isNotNull(List.of(User_.POSTS)).build();
+      new SpecificationExecutor<>(entityManager, User.class).count(spec);
+    } finally {
+      SpecificationObservers.unregister(noop);
+    }
+
+    assertThat(registry.get("specification.build").timer().count()).isEqualTo(1);
+    assertThat(registry.get("specification.query").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void build_notRecord_byUnregisteredObserver() {
+    SpecificationObservers.unregister(observer);
+
+    SpecificationBuilder.<User>builder().equal(User_.IS_ACTIVE, true).build();
+
+    assertThat(registry.get("specification.build").timer().count()).isEqualTo(0);
+  }
+
+  private static final class NoopObserver implements SpecificationObserver {}
+}
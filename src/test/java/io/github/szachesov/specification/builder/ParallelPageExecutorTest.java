@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.QueryTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ParallelPageExecutorTest extends SpecificationBuilderTest {
+
+  private static final Pageable FIRST_USER = PageRequest.of(0, 1, Sort.by(User_.USERNAME));
+  private static final Specification<User> SLEEP =
+      (root, query, builder) ->
+          builder.isNotNull(builder.function("pg_sleep", Object.class, builder.literal(5)));
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private ExecutorService threads;
+
+  @BeforeEach
+  void setUp() {
+    threads = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    threads.shutdownNow();
+  }
+
+  @Test
+  void findAll_getPageAndTotal_byParallelQueries() {
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(
+            entityManagerFactory, User.class, threads, Duration.ofMinutes(1));
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().equal(User_.IS_ACTIVE, true).build();
+
+    final Page<User> page = executor.findAll(spec, FIRST_USER);
+
+    assertThat(page.getTotalElements()).isEqualTo(2);
+    assertThat(page.getContent())
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.ADMIN_USERNAME);
+  }
+
+  @Test
+  void findAll_getPageSequentially_byTransaction() {
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(
+            entityManagerFactory,
+            User.class,
+            r -> {
+              throw new IllegalStateException("Not sequential");
+            });
+
+    final Page<User> page =
+        new TransactionTemplate(transactionManager)
+            .execute(s -> executor.findAll(null, FIRST_USER));
+
+    assertThat(page.getContent())
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.ADMIN_USERNAME);
+  }
+
+  @Test
+  void findAll_throwsAndCancel_byTimeout() throws InterruptedException {
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(
+            entityManagerFactory, User.class, threads, Duration.ofMillis(300));
+    final long start = System.nanoTime();
+
+    assertThrows(QueryTimeoutException.class, () -> executor.findAll(SLEEP, FIRST_USER));
+    threads.shutdown();
+
+    assertThat(threads.awaitTermination(3, TimeUnit.SECONDS)).isTrue();
+    assertThat(System.nanoTime() - start).isLessThan(Duration.ofSeconds(5).toNanos());
+  }
+
+  @Test
+  void findAll_throws_byQueryTimeoutInTransaction() {
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(
+            entityManagerFactory, User.class, threads, Duration.ofMillis(300));
+    final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    final long start = System.nanoTime();
+
+    assertThrows(
+        QueryTimeoutException.class,
+        () -> transaction.execute(s -> executor.findAll(SLEEP, FIRST_USER)));
+
+    assertThat(System.nanoTime() - start).isLessThan(Duration.ofSeconds(5).toNanos());
+  }
+
+  @Test
+  void findAll_throwsWithoutStatements_byPassedDeadlineInTransaction() {
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(entityManagerFactory, User.class, threads, Duration.ofNanos(1));
+    final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    final long start = System.nanoTime();
+
+    assertThrows(
+        QueryTimeoutException.class,
+        () -> transaction.execute(s -> executor.findAll(null, FIRST_USER)));
+
+    assertThat(SpecificationStatementInspector.getStatements(start)).isEmpty();
+  }
+
+  @Test
+  void findAll_throws_byUnknownColumn() {
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(entityManagerFactory, User.class, threads);
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().equal("unknown", 1).build();
+
+    assertThrows(IllegalArgumentException.class, () -> executor.findAll(spec, FIRST_USER));
+  }
+
+  @Test
+  void findAll_throwsError_byFailedQuery() {
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(entityManagerFactory, User.class, threads);
+    final Specification<User> spec =
+        (root, query, builder) -> {
+          throw new AssertionError("Failed");
+        };
+
+    assertThrows(AssertionError.class, () -> executor.findAll(spec, FIRST_USER));
+  }
+
+  @Test
+  void findAllAsync_notRunQueries_byCancel() {
+    final List<Runnable> tasks = new ArrayList<>();
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(entityManagerFactory, User.class, tasks::add);
+    final long start = System.nanoTime();
+
+    final CompletableFuture<Page<User>> page = executor.findAllAsync(null, FIRST_USER);
+    page.cancel(true);
+    tasks.forEach(Runnable::run);
+
+    assertThat(page).isCancelled();
+    assertThat(SpecificationStatementInspector.getStatements(start)).isEmpty();
+  }
+
+  @Test
+  void findAll_throws_byInterrupt() {
+    final ParallelPageExecutor<User> executor =
+        new ParallelPageExecutor<>(entityManagerFactory, User.class, r -> {});
+
+    Thread.currentThread().interrupt();
+
+    assertThrows(CancellationException.class, () -> executor.findAll(null, FIRST_USER));
+    assertThat(Thread.interrupted()).isTrue();
+  }
+}
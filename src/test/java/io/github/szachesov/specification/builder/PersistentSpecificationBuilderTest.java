@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+
+class PersistentSpecificationBuilderTest extends SpecificationBuilderTest {
+
+  private static final PersistentSpecificationBuilder<User> BASE =
+      PersistentSpecificationBuilder.<User>builder()
+          .equal(User_.IS_ACTIVE, true)
+          .in(
+              User_.USERNAME,
+              List.of(TestConstants.ADMIN_USERNAME, TestConstants.USER_2_USERNAME));
+
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void with_sharePredicatesOfBase_byDerivedBuilders() {
+    final PersistentSpecificationBuilder<User> byPhone = BASE.isNull(User_.PHONE);
+    final PersistentSpecificationBuilder<User> byName = BASE.like(User_.USERNAME, "admin");
+
+    final List<CompositeSpecification<User, ?>> base = BASE.build().getSpecifications();
+    final List<CompositeSpecification<User, ?>> phone = byPhone.build().getSpecifications();
+    final List<CompositeSpecification<User, ?>> name = byName.build().getSpecifications();
+
+    assertThat(base).hasSize(2);
+    assertThat(phone).hasSize(3);
+    assertThat(phone.subList(0, 2)).containsExactlyElementsOf(base);
+    assertThat(name).hasSize(3);
+    assertThat(name.subList(0, 2)).containsExactlyElementsOf(base);
+    assertThat(phone.get(2)).isNotSameAs(name.get(2));
+  }
+
+  @Test
+  void build_getResult_byDerivedBuilder() {
+    final Specification<User> spec =
+        BASE.like(User_.USERNAME, TestConstants.ADMIN_USERNAME).build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.ADMIN_USERNAME);
+  }
+
+  @Test
+  void build_getSameStructure_asSpecificationBuilder() {
+    final LocalDate date = LocalDate.of(2024, 1, 1);
+    final Specification<User> inner =
+        SpecificationBuilder.<User>builder().isNotNull(User_.PHONE).build();
+
+    final BuiltSpecification<User> persistent =
+        PersistentSpecificationBuilder.<User>builder()
+            .distinct(false)
+            .entityGraph(true)
+            .label("users")
+            .notEqual(User_.USERNAME, TestConstants.USER_1_USERNAME)
+            .min(User_.REGISTRATION_DATE, date)
+            .max(User_.REGISTRATION_DATE, date)
+            .between(User_.REGISTRATION_DATE, date, date)
+            .isNotNull(User_.PHONE)
+            .notIn(User_.PHONE, List.of(TestConstants.ADMIN_PHONE))
+            .with(b -> b.isNull(List.of(User_.POSTS, Post_.TITLE), true, this::fetch))
+            .andInner(inner)
+            .orInner(inner)
+            .inner(inner, BooleanOperator.AND)
+            .build();
+    final BuiltSpecification<User> mutable =
+        SpecificationBuilder.<User>builder()
+            .distinct(false)
+            .entityGraph(true)
+            .label("users")
+            .notEqual(User_.USERNAME, TestConstants.USER_1_USERNAME)
+            .min(User_.REGISTRATION_DATE, date)
+            .max(User_.REGISTRATION_DATE, date)
+            .between(User_.REGISTRATION_DATE, date, date)
+            .isNotNull(User_.PHONE)
+            .notIn(User_.PHONE, List.of(TestConstants.ADMIN_PHONE))
+            .isNull(List.of(User_.POSTS, Post_.TITLE), true, this::fetch)
+            .andInner(inner)
+            .orInner(inner)
+            .inner(inner, BooleanOperator.AND)
+            .build();
+
+    assertThat(persistent.getStructure()).isEqualTo(mutable.getStructure());
+    assertThat(persistent.getLabel()).isEqualTo(mutable.getLabel());
+    assertThat(persistent.getFetchPaths(entityManager, User.class))
+        .isEqualTo(mutable.getFetchPaths(entityManager, User.class));
+  }
+
+  @Test
+  void build_getNull_byEmptyBuilder() {
+    assertThat(PersistentSpecificationBuilder.<User>builder().build()).isNull();
+  }
+
+  private <P> NullSpecification.Builder<User, P> fetch(
+      final NullSpecification.Builder<User, P> builder) {
+    return builder.not().fetch();
+  }
+}
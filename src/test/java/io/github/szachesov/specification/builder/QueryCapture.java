@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import io.github.szachesov.specification.builder.testutils.JdbcRowCounter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.hibernate.stat.Statistics;
+
+/**
+ * An execution of queries recorded for regression assertions: the SQL statements captured by the
+ * {@link SpecificationStatementInspector}, the statements counted by Hibernate {@link Statistics}
+ * and the rows read over JDBC, counted by {@link JdbcRowCounter}.
+ *
+ * <p>Golden snapshots of the normalized SQL are kept in {@value #SNAPSHOTS}. A missing snapshot
+ * fails the assertion, the snapshots are written with {@code ./gradlew test -PupdateSqlSnapshots}.
+ *
+ * @param <R> the type of the result of the execution.
+ */
+final class QueryCapture<R> {
+
+  static final String SNAPSHOTS = "src/test/resources/sql";
+
+  private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Pattern JOIN = Pattern.compile("\\bjoin\\b");
+
+  private final String snapshot;
+  private final R result;
+  private final long statementCount;
+  private final long rowCount;
+  private final List<String> statements;
+
+  private QueryCapture(
+      final String snapshot, final R result, final Counts counts, final List<String> statements) {
+    this.snapshot = snapshot;
+    this.result = result;
+    this.statementCount = counts.statements();
+    this.rowCount = counts.rows();
+    this.statements = statements;
+  }
+
+  /**
+   * Executes and records queries.
+   *
+   * @param statistics statistics of the session factory, enabled by the capture.
+   * @param snapshot name of the golden snapshot, e.g. {@code TestClass/testMethod}.
+   * @param execution the execution of the queries.
+   */
+  static <R> QueryCapture<R> capture(
+      final Statistics statistics, final String snapshot, final Supplier<R> execution) {
+    statistics.setStatisticsEnabled(true);
+    final Counts before = Counts.of(statistics);
+    final long start = System.nanoTime();
+    final R result = execution.get();
+    final List<String> statements =
+        SpecificationStatementInspector.getStatements(start).stream()
+            .map(QueryCapture::normalize)
+            .toList();
+    return new QueryCapture<>(
+        snapshot, result, Counts.of(statistics).minus(before), statements);
+  }
+
+  /** Returns the SQL without comments, in lower case, with single spaces. */
+  static String normalize(final String sql) {
+    final String withoutComments = COMMENT.matcher(sql).replaceAll(" ");
+    return WHITESPACE.matcher(withoutComments).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+  }
+
+  /** Returns the result of the execution. */
+  R result() {
+    return result;
+  }
+
+  /** Asserts the number of SQL statements prepared by Hibernate. */
+  QueryCapture<R> expectStatements(final int count) {
+    assertThat(statementCount).as("statements %s", statements).isEqualTo(count);
+    assertThat(statements).hasSize(count);
+    return this;
+  }
+
+  /** Asserts the number of joins of each statement, in order. */
+  QueryCapture<R> expectJoins(final int... joins) {
+    final List<Long> actual =
+        statements.stream().map(s -> JOIN.matcher(s).results().count()).toList();
+    assertThat(actual)
+        .as("joins of %s", statements)
+        .containsExactlyElementsOf(Arrays.stream(joins).mapToObj(j -> (long) j).toList());
+    return this;
+  }
+
+  /** Asserts that the first statement, the query of the specification, is distinct. */
+  QueryCapture<R> expectDistinct() {
+    assertThat(statements).first().asString().startsWith("select distinct ");
+    return this;
+  }
+
+  /** Asserts that the first statement, the query of the specification, is not distinct. */
+  QueryCapture<R> expectNotDistinct() {
+    assertThat(statements).first().asString().doesNotStartWith("select distinct ");
+    return this;
+  }
+
+  /**
+   * Asserts the number of rows read from the JDBC result sets, e.g. each row of a fetch join, even
+   * if Hibernate deduplicates them into one entity.
+   */
+  QueryCapture<R> expectRows(final long count) {
+    assertThat(rowCount).as("rows of %s", statements).isEqualTo(count);
+    return this;
+  }
+
+  /** Asserts that the normalized statements equal the golden snapshot. */
+  QueryCapture<R> matchesSnapshot() {
+    final Path file = Path.of(SNAPSHOTS, snapshot + ".sql");
+    final String actual = String.join("\n", statements) + "\n";
+    try {
+      if (Boolean.getBoolean("sql.snapshots.update")) {
+        Files.createDirectories(Objects.requireNonNull(file.getParent()));
+        Files.writeString(file, actual, StandardCharsets.UTF_8);
+      }
+      assertThat(file).as("snapshot, write with -PupdateSqlSnapshots").exists();
+      assertThat(actual).isEqualTo(Files.readString(file, StandardCharsets.UTF_8));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return this;
+  }
+
+  /**
+   * Counters of the statistics.
+   *
+   * @param statements number of prepared JDBC statements.
+   * @param rows number of rows read from the JDBC result sets.
+   */
+  private record Counts(long statements, long rows) {
+
+    static Counts of(final Statistics statistics) {
+      return new Counts(statistics.getPrepareStatementCount(), JdbcRowCounter.getRowCount());
+    }
+
+    Counts minus(final Counts other) {
+      return new Counts(statements - other.statements, rows - other.rows);
+    }
+  }
+}
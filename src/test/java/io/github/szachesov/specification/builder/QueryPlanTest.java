@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class QueryPlanTest {
+
+  @Test
+  void of_parseSummary_byPostgresqlPlan() {
+    final List<String> lines =
+        List.of(
+            "Merge Join  (cost=10.32..22.58 rows=120 width=72)",
+            "  ->  Hash Left Join  (cost=1.09..2.19 rows=5 width=40)",
+            "        Hash Cond: (p1_0.author_id = a1_0.id)",
+            "        ->  Seq Scan on posts p1_0  (cost=0.00..1.05 rows=5 width=32)",
+            "        ->  Hash  (cost=1.04..1.04 rows=4 width=8)",
+            "              ->  Index Scan using users_pkey on users a1_0  (rows=4 width=8)",
+            "  ->  Nested Loop  (cost=0.00..2.10 rows=3 width=8)");
+
+    final QueryPlan plan = QueryPlan.of("select ...", List.of(1), lines);
+
+    assertThat(plan.fullScans()).containsExactly("posts");
+    assertThat(plan.joinMethods()).containsExactly("Merge Join", "Hash Join", "Nested Loop");
+    assertThat(plan.estimatedRows()).isEqualTo(120);
+  }
+
+  @Test
+  void of_parseSummary_byH2Plan() {
+    final List<String> lines =
+        List.of(
+            """
+            SELECT "P1_0"."ID" FROM "PUBLIC"."POSTS" "P1_0"
+                /* PUBLIC.POSTS.tableScan */
+            LEFT OUTER JOIN "PUBLIC"."USERS" "A1_0"
+                /* PUBLIC.PRIMARY_KEY_4: ID = P1_0.AUTHOR_ID */
+                ON "A1_0"."ID" = "P1_0"."AUTHOR_ID\"""");
+
+    final QueryPlan plan = QueryPlan.of("select ...", List.of(), lines);
+
+    assertThat(plan.fullScans()).containsExactly("posts");
+    assertThat(plan.joinMethods()).containsExactly("Nested Loop");
+    assertThat(plan.estimatedRows()).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import org.hibernate.JDBCException;
+import org.hibernate.Session;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RunningQueriesTest extends SpecificationBuilderTest {
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void cancel_cancelOtherStatements_byCancelFailure() {
+    final List<String> cancelled = new ArrayList<>();
+    final RunningQueries running = new RunningQueries();
+    running.add(coordinator(() -> cancelled.add("failed"), true));
+    running.add(coordinator(() -> cancelled.add("cancelled"), false));
+
+    running.cancel();
+
+    assertThat(cancelled).containsExactlyInAnyOrder("failed", "cancelled");
+    assertThrows(CancellationException.class, () -> running.add(coordinator(() -> {}, false)));
+  }
+
+  @Test
+  void run_throws_byCancelBeforeStatement() {
+    final RunningQueries running = new RunningQueries();
+
+    assertThrows(
+        CancellationException.class,
+        () ->
+            running.run(
+                entityManagerFactory,
+                e -> {
+                  running.cancel();
+                  return e.createNativeQuery("SELECT 1").getSingleResult();
+                }));
+  }
+
+  @Test
+  void run_getReadOnly_byTransaction() {
+    final Object readOnly =
+        new RunningQueries()
+            .run(
+                entityManagerFactory,
+                e -> e.createNativeQuery("SHOW transaction_read_only").getSingleResult());
+
+    assertThat(readOnly).isEqualTo("on");
+  }
+
+  @Test
+  void run_addRollbackFailure_byFailedQuery() {
+    final IllegalStateException failure =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                new RunningQueries()
+                    .run(
+                        entityManagerFactory,
+                        e -> {
+                          e.unwrap(Session.class).doWork(Connection::close);
+                          throw new IllegalStateException("Failed");
+                        }));
+
+    assertThat(failure.getSuppressed()).hasSize(1);
+  }
+
+  @Test
+  void run_throwsRollbackFailure_bySucceededQuery() {
+    final RunningQueries running = new RunningQueries();
+
+    assertThrows(
+        PersistenceException.class,
+        () ->
+            running.run(
+                entityManagerFactory,
+                e -> {
+                  e.unwrap(Session.class).doWork(Connection::close);
+                  return 1;
+                }));
+  }
+
+  private static JdbcCoordinator coordinator(final Runnable onCancel, final boolean isFailed) {
+    return (JdbcCoordinator)
+        Proxy.newProxyInstance(
+            Thread.currentThread().getContextClassLoader(),
+            new Class<?>[] {JdbcCoordinator.class},
+            (proxy, method, args) -> {
+              if ("cancelLastQuery".equals(method.getName())) {
+                onCancel.run();
+                if (isFailed) throw new JDBCException("Cancel failed", new SQLException());
+              }
+              return "hashCode".equals(method.getName()) ? System.identityHashCode(proxy) : null;
+            });
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+@ExtendWith(OutputCaptureExtension.class)
+class SlowSpecificationLoggerTest extends SpecificationBuilderTest {
+
+  private static final String MESSAGE = "Slow specification query";
+
+  private SlowSpecificationLogger logger;
+
+  @AfterEach
+  void tearDown() {
+    SpecificationObservers.unregister(logger);
+  }
+
+  @Test
+  void onQuery_logStructureAndSql_bySlowQuery(final CapturedOutput output) {
+    register(new SlowSpecificationLogger(Duration.ZERO));
+    final BuiltSpecification<User> spec = postsSpecification(TestConstants.USER_1_USERNAME);
+
+    SpecificationObservers.observeQuery(spec, () -> userRepository.findAll(spec));
+
+    assertThat(output.getOut())
+        .contains(MESSAGE + " " + spec.getShapeId())
+        .contains("1 statements, 1 binds")
+        .contains(spec.getStructure())
+        .containsIgnoringCase("from users")
+        .doesNotContain(TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void onQuery_logOncePerShape_byRepeatedQuery(final CapturedOutput output) {
+    register(new SlowSpecificationLogger(Duration.ZERO));
+    final BuiltSpecification<User> spec = postsSpecification(TestConstants.USER_1_USERNAME);
+    final BuiltSpecification<User> sameShape = postsSpecification(TestConstants.ADMIN_USERNAME);
+    final BuiltSpecification<User> otherShape =
+        SpecificationBuilder.<User>builder().equal(User_.IS_ACTIVE, true).build();
+
+    SpecificationObservers.observeQuery(spec, () -> userRepository.findAll(spec));
+    SpecificationObservers.observeQuery(sameShape, () -> userRepository.findAll(sameShape));
+    SpecificationObservers.observeQuery(otherShape, () -> userRepository.findAll(otherShape));
+
+    assertThat(output.getOut().split(MESSAGE, -1)).hasSize(3);
+  }
+
+  @Test
+  void onQuery_logAgain_byElapsedInterval(final CapturedOutput output) {
+    register(new SlowSpecificationLogger(Duration.ZERO, Duration.ZERO));
+    final BuiltSpecification<User> spec = postsSpecification(TestConstants.USER_1_USERNAME);
+
+    SpecificationObservers.observeQuery(spec, () -> userRepository.findAll(spec));
+    SpecificationObservers.observeQuery(spec, () -> userRepository.findAll(spec));
+
+    assertThat(output.getOut().split(MESSAGE, -1)).hasSize(3);
+  }
+
+  @Test
+  void onQuery_notLog_byFastQuery(final CapturedOutput output) {
+    register(new SlowSpecificationLogger(Duration.ofHours(1)));
+    final BuiltSpecification<User> spec = postsSpecification(TestConstants.USER_1_USERNAME);
+
+    SpecificationObservers.observeQuery(spec, () -> userRepository.findAll(spec));
+
+    assertThat(output.getOut()).doesNotContain(MESSAGE);
+  }
+
+  @Test
+  void onQuery_logUnknownShape_byNotCapturedSql(final CapturedOutput output) {
+    logger = new SlowSpecificationLogger(Duration.ZERO);
+
+    logger.onQuery(null, 1);
+
+    assertThat(output.getOut())
+        .contains(MESSAGE + " " + SlowSpecificationLogger.UNKNOWN_SHAPE)
+        .contains("0 statements, 0 binds")
+        .contains("<not captured>");
+  }
+
+  @Test
+  void onQuery_countOnlyBinds_byLabelWithPlaceholder(final CapturedOutput output) {
+    register(new SlowSpecificationLogger(Duration.ZERO));
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .label("search?page=1")
+            .like(User_.USERNAME, "user", b -> b.wildcard(Wildcard.ENDING))
+            .build();
+
+    SpecificationObservers.observeQuery(spec, () -> userRepository.findAll(spec));
+
+    assertThat(output.getOut()).contains("1 statements, 1 binds");
+  }
+
+  @Test
+  void countBinds_skipCommentsAndLiterals_bySql() {
+    final String sql =
+        "/* spec? */ select 'a?''b', \"c?\" from t -- d?\nwhere e = ? and f like ?";
+
+    assertThat(SlowSpecificationLogger.countBinds(List.of(sql, "select ?"))).isEqualTo(3);
+  }
+
+  @Test
+  void inspect_keepLastStatements_byManyStatements() {
+    final SpecificationStatementInspector inspector = new SpecificationStatementInspector();
+    final long start = System.nanoTime();
+
+    for (int i = 0; i <= SpecificationStatementInspector.MAX_STATEMENTS; i++) {
+      assertThat(inspector.inspect("select " + i)).isEqualTo("select " + i);
+    }
+
+    assertThat(SpecificationStatementInspector.getStatements(start))
+        .hasSize(SpecificationStatementInspector.MAX_STATEMENTS)
+        .startsWith("select 1")
+        .endsWith("select " + SpecificationStatementInspector.MAX_STATEMENTS);
+  }
+
+  private void register(final SlowSpecificationLogger slowLogger) {
+    this.logger = slowLogger;
+    SpecificationObservers.register(slowLogger);
+  }
+
+  private static BuiltSpecification<User> postsSpecification(final String username) {
+    return SpecificationBuilder.<User>builder()
+        .equal(User_.USERNAME, username)
+        .isNull(List.of(User_.POSTS, Post_.TITLE), true, CompositeSpecification.Builder::not)
+        .build();
+  }
+}
@@ -22,8 +22,14 @@ import io.github.szachesov.specification.builder.sample.repository.PostRepositor
 import io.github.szachesov.specification.builder.sample.repository.TagRepository;
 import io.github.szachesov.specification.builder.sample.repository.UserRepository;
 import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -39,6 +45,9 @@ abstract class SpecificationBuilderTest {
   @Autowired protected GroupRepository groupRepository;
   @Autowired protected UserRepository userRepository;
   @Autowired protected PostRepository postRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private String snapshot;
 
   @BeforeAll
   static void init(
@@ -52,4 +61,20 @@ abstract class SpecificationBuilderTest {
     userRepository.saveAll(TestData.USERS);
     postRepository.saveAll(TestData.POSTS);
   }
+
+  @BeforeEach
+  void setUpSnapshot(final TestInfo testInfo) {
+    snapshot =
+        getClass().getSimpleName() + "/" + testInfo.getTestMethod().orElseThrow().getName();
+  }
+
+  /**
+   * Executes and records the queries, the golden SQL snapshot is named after the test.
+   *
+   * @param execution the execution of the queries.
+   */
+  protected <R> QueryCapture<R> capture(final Supplier<R> execution) {
+    final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    return QueryCapture.capture(statistics, snapshot, execution);
+  }
 }
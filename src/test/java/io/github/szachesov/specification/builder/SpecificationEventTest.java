@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Event;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+
+class SpecificationEventTest extends SpecificationBuilderTest {
+
+  private static final List<Class<? extends Event>> EVENT_TYPES =
+      List.of(
+          SpecificationBuilderCreatedEvent.class,
+          SpecificationBuildEvent.class,
+          SpecificationPredicateEvent.class,
+          SpecificationPathEvent.class);
+  private static final String PATH_EVENT = "io.github.szachesov.specification.Path";
+  private static final String SHAPE = "posts.title = ? AND NOT posts.rating IS NULL";
+
+  @Test
+  void events_recordLifecycle_byQuery() throws InterruptedException {
+    final Map<String, List<RecordedEvent>> events = new ConcurrentHashMap<>();
+    // the first event of each type and the second path event
+    final CountDownLatch latch = new CountDownLatch(EVENT_TYPES.size() + 1);
+
+    try (RecordingStream stream = new RecordingStream()) {
+      EVENT_TYPES.forEach(stream::enable);
+      stream.onEvent(
+          e -> {
+            final String name = e.getEventType().getName();
+            final List<RecordedEvent> recorded =
+                events.computeIfAbsent(name, n -> new CopyOnWriteArrayList<>());
+            recorded.add(e);
+            if (recorded.size() == 1 || PATH_EVENT.equals(name) && recorded.size() == 2) {
+              latch.countDown();
+            }
+          });
+      stream.startAsync();
+
+      final BuiltSpecification<User> spec =
+          SpecificationBuilder.<User>builder()
+              .equal(List.of(User_.POSTS, Post_.TITLE), TestConstants.TITLE_POST_1_USER_1)
+              .isNotNull(List.of(User_.POSTS, Post_.RATING))
+              .build();
+      userRepository.findAll(spec);
+
+      assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    assertThat(events.get("io.github.szachesov.specification.BuilderCreated")).isNotEmpty();
+    assertThat(events.get("io.github.szachesov.specification.Build"))
+        .singleElement()
+        .satisfies(e -> assertThat(e.getString("shape")).isEqualTo(SHAPE))
+        .satisfies(e -> assertThat(e.getInt("predicates")).isEqualTo(2))
+        .satisfies(e -> assertThat(e.getInt("innerSpecifications")).isEqualTo(0));
+    assertThat(events.get("io.github.szachesov.specification.Predicate"))
+        .first()
+        .satisfies(e -> assertThat(e.getString("path")).isEqualTo("posts.title"))
+        .satisfies(e -> assertThat(e.getString("operator")).isEqualTo("= ?"))
+        .satisfies(e -> assertThat(e.getInt("joins")).isEqualTo(1))
+        .satisfies(e -> assertThat(e.getBoolean("fetch")).isFalse());
+    assertThat(events.get(PATH_EVENT))
+        .extracting(e -> e.getInt("hops"), e -> e.getInt("reusedJoins"))
+        .containsExactly(tuple(1, 0), tuple(1, 1));
+  }
+
+  @Test
+  void predicateEvent_recordNoJoins_byExistsSubquery() throws InterruptedException {
+    final List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    try (RecordingStream stream = new RecordingStream()) {
+      stream.enable(SpecificationPredicateEvent.class);
+      stream.onEvent(
+          e -> {
+            if (e.getString("path").isEmpty()) {
+              events.add(e);
+              latch.countDown();
+            }
+          });
+      stream.startAsync();
+
+      final BuiltSpecification<User> spec =
+          SpecificationBuilder.<User>builder()
+              .<Post>existsIn(Post.class, Post_.AUTHOR, b -> b.isNotNull(Post_.TITLE))
+              .build();
+      assertThat(userRepository.findAll(spec)).isNotEmpty();
+
+      assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    assertThat(events)
+        .first()
+        .satisfies(e -> assertThat(e.getString("operator")).startsWith("EXISTS"))
+        .satisfies(e -> assertThat(e.getInt("joins")).isZero());
+  }
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.sample.entity.Group;
+import io.github.szachesov.specification.builder.sample.entity.Group_;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class SpecificationExecutorTest extends SpecificationBuilderTest {
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private SpecificationExecutor<User> userExecutor;
+
+  @BeforeEach
+  void setUp() {
+    userExecutor = new SpecificationExecutor<>(entityManager, User.class);
+  }
+
+  @Test
+  void findAll_getPage_byFetchToMany() {
+    final Specification<User> spec = withPostsFetch();
+    final Pageable pageable = PageRequest.of(0, 1, Sort.by(User_.USERNAME));
+
+    final Page<User> page = userExecutor.findAll(spec, pageable);
+
+    assertThat(page.getTotalElements()).isEqualTo(2);
+    assertThat(page.getContent())
+        .singleElement()
+        .satisfies(u -> assertThat(u.getUsername()).isEqualTo(TestConstants.USER_1_USERNAME))
+        .satisfies(u -> assertThat(Hibernate.isInitialized(u.getPosts())).isTrue())
+        .satisfies(u -> assertThat(u.getPosts()).hasSize(2));
+  }
+
+  @Test
+  void findAll_getPageInOrder_byFetchToMany() {
+    final Specification<User> spec = withPostsFetch();
+    final Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, User_.USERNAME));
+
+    final Page<User> page = userExecutor.findAll(spec, pageable);
+
+    assertThat(page.getContent())
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_2_USERNAME, TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void findAll_getEmptyPage_byFetchToManyAndOffset() {
+    final Pageable pageable = PageRequest.of(5, 2, Sort.by(User_.USERNAME));
+
+    final Page<User> page = userExecutor.findAll(withPostsFetch(), pageable);
+
+    assertThat(page.getContent()).isEmpty();
+    assertThat(page.getTotalElements()).isEqualTo(2);
+  }
+
+  @Test
+  void findAll_getPage_withoutFetch() {
+    final SpecificationExecutor<Group> executor =
+        new SpecificationExecutor<>(entityManager, Group.class);
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder().isNotNull(Group_.NAME).build();
+
+    final Page<Group> page = executor.findAll(spec, PageRequest.of(1, 1, Sort.by(Group_.NAME)));
+
+    assertThat(page.getContent())
+        .extracting(Group::getName)
+        .containsExactly(TestConstants.USER_NAME_GROUP);
+    assertThat(page.getTotalElements()).isEqualTo(TestData.GROUPS.size());
+  }
+
+  @Test
+  void findAll_getPage_byFetchToOne() {
+    final SpecificationExecutor<Post> executor =
+        new SpecificationExecutor<>(entityManager, Post.class);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(
+                List.of(Post_.AUTHOR, User_.USERNAME),
+                TestConstants.USER_1_USERNAME,
+                CompositeSpecification.Builder::fetch)
+            .build();
+
+    final Page<Post> page = executor.findAll(spec, PageRequest.of(0, 1, Sort.by(Post_.TITLE)));
+
+    assertThat(page.getContent())
+        .singleElement()
+        .satisfies(p -> assertThat(Hibernate.isInitialized(p.getAuthor())).isTrue());
+    assertThat(page.getTotalElements()).isEqualTo(2);
+  }
+
+  @Test
+  void findAll_getAll_byUnpaged() {
+    final Page<User> page = userExecutor.findAll(null, Pageable.unpaged());
+
+    assertThat(page.getContent()).hasSize(TestData.USERS.size());
+  }
+
+  @Test
+  void count_getCount_byJoinWithoutDistinct() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(false)
+            .isNotNull(List.of(User_.POSTS, Post_.TITLE))
+            .build();
+
+    assertThat(userExecutor.count(spec)).isEqualTo(TestData.POSTS.size());
+  }
+
+  @Test
+  void findAll_getEachEntityOnce_bySortByJoinedCollection() {
+    final Sort sort = Sort.by(DbUtils.joinPath(User_.POSTS, Post_.TITLE));
+    final List<User> entities = new ArrayList<>();
+
+    for (int page = 0; page < TestData.POSTS.size(); page++) {
+      final Pageable pageable = PageRequest.of(page, 1, sort);
+      entities.addAll(userExecutor.findAll(withPostsFetch(), pageable).getContent());
+    }
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME, TestConstants.USER_2_USERNAME);
+  }
+
+  @Test
+  void countAtMost_getCount_byDistinctBelowLimit() {
+    final long start = System.nanoTime();
+
+    final long count = userExecutor.countAtMost(withPostsFetch(), 5);
+
+    assertThat(count).isEqualTo(2);
+    assertThat(SpecificationStatementInspector.getStatements(start))
+        .singleElement()
+        .satisfies(sql -> assertThat(sql).contains("select count(*) from (select distinct"))
+        .satisfies(sql -> assertThat(sql).contains("fetch first ? rows only"));
+  }
+
+  @Test
+  void countAtMost_getLimitPlusOne_byJoinWithoutDistinct() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(false)
+            .isNotNull(List.of(User_.POSTS, Post_.TITLE))
+            .build();
+
+    assertThat(userExecutor.countAtMost(spec, 2)).isEqualTo(3);
+    assertThat(userExecutor.countAtMost(null, 1)).isEqualTo(2);
+  }
+
+  @Test
+  void countAtMost_getCount_byMaxLimit() {
+    assertThat(userExecutor.countAtMost(null, Integer.MAX_VALUE))
+        .isEqualTo(userExecutor.count(null));
+  }
+
+  @Test
+  void countAtMost_throws_byNegativeLimit() {
+    assertThrows(IllegalArgumentException.class, () -> userExecutor.countAtMost(null, -1));
+  }
+
+  @Test
+  void findSlice_getSliceWithNext_withoutCount() {
+    final long start = System.nanoTime();
+
+    final Pageable pageable = PageRequest.of(0, 1, byUsername());
+
+    final Slice<User> slice =
+        inTransaction(() -> userExecutor.findSlice(withPostsFetch(), pageable));
+
+    assertThat(slice.hasNext()).isTrue();
+    assertThat(slice.getContent())
+        .singleElement()
+        .satisfies(u -> assertThat(u.getUsername()).isEqualTo(TestConstants.USER_1_USERNAME))
+        .satisfies(u -> assertThat(u.getPosts()).hasSize(2));
+    assertThat(SpecificationStatementInspector.getStatements(start))
+        .noneSatisfy(sql -> assertThat(sql).containsIgnoringCase("count("));
+  }
+
+  @Test
+  void findSlice_getLastSlice_byOffsetAndUnpaged() {
+    final Slice<User> last =
+        userExecutor.findSlice(withPostsFetch(), PageRequest.of(1, 1, byUsername()));
+    final Slice<User> all = userExecutor.findSlice(null, Pageable.unpaged());
+
+    assertThat(last.hasNext()).isFalse();
+    assertThat(last.getContent())
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_2_USERNAME);
+    assertThat(all.hasNext()).isFalse();
+    assertThat(all.getContent()).hasSize(TestData.USERS.size());
+  }
+
+  @Test
+  void exists_getTrue_withoutFetchAndDistinct() {
+    final long start = System.nanoTime();
+
+    final boolean exists = userExecutor.exists(withPostsFetch());
+
+    assertThat(exists).isTrue();
+    assertThat(SpecificationStatementInspector.getStatements(start))
+        .singleElement()
+        .satisfies(sql -> assertThat(sql).contains("*/ select 1 from users"))
+        .satisfies(sql -> assertThat(sql).contains("fetch first ? rows only"))
+        .satisfies(sql -> assertThat(sql).doesNotContain("distinct", "p1_0.title,"));
+  }
+
+  @Test
+  void exists_getFalse_byUnknownUsername() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().equal(User_.USERNAME, "unknown").build();
+
+    assertThat(userExecutor.exists(spec)).isFalse();
+    assertThat(userExecutor.exists(null)).isTrue();
+  }
+
+  @Test
+  void findTop_getFirstInOrder_byFetchToMany() {
+    final Sort sort = Sort.by(Sort.Direction.DESC, User_.USERNAME);
+
+    final List<User> entities =
+        inTransaction(() -> userExecutor.findTop(withPostsFetch(), sort, 1));
+
+    assertThat(entities)
+        .singleElement()
+        .satisfies(u -> assertThat(u.getUsername()).isEqualTo(TestConstants.USER_2_USERNAME))
+        .satisfies(u -> assertThat(Hibernate.isInitialized(u.getPosts())).isTrue());
+  }
+
+  @Test
+  void findAll_getAll_byFetchOfTwoCollections() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
+            .equal(
+                List.of(User_.GROUPS, Group_.NAME),
+                TestConstants.USER_NAME_GROUP,
+                CompositeSpecification.Builder::fetch)
+            .build();
+
+    final List<User> entities = inTransaction(() -> userExecutor.findAll(spec, byUsername()));
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME, TestConstants.USER_2_USERNAME);
+    assertThat(entities)
+        .allSatisfy(u -> assertThat(Hibernate.isInitialized(u.getPosts())).isTrue())
+        .allSatisfy(u -> assertThat(Hibernate.isInitialized(u.getGroups())).isTrue())
+        .allSatisfy(u -> assertThat(u.getGroups()).isNotEmpty());
+    assertThat(entities.get(0).getPosts()).hasSize(2);
+  }
+
+  @Test
+  void findAll_getAll_byFetchOfNestedCollection() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(
+                List.of(User_.GROUPS, Group_.NAME),
+                TestConstants.USER_NAME_GROUP,
+                CompositeSpecification.Builder::fetch)
+            .equal(
+                List.of(User_.POSTS, Post_.TAGS),
+                TestConstants.TECH_NAME_TAG,
+                CompositeSpecification.Builder::fetch)
+            .build();
+
+    final List<User> entities =
+        capture(() -> inTransaction(() -> userExecutor.findAll(spec, byUsername())))
+            .expectStatements(5)
+            .expectRows(11)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities)
+        .flatExtracting(User::getPosts)
+        .hasSize(TestData.POSTS.size())
+        .allSatisfy(p -> assertThat(Hibernate.isInitialized(p.getTags())).isTrue());
+  }
+
+  @Test
+  void findAll_getAll_byFetchOfCollectionBehindToOne() {
+    final SpecificationExecutor<Post> executor =
+        new SpecificationExecutor<>(entityManager, Post.class);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(Post_.TAGS, TestConstants.TECH_NAME_TAG, CompositeSpecification.Builder::fetch)
+            .equal(
+                List.of(Post_.AUTHOR, User_.GROUPS, Group_.NAME),
+                TestConstants.USER_NAME_GROUP,
+                CompositeSpecification.Builder::fetch)
+            .build();
+
+    final List<Post> entities = inTransaction(() -> executor.findAll(spec, Sort.unsorted()));
+
+    assertThat(entities)
+        .hasSize(2)
+        .extracting(Post::getAuthor)
+        .allSatisfy(u -> assertThat(Hibernate.isInitialized(u.getGroups())).isTrue());
+  }
+
+  @Test
+  void findAll_getPage_byFetchOfInnerCollection() {
+    final Specification<User> inner =
+        SpecificationBuilder.<User>builder()
+            .equal(
+                List.of(User_.GROUPS, Group_.NAME),
+                TestConstants.USER_NAME_GROUP,
+                CompositeSpecification.Builder::fetch)
+            .build();
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
+            .andInner(inner)
+            .andInner(Specification.unrestricted())
+            .build();
+    final Pageable pageable = PageRequest.of(0, 1, byUsername());
+
+    final Page<User> page = inTransaction(() -> userExecutor.findAll(spec, pageable));
+
+    assertThat(page.getContent())
+        .singleElement()
+        .satisfies(u -> assertThat(u.getPosts()).hasSize(2))
+        .satisfies(u -> assertThat(Hibernate.isInitialized(u.getGroups())).isTrue());
+  }
+
+  @Test
+  void findAll_commentSql_byLabel() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .label("user-search")
+            .equal(User_.IS_ACTIVE, true)
+            .build();
+    final long start = System.nanoTime();
+
+    userExecutor.findAll(spec, PageRequest.of(0, 1, byUsername()));
+
+    // The page and the count query, not the eager loads of Hibernate.
+    assertThat(SpecificationStatementInspector.getStatements(start))
+        .filteredOn(sql -> sql.contains("from users"))
+        .hasSize(2)
+        .allSatisfy(sql -> assertThat(sql).startsWith("/* user-search */"));
+  }
+
+  private <R> R inTransaction(final Supplier<R> supplier) {
+    return new TransactionTemplate(transactionManager).execute(status -> supplier.get());
+  }
+
+  private static Sort byUsername() {
+    return Sort.by(User_.USERNAME);
+  }
+
+  private static Specification<User> withPostsFetch() {
+    return SpecificationBuilder.<User>builder()
+        .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
+        .build();
+  }
+}
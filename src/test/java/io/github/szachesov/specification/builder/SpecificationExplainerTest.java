@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class SpecificationExplainerTest extends SpecificationBuilderTest {
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Test
+  void explain_getPlan_byJoin() {
+    final SpecificationExplainer<Post> explainer =
+        new SpecificationExplainer<>(entityManager, Post.class);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(List.of(Post_.AUTHOR, User_.USERNAME), TestConstants.USER_1_USERNAME)
+            .equal(Post_.TITLE, TestConstants.TITLE_POST_1_USER_1)
+            .build();
+
+    final QueryPlan plan = inTransaction(() -> explainer.explain(spec));
+
+    assertThat(plan.sql()).containsIgnoringCase("from posts").containsIgnoringCase("join users");
+    assertThat(plan.binds())
+        .containsExactly(TestConstants.USER_1_USERNAME, TestConstants.TITLE_POST_1_USER_1);
+    assertThat(plan.lines()).isNotEmpty();
+    assertThat(plan.fullScans()).isNotEmpty();
+    final String fullScan = plan.fullScans().iterator().next();
+    assertThat(plan.hasFullScan(fullScan.toUpperCase(Locale.ROOT))).isTrue();
+    assertThat(plan.joinMethods()).hasSize(1);
+    assertThat(plan.estimatedRows()).isPositive();
+    assertThat(plan.toString()).startsWith(plan.sql()).contains(plan.lines().get(0));
+  }
+
+  @Test
+  void explainAnalyze_getActualStatistics_bySpecification() {
+    final SpecificationExplainer<User> explainer =
+        new SpecificationExplainer<>(entityManager, User.class);
+
+    final QueryPlan plan = inTransaction(() -> explainer.explainAnalyze(null));
+
+    assertThat(plan.binds()).isEmpty();
+    assertThat(plan.hasFullScan("users")).isTrue();
+    assertThat(plan.joinMethods()).isEmpty();
+    assertThat(plan.lines()).anySatisfy(l -> assertThat(l).contains("actual time"));
+  }
+
+  @Test
+  void explain_notExecuteQuery_byDivisionByZeroOnRows() {
+    final SpecificationExplainer<User> explainer =
+        new SpecificationExplainer<>(entityManager, User.class);
+    final Specification<User> spec =
+        (root, query, builder) ->
+            builder.equal(
+                builder.quot(
+                    root.get(User_.id), builder.diff(root.get(User_.id), root.get(User_.id))),
+                1);
+
+    final QueryPlan plan = inTransaction(() -> explainer.explain(spec));
+
+    assertThat(plan.hasFullScan("users")).isTrue();
+  }
+
+  @Test
+  void explain_throws_byInvalidQuery() {
+    final SpecificationExplainer<Post> explainer =
+        new SpecificationExplainer<>(entityManager, Post.class);
+    final Specification<Post> spec =
+        (root, query, builder) ->
+            builder.equal(builder.function("unknown_function", Integer.class), 1);
+
+    assertThrows(PersistenceException.class, () -> inTransaction(() -> explainer.explain(spec)));
+  }
+
+  private <R> R inTransaction(final Supplier<R> supplier) {
+    return new TransactionTemplate(transactionManager).execute(status -> supplier.get());
+  }
+}
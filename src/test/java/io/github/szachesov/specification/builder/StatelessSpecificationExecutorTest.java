@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.sample.entity.Group;
+import io.github.szachesov.specification.builder.sample.entity.Group_;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class StatelessSpecificationExecutorTest extends SpecificationBuilderTest {
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private StatelessSpecificationExecutor<User> userExecutor;
+  private StatelessSpecificationExecutor<Post> postExecutor;
+
+  @BeforeEach
+  void setUp() {
+    userExecutor = new StatelessSpecificationExecutor<>(entityManagerFactory, User.class);
+    postExecutor = new StatelessSpecificationExecutor<>(entityManagerFactory, Post.class);
+  }
+
+  @Test
+  void findAll_getAll_byNullSpecification() {
+    final List<User> entities = userExecutor.findAll(null);
+
+    assertThat(entities).hasSize(TestData.USERS.size());
+  }
+
+  @Test
+  void findAll_getResult_bySpecification() {
+    final String username = TestConstants.USER_1_USERNAME;
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().equal(User_.USERNAME, username).build();
+
+    final List<User> entities = userExecutor.findAll(spec);
+
+    assertThat(entities).singleElement().extracting(User::getUsername).isEqualTo(username);
+  }
+
+  @Test
+  void findAll_getResult_byFetchToMany() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
+            .build();
+
+    final List<User> entities = userExecutor.findAll(spec);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .extracting(User::getPosts)
+        .allSatisfy(p -> assertThat(Hibernate.isInitialized(p)).isEqualTo(true));
+  }
+
+  @Test
+  void findAll_getSortedResult_byLimit() {
+    final Sort sort = Sort.by(Sort.Direction.DESC, User_.USERNAME);
+
+    final List<User> entities = userExecutor.findAll(null, sort, Limit.of(2));
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_2_USERNAME, TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void findAll_getSortedResult_byJoin() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(List.of(Post_.AUTHOR, User_.USERNAME), TestConstants.USER_1_USERNAME)
+            .build();
+    final Sort sort = Sort.by(Post_.WORD_COUNT);
+
+    final List<Post> entities = postExecutor.findAll(spec, sort);
+
+    assertThat(entities)
+        .extracting(Post::getWordCount)
+        .containsExactly(
+            TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_2_USER_1);
+  }
+
+  @Test
+  void stream_getResult_bySpecification() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().equal(User_.IS_ACTIVE, true).build();
+
+    try (Stream<User> stream = userExecutor.stream(spec, Sort.by(User_.USERNAME))) {
+      assertThat(stream.map(User::getUsername))
+          .containsExactly(TestConstants.ADMIN_USERNAME, TestConstants.USER_2_USERNAME);
+    }
+  }
+
+  @Test
+  void stream_throws_byUnknownColumn() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().equal("unknown", 1).build();
+    final Sort sort = Sort.unsorted();
+
+    assertThrows(IllegalArgumentException.class, () -> userExecutor.stream(spec, sort));
+  }
+
+  @Test
+  void findAll_getProjection_byJoinColumn() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(
+                List.of(Post_.AUTHOR, User_.USERNAME),
+                TestConstants.USER_2_USERNAME,
+                CompositeSpecification.Builder::fetch)
+            .build();
+    final List<String> columns =
+        List.of(Post_.TITLE, DbUtils.joinPath(Post_.AUTHOR, User_.REGISTRATION_DATE));
+
+    final List<PostView> views = postExecutor.findAll(spec, PostView.class, columns);
+
+    assertThat(views)
+        .containsExactly(
+            new PostView(
+                TestConstants.TITLE_POST_1_USER_2, TestConstants.USER_2_REGISTRATION_DATE));
+  }
+
+  @Test
+  void findAll_getProjection_byGroup() {
+    final StatelessSpecificationExecutor<Group> executor =
+        new StatelessSpecificationExecutor<>(entityManagerFactory, Group.class);
+
+    final List<String> names = executor.findAll(null, String.class, List.of(Group_.NAME));
+
+    assertThat(names).hasSize(TestData.GROUPS.size());
+  }
+
+  @Test
+  void findAll_commentSqlWithShape_byDefaultLabel() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder().equal(User_.USERNAME, "unknown").build();
+    final long start = System.nanoTime();
+
+    userExecutor.findAll(spec);
+
+    assertThat(spec.getLabel()).isEqualTo("spec:" + spec.getShapeId());
+    assertThat(SpecificationStatementInspector.getStatements(start))
+        .singleElement()
+        .satisfies(sql -> assertThat(sql).startsWith("/* " + spec.getLabel() + " */"));
+  }
+
+  record PostView(String title, LocalDate registrationDate) {}
+}
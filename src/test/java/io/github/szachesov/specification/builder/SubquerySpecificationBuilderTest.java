@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+class SubquerySpecificationBuilderTest extends SpecificationBuilderTest {
+
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void existsIn_getResult_byCorrelatedPost() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .existsIn(
+                Post.class,
+                Post_.AUTHOR,
+                sub -> sub.equal(Post_.TITLE, TestConstants.TITLE_POST_1_USER_2))
+            .build();
+
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities)
+        .singleElement()
+        .extracting(User::getUsername)
+        .isEqualTo(TestConstants.USER_2_USERNAME);
+    assertThat(spec.getShape())
+        .isEqualTo("EXISTS (SELECT 1 FROM Post WHERE author = root AND (title = ?))");
+  }
+
+  @Test
+  void notExistsIn_getResult_byUserWithoutPosts() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(false)
+            .notExistsIn(Post.class, Post_.AUTHOR, sub -> sub)
+            .build();
+
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectNotDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities)
+        .singleElement()
+        .extracting(User::getUsername)
+        .isEqualTo(TestConstants.ADMIN_USERNAME);
+    assertThat(spec.getShape()).isEqualTo("NOT EXISTS (SELECT 1 FROM Post WHERE author = root)");
+  }
+
+  @Test
+  void inSubquery_getResult_bySubqueryOfJoin() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.IS_ACTIVE, true)
+            .inSubquery(
+                User_.ID,
+                Post.class,
+                DbUtils.joinPath(Post_.AUTHOR, User_.ID),
+                sub -> sub.min(Post_.WORD_COUNT, TestConstants.WORD_COUNT_POST_1_USER_2))
+            .build();
+
+    final List<User> entities =
+        capture(() -> userRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities)
+        .singleElement()
+        .extracting(User::getUsername)
+        .isEqualTo(TestConstants.USER_2_USERNAME);
+    assertThat(spec.getShape())
+        .isEqualTo("isActive = ? AND id IN (SELECT author.id FROM Post WHERE wordCount >= ?)");
+  }
+
+  @Test
+  void inSubquery_getResult_byCollectionOfSubqueryWithFetch() {
+    final BuiltSpecification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .inSubquery(
+                Post_.ID,
+                User.class,
+                DbUtils.joinPath(User_.POSTS, Post_.ID),
+                sub ->
+                    sub.equal(User_.IS_ACTIVE, true)
+                        .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch()))
+            .build();
+
+    final List<Post> entities =
+        capture(() -> postRepository.findAll(spec))
+            .expectStatements(1)
+            .expectJoins(1)
+            .expectDistinct()
+            .expectRows(1)
+            .matchesSnapshot()
+            .result();
+
+    assertThat(entities)
+        .singleElement()
+        .extracting(Post::getTitle)
+        .isEqualTo(TestConstants.TITLE_POST_1_USER_2);
+    assertThat(spec.getFetchPaths(entityManager, Post.class)).isEmpty();
+  }
+
+  @Test
+  void inSubquery_getAll_byEmptySubquery() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .inSubquery(User_.ID, User.class, User_.ID, sub -> sub)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities).hasSize(3);
+    assertThat(spec.getShape()).isEqualTo("id IN (SELECT id FROM User)");
+  }
+
+  @Test
+  void existsIn_throws_byNestedSubquery() {
+    final BuiltSpecification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .existsIn(
+                Post.class,
+                Post_.AUTHOR,
+                sub -> sub.existsIn(User.class, User_.POSTS, nested -> nested))
+            .build();
+
+    assertThrows(
+        InvalidDataAccessApiUsageException.class, () -> userRepository.findAll(spec));
+  }
+}
@@ -18,11 +18,27 @@
 package io.github.szachesov.specification.builder;
 
 import com.cosium.spring.data.jpa.entity.graph.repository.support.EntityGraphJpaRepositoryFactoryBean;
+import io.github.szachesov.specification.builder.testutils.JdbcRowCounter;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @EnableJpaRepositories(repositoryFactoryBeanClass = EntityGraphJpaRepositoryFactoryBean.class)
 @EnableAutoConfiguration
 @SpringBootConfiguration
-public class TestConfiguration {}
+public class TestConfiguration {
+
+  /** Counts the rows read over JDBC, see {@link QueryCapture#expectRows(long)}. */
+  @Bean
+  static BeanPostProcessor jdbcRowCounter() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        return bean instanceof DataSource dataSource ? JdbcRowCounter.wrap(dataSource) : bean;
+      }
+    };
+  }
+}
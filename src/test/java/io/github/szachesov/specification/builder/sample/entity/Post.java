@@ -22,12 +22,18 @@ import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -44,7 +50,9 @@ import lombok.experimental.SuperBuilder;
 @Setter
 @Getter
 @Entity
-@Table(name = "posts")
+@Table(
+    name = "posts",
+    indexes = @Index(name = "idx_posts_word_count", columnList = "word_count, created_at DESC"))
 public class Post extends BaseEntity {
 
   private String title;
@@ -70,4 +78,19 @@ public class Post extends BaseEntity {
   @ToString.Exclude
   @Builder.Default
   private Set<String> tags = new HashSet<>();
+
+  @ElementCollection(fetch = FetchType.LAZY)
+  @CollectionTable(name = "post_links", joinColumns = @JoinColumn(name = "post_id"))
+  @Column(name = "url")
+  @ToString.Exclude
+  @Builder.Default
+  private Collection<String> links = new ArrayList<>();
+
+  @ElementCollection(fetch = FetchType.LAZY)
+  @CollectionTable(name = "post_metadata", joinColumns = @JoinColumn(name = "post_id"))
+  @MapKeyColumn(name = "meta_key")
+  @Column(name = "meta_value")
+  @ToString.Exclude
+  @Builder.Default
+  private Map<String, String> metadata = new HashMap<>();
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.testutils;
+
+import io.github.szachesov.specification.builder.sample.entity.Comment;
+import io.github.szachesov.specification.builder.sample.entity.Group;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Profile;
+import io.github.szachesov.specification.builder.sample.entity.Tag;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import lombok.experimental.UtilityClass;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+/** In-memory H2 database with the sample model for offline tests. */
+@UtilityClass
+public class H2Database {
+
+  public static SessionFactory create(final String name) {
+    return new Configuration()
+        .addAnnotatedClass(User.class)
+        .addAnnotatedClass(Profile.class)
+        .addAnnotatedClass(Post.class)
+        .addAnnotatedClass(Comment.class)
+        .addAnnotatedClass(Group.class)
+        .addAnnotatedClass(Tag.class)
+        .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + name)
+        .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+        .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+        .buildSessionFactory();
+  }
+}
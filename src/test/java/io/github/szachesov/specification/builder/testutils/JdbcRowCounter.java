@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.testutils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+
+/**
+ * Counts the rows read from the JDBC result sets of a data source, e.g. the rows of a fetch join
+ * that Hibernate deduplicates into one entity.
+ */
+public final class JdbcRowCounter implements InvocationHandler {
+
+  private static final LongAdder ROWS = new LongAdder();
+
+  private final Object target;
+
+  private JdbcRowCounter(final Object target) {
+    this.target = target;
+  }
+
+  /** Returns the data source counting the rows of its connections. */
+  public static DataSource wrap(final DataSource dataSource) {
+    return proxy(DataSource.class, dataSource);
+  }
+
+  /** Returns the number of the rows read since the start of the JVM. */
+  public static long getRowCount() {
+    return ROWS.sum();
+  }
+
+  @Override
+  public Object invoke(final Object proxy, final Method method, final Object[] args)
+      throws Throwable {
+    final Object result;
+    try {
+      result = method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+    if (target instanceof ResultSet && "next".equals(method.getName()) && (Boolean) result) {
+      ROWS.increment();
+    }
+    return wrapResult(method.getReturnType(), result);
+  }
+
+  private static Object wrapResult(final Class<?> type, final Object result) {
+    if (!type.isInterface()) {
+      return result;
+    }
+    // Hibernate casts the statement of the generated keys to the prepared statement.
+    if (result instanceof PreparedStatement) {
+      return result instanceof CallableStatement
+          ? proxy(CallableStatement.class, result)
+          : proxy(PreparedStatement.class, result);
+    }
+    if (result instanceof Connection
+        || result instanceof Statement
+        || result instanceof ResultSet) {
+      return proxy(type, result);
+    }
+    return result;
+  }
+
+  private static <P> P proxy(final Class<P> type, final Object target) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            Thread.currentThread().getContextClassLoader(),
+            new Class<?>[] {type},
+            new JdbcRowCounter(target)));
+  }
+}
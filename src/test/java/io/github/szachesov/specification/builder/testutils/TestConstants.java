@@ -44,6 +44,8 @@ public class TestConstants {
   public static final LocalDateTime CREATE_AT_POST_1_USER_1 =
       LocalDateTime.of(2025, 10, 25, 9, 11, 13);
   public static final Integer WORD_COUNT_POST_1_USER_1 = 23;
+  public static final String LINK_POST_1_USER_1 = "https://example.com/posts/1";
+  public static final String LANGUAGE_POST_1_USER_1 = "ru";
 
   public static final String TITLE_POST_2_USER_1 = "Супер пост 4!";
   public static final String CONTENT_POST_2_USER_1 =
@@ -64,4 +66,6 @@ public class TestConstants {
   public static final String TECH_NAME_TAG = "Tech";
   public static final String PROGRAMMING_NAME_TAG = "Programming";
   public static final String AI_NAME_TAG = "AI";
+
+  public static final String LANGUAGE_METADATA_KEY = "language";
 }
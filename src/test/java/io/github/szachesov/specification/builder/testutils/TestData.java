@@ -24,6 +24,7 @@ import io.github.szachesov.specification.builder.sample.entity.Tag;
 import io.github.szachesov.specification.builder.sample.entity.User;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.experimental.UtilityClass;
 
@@ -78,6 +79,10 @@ public class TestData {
           .wordCount(TestConstants.WORD_COUNT_POST_1_USER_1)
           .author(USER_1)
           .tags(Set.of(AI_TAG.getName(), TECH_TAG.getName()))
+          .links(List.of(TestConstants.LINK_POST_1_USER_1))
+          .metadata(
+              Map.of(
+                  TestConstants.LANGUAGE_METADATA_KEY, TestConstants.LANGUAGE_POST_1_USER_1))
           .build();
 
   public static final Post POST_2_USER_1 =
@@ -0,0 +1 @@
+select a1_0.username,count(distinct p1_0.id),avg(p1_0.rating) from posts p1_0 left join users a1_0 on a1_0.id=p1_0.author_id group by 1 having count(distinct p1_0.id)>=? and count(distinct p1_0.id)<? and avg(p1_0.rating)>=? and avg(p1_0.rating)<=? and a1_0.username in (?)
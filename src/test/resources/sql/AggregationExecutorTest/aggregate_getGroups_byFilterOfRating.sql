@@ -0,0 +1 @@
+select a1_0.username,count(p1_0.id),sum(p1_0.word_count),max(p1_0.word_count),min(p1_0.title) from posts p1_0 left join users a1_0 on a1_0.id=p1_0.author_id where p1_0.rating>=? group by 1
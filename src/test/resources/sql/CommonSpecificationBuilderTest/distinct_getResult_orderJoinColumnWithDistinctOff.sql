@@ -0,0 +1 @@
+select u1_0.id,u1_0.is_active,u1_0.phone,p2_0.id,p2_0.bio,u1_0.registration_date,u1_0.username from users u1_0 left join posts p1_0 on u1_0.id=p1_0.author_id left join profiles p2_0 on u1_0.id=p2_0.user_id where p1_0.title is not null order by p1_0.title
@@ -0,0 +1 @@
+select distinct u1_0.id,u1_0.is_active,u1_0.phone,p1_0.author_id,p1_0.id,p1_0.content,p1_0.created_at,p1_0.rating,p1_0.title,p1_0.word_count,p2_0.id,p2_0.bio,u1_0.registration_date,u1_0.username from users u1_0 left join posts p1_0 on u1_0.id=p1_0.author_id left join profiles p2_0 on u1_0.id=p2_0.user_id where u1_0.username=? and u1_0.phone=?
@@ -0,0 +1 @@
+select distinct p1_0.id,p1_0.author_id,p1_0.content,p1_0.created_at,p1_0.rating,t2_0.post_id,t2_0.tag,p1_0.title,p1_0.word_count from posts p1_0 join post_tags t1_0 on p1_0.id=t1_0.post_id left join post_tags t2_0 on p1_0.id=t2_0.post_id where t1_0.tag=?
@@ -0,0 +1 @@
+select distinct p1_0.id,a1_0.id,a1_0.is_active,a1_0.phone,p2_0.id,p2_0.bio,a1_0.registration_date,a1_0.username,p1_0.content,p1_0.created_at,p1_0.rating,p1_0.title,p1_0.word_count from posts p1_0 join users a1_0 on a1_0.id=p1_0.author_id left join profiles p2_0 on a1_0.id=p2_0.user_id where a1_0.phone=?
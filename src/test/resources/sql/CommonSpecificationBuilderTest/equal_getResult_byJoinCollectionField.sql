@@ -0,0 +1 @@
+select distinct u1_0.id,u1_0.is_active,u1_0.phone,p2_0.author_id,p2_0.id,p2_0.content,p2_0.created_at,p2_0.rating,t2_0.post_id,t2_0.tag,p2_0.title,p2_0.word_count,p3_0.id,p3_0.bio,u1_0.registration_date,u1_0.username from users u1_0 join posts p1_0 on u1_0.id=p1_0.author_id join post_tags t1_0 on p1_0.id=t1_0.post_id left join posts p2_0 on u1_0.id=p2_0.author_id left join post_tags t2_0 on p2_0.id=t2_0.post_id left join profiles p3_0 on u1_0.id=p3_0.user_id where t1_0.tag=?
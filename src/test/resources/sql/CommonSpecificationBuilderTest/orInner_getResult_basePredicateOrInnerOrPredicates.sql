@@ -0,0 +1 @@
+select distinct u1_0.id,u1_0.is_active,u1_0.phone,p2_0.author_id,p2_0.id,p2_0.content,p2_0.created_at,p2_0.rating,p2_0.title,p2_0.word_count,p3_0.id,p3_0.bio,u1_0.registration_date,u1_0.username from users u1_0 left join posts p1_0 on u1_0.id=p1_0.author_id left join posts p2_0 on u1_0.id=p2_0.author_id left join profiles p3_0 on u1_0.id=p3_0.user_id where p1_0.id is not null or u1_0.username=? and u1_0.phone=?
@@ -0,0 +1 @@
+select distinct p1_0.id,p1_0.author_id,p1_0.content,p1_0.created_at,p1_0.rating,p1_0.title,p1_0.word_count from posts p1_0 where p1_0.word_count<?
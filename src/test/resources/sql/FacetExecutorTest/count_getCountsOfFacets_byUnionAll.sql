@@ -0,0 +1 @@
+select 0,u1_0.is_active,null,count(distinct u1_0.id) from users u1_0 group by 2 union all select 1,null,g1_1.name,count(distinct u2_0.id) from users u2_0 left join user_group g1_0 on u2_0.id=g1_0.user_id left join groups g1_1 on g1_1.id=g1_0.group_id group by 3
@@ -0,0 +1 @@
+select distinct u1_0.id,u1_0.is_active,u1_0.phone,p1_0.id,p1_0.bio,u1_0.registration_date,u1_0.username from users u1_0 left join profiles p1_0 on u1_0.id=p1_0.user_id where not exists(select 1 from user_group g1_0 join groups g1_1 on g1_1.id=g1_0.group_id where g1_1.name in (?) and u1_0.id=g1_0.user_id)
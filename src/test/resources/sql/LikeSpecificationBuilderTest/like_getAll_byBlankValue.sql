@@ -0,0 +1 @@
+select g1_0.id,g1_0.name from groups g1_0
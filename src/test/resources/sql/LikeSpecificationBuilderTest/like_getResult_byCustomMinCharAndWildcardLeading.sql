@@ -0,0 +1 @@
+select distinct g1_0.id,g1_0.name from groups g1_0 where upper(g1_0.name) like ? escape ''
@@ -0,0 +1,5 @@
+select distinct u1_0.id,g1_0.user_id,g1_1.id,g1_1.name,u1_0.is_active,u1_0.phone,u1_0.registration_date,u1_0.username from users u1_0 join user_group g1_0 on u1_0.id=g1_0.user_id join groups g1_1 on g1_1.id=g1_0.group_id join posts p1_0 on u1_0.id=p1_0.author_id join post_tags t1_0 on p1_0.id=t1_0.post_id where g1_1.name=? and t1_0.tag=? order by u1_0.username
+select p1_0.id,p1_0.bio,u1_0.id,u1_0.is_active,u1_0.phone,u1_0.registration_date,u1_0.username from profiles p1_0 left join users u1_0 on u1_0.id=p1_0.user_id where p1_0.user_id=?
+select p1_0.id,p1_0.bio,u1_0.id,u1_0.is_active,u1_0.phone,u1_0.registration_date,u1_0.username from profiles p1_0 left join users u1_0 on u1_0.id=p1_0.user_id where p1_0.user_id=?
+select u1_0.id,u1_0.is_active,u1_0.phone,p1_0.author_id,p1_0.id,p1_0.content,p1_0.created_at,p1_0.rating,p1_0.title,p1_0.word_count,u1_0.registration_date,u1_0.username from users u1_0 left join posts p1_0 on u1_0.id=p1_0.author_id where u1_0.id in (?,?)
+select p1_0.id,p1_0.author_id,p1_0.content,p1_0.created_at,p1_0.rating,t1_0.post_id,t1_0.tag,p1_0.title,p1_0.word_count from posts p1_0 left join post_tags t1_0 on p1_0.id=t1_0.post_id where p1_0.id in ((select p2_0.id from users u1_0 join posts p2_0 on u1_0.id=p2_0.author_id where u1_0.id in (?,?)))